@@ -0,0 +1,53 @@
+package com.github.dreamhead.moco.benchmark;
+
+import com.github.dreamhead.moco.parser.model.SessionSetting;
+import com.github.dreamhead.moco.util.Jsons;
+import com.google.common.collect.ImmutableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigParseBenchmark {
+    @Param({"10", "1000"})
+    private int sessionCount;
+
+    private String config;
+
+    @Setup
+    public void setUp() {
+        config = IntStream.range(0, sessionCount)
+                .mapToObj(ConfigParseBenchmark::session)
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static String session(final int position) {
+        return "{\"request\":{\"method\":\"post\",\"uri\":\"/resources/" + position + "\","
+                + "\"headers\":{\"content-type\":\"application/json\"},"
+                + "\"json\":{\"id\":" + position + ",\"name\":\"moco\"}},"
+                + "\"response\":{\"status\":200,\"headers\":{\"X-Id\":\"" + position + "\"},"
+                + "\"json\":{\"id\":" + position + ",\"tags\":[\"mock\",\"http\"]}}}";
+    }
+
+    @Benchmark
+    public ImmutableList<SessionSetting> parse() {
+        return Jsons.toObjects(config, SessionSetting.class);
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.dreamhead.moco.benchmark;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
+import com.github.dreamhead.moco.model.DefaultMutableHttpResponse;
+import com.github.dreamhead.moco.model.MessageContent;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversionBenchmark {
+    private static final byte[] CONTENT = "{\"name\":\"moco\",\"tags\":[\"mock\",\"http\"]}".getBytes(UTF_8);
+
+    private FullHttpRequest fullRequest;
+    private HttpRequest request;
+
+    @Setup
+    public void setUp() {
+        fullRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST,
+                "/resources/12306?id=1&name=moco", Unpooled.wrappedBuffer(CONTENT));
+        fullRequest.headers()
+                .set(HttpHeaderNames.HOST, "localhost")
+                .set(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                .set(HttpHeaderNames.CONTENT_LENGTH, CONTENT.length);
+        request = DefaultHttpRequest.newRequest(fullRequest, "127.0.0.1");
+    }
+
+    @TearDown
+    public void tearDown() {
+        fullRequest.release();
+    }
+
+    @Benchmark
+    public HttpRequest newRequest() {
+        ByteBuf content = fullRequest.content();
+        content.markReaderIndex();
+        try {
+            return DefaultHttpRequest.newRequest(fullRequest, "127.0.0.1");
+        } finally {
+            content.resetReaderIndex();
+        }
+    }
+
+    @Benchmark
+    public int toFullResponse() {
+        DefaultMutableHttpResponse response = DefaultMutableHttpResponse.newResponse(request, 200);
+        response.addHeader("Content-Type", "application/json");
+        response.setContent(MessageContent.content().withContent(CONTENT).build());
+        FullHttpResponse fullResponse = response.toFullResponse();
+        try {
+            return fullResponse.content().readableBytes();
+        } finally {
+            fullResponse.release();
+        }
+    }
+}
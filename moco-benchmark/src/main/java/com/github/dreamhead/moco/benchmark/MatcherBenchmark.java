@@ -0,0 +1,70 @@
+package com.github.dreamhead.moco.benchmark;
+
+import com.github.dreamhead.moco.HttpMethod;
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.dreamhead.moco.Moco.by;
+import static com.github.dreamhead.moco.Moco.json;
+import static com.github.dreamhead.moco.Moco.match;
+import static com.github.dreamhead.moco.Moco.uri;
+import static com.github.dreamhead.moco.Moco.xml;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatcherBenchmark {
+    private static final String JSON = "{\"name\":\"moco\",\"tags\":[\"mock\",\"http\"],\"owner\":{\"id\":1}}";
+    private static final String XML = "<request><name>moco</name><tags><tag>mock</tag><tag>http</tag></tags></request>";
+
+    private RequestMatcher jsonMatcher;
+    private RequestMatcher xmlMatcher;
+    private RequestMatcher regexMatcher;
+
+    @Setup
+    public void setUp() {
+        jsonMatcher = by(json(JSON));
+        xmlMatcher = by(xml(XML));
+        regexMatcher = match(uri("/resources/\\d+/items"));
+    }
+
+    // Requests are created on every invocation, so that results cached on a request are not reused.
+    private static HttpRequest request(final String content) {
+        return DefaultHttpRequest.builder()
+                .withMethod(HttpMethod.POST)
+                .withUri("/resources/12306/items")
+                .withStringContent(content)
+                .build();
+    }
+
+    @Benchmark
+    public boolean matchJson() {
+        return jsonMatcher.match(request(JSON));
+    }
+
+    @Benchmark
+    public boolean matchXml() {
+        return xmlMatcher.match(request(XML));
+    }
+
+    @Benchmark
+    public boolean matchRegex() {
+        return regexMatcher.match(request(""));
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.dreamhead.moco.benchmark;
+
+import com.github.dreamhead.moco.HttpMethod;
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.HttpResponseSetting;
+import com.github.dreamhead.moco.Response;
+import com.github.dreamhead.moco.internal.ActualHttpServer;
+import com.github.dreamhead.moco.internal.SessionContext;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
+import com.github.dreamhead.moco.setting.Setting;
+import com.google.common.collect.ImmutableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.dreamhead.moco.Moco.by;
+import static com.github.dreamhead.moco.Moco.httpServer;
+import static com.github.dreamhead.moco.Moco.uri;
+import static com.github.dreamhead.moco.model.DefaultMutableHttpResponse.newResponse;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponserBenchmark {
+    @Param({"10", "1000", "10000"})
+    private int settingCount;
+
+    private ActualHttpServer server;
+    private ImmutableList<Setting<HttpResponseSetting>> settings;
+    private HttpRequest firstRequest;
+    private HttpRequest lastRequest;
+    private HttpRequest missedRequest;
+
+    @Setup
+    public void setUp() {
+        server = (ActualHttpServer) httpServer();
+        for (int i = 0; i < settingCount; i++) {
+            server.post(by(uri(uriOf(i)))).response("foo");
+        }
+        server.freeze();
+        settings = server.getSettings();
+
+        firstRequest = request(uriOf(0));
+        lastRequest = request(uriOf(settingCount - 1));
+        missedRequest = request("/unknown");
+    }
+
+    private static HttpRequest request(final String uri) {
+        return DefaultHttpRequest.builder()
+                .withMethod(HttpMethod.POST)
+                .withUri(uri)
+                .build();
+    }
+
+    private static String uriOf(final int position) {
+        return "/resources/" + position;
+    }
+
+    @Benchmark
+    public Optional<Response> first() {
+        return server.getResponse(new SessionContext(firstRequest, newResponse(firstRequest, 200)));
+    }
+
+    @Benchmark
+    public Optional<Response> last() {
+        return server.getResponse(new SessionContext(lastRequest, newResponse(lastRequest, 200)));
+    }
+
+    @Benchmark
+    public Optional<Setting<HttpResponseSetting>> scan() {
+        return settings.stream()
+                .filter(setting -> setting.match(lastRequest))
+                .findFirst();
+    }
+
+    @Benchmark
+    public Optional<Response> missed() {
+        return server.getResponse(new SessionContext(missedRequest, newResponse(missedRequest, 200)));
+    }
+}
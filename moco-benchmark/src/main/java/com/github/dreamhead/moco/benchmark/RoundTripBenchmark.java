@@ -0,0 +1,124 @@
+package com.github.dreamhead.moco.benchmark;
+
+import com.github.dreamhead.moco.internal.ActualHttpServer;
+import com.github.dreamhead.moco.internal.MocoHandler;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.util.ReferenceCountUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.dreamhead.moco.Moco.by;
+import static com.github.dreamhead.moco.Moco.httpServer;
+import static com.github.dreamhead.moco.Moco.json;
+import static com.github.dreamhead.moco.Moco.uri;
+import static com.github.dreamhead.moco.Moco.with;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoundTripBenchmark {
+    private static final int MAX_CONTENT_LENGTH = 1024 * 1024;
+    private static final String GET = "GET /text HTTP/1.1\r\nHost: localhost\r\n\r\n";
+    private static final String BODY = "{\"name\":\"moco\"}";
+    private static final String POST = "POST /json HTTP/1.1\r\nHost: localhost\r\n"
+            + "Content-Type: application/json\r\nContent-Length: " + BODY.length() + "\r\n\r\n" + BODY;
+
+    private EmbeddedChannel channel;
+    private ByteBuf getRequest;
+    private ByteBuf postRequest;
+
+    @Setup
+    public void setUp() {
+        ActualHttpServer server = (ActualHttpServer) httpServer();
+        server.get(by(uri("/text"))).response("foo");
+        server.post(by(json(BODY))).response(json(new Item("moco", 12306)));
+        server.freeze();
+
+        channel = new InetEmbeddedChannel();
+        channel.pipeline().addLast(new HttpServerCodec(),
+                new HttpObjectAggregator(MAX_CONTENT_LENGTH),
+                new MocoHandler(server));
+        getRequest = Unpooled.unreleasableBuffer(Unpooled.copiedBuffer(GET, US_ASCII));
+        postRequest = Unpooled.unreleasableBuffer(Unpooled.copiedBuffer(POST, US_ASCII));
+    }
+
+    @TearDown
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    public int get() {
+        return roundTrip(getRequest);
+    }
+
+    @Benchmark
+    public int post() {
+        return roundTrip(postRequest);
+    }
+
+    private int roundTrip(final ByteBuf request) {
+        channel.writeInbound(request.duplicate());
+        channel.runPendingTasks();
+
+        int written = 0;
+        Object message;
+        while ((message = channel.readOutbound()) != null) {
+            if (message instanceof ByteBuf) {
+                written += ((ByteBuf) message).readableBytes();
+            }
+            ReferenceCountUtil.release(message);
+        }
+
+        return written;
+    }
+
+    public static final class Item {
+        private final String name;
+        private final int id;
+
+        public Item(final String name, final int id) {
+            this.name = name;
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getId() {
+            return id;
+        }
+    }
+
+    private static final class InetEmbeddedChannel extends EmbeddedChannel {
+        private final SocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), 12306);
+
+        @Override
+        protected SocketAddress remoteAddress0() {
+            return address;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.dreamhead.moco.benchmark;
+
+import com.github.dreamhead.moco.HttpMethod;
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
+import com.github.dreamhead.moco.model.MessageContent;
+import com.github.dreamhead.moco.resource.Resource;
+import com.google.common.collect.ImmutableMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.dreamhead.moco.Moco.template;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateBenchmark {
+    private Resource plain;
+    private Resource request;
+    private Resource json;
+    private HttpRequest httpRequest;
+
+    @Setup
+    public void setUp() {
+        plain = template("hello moco");
+        request = template("${req.method} ${req.uri} ${req.headers['X-Token']} ${req.queries['id']}");
+        json = template("${req.json.name} has ${req.json.tags?size} tags");
+        httpRequest = DefaultHttpRequest.builder()
+                .withMethod(HttpMethod.POST)
+                .withUri("/template")
+                .withHeaders(ImmutableMap.of("X-Token", "12306"))
+                .withQueries(ImmutableMap.of("id", new String[]{"1"}))
+                .withStringContent("{\"name\":\"moco\",\"tags\":[\"mock\",\"http\"]}")
+                .build();
+    }
+
+    @Benchmark
+    public MessageContent plain() {
+        return plain.readFor(httpRequest);
+    }
+
+    @Benchmark
+    public MessageContent request() {
+        return request.readFor(httpRequest);
+    }
+
+    @Benchmark
+    public MessageContent json() {
+        return json.readFor(httpRequest);
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.dreamhead.moco;
+
+import com.github.dreamhead.moco.server.ServerResources;
+import com.github.dreamhead.moco.util.MocoExecutors;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.RejectedExecutionHandlers;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+public final class ExecutionPolicy {
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+    private static final String VIRTUAL_EXECUTOR = "newVirtualThreadPerTaskExecutor";
+    private static final ExecutionPolicy INLINE = new ExecutionPolicy(null, false);
+    private static final ExecutionPolicy VIRTUAL = hasVirtualThreads()
+            ? new ExecutionPolicy(ExecutionPolicy::virtualExecutor, true)
+            : new ExecutionPolicy(MocoExecutors::handler, false);
+
+    private final Supplier<ExecutorService> factory;
+    private final boolean owned;
+    private volatile ExecutorService executor;
+
+    private ExecutionPolicy(final Supplier<ExecutorService> factory, final boolean owned) {
+        this.factory = factory;
+        this.owned = owned;
+    }
+
+    public boolean isInline() {
+        return factory == null;
+    }
+
+    public void execute(final java.lang.Runnable task) {
+        if (factory == null) {
+            task.run();
+            return;
+        }
+
+        executor().execute(task);
+    }
+
+    private ExecutorService executor() {
+        if (!owned) {
+            return factory.get();
+        }
+
+        ExecutorService current = this.executor;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (this.executor == null) {
+                ExecutorService created = factory.get();
+                this.executor = created;
+                ServerResources.register(() -> shutdown(created));
+            }
+
+            return this.executor;
+        }
+    }
+
+    private void shutdown(final ExecutorService target) {
+        synchronized (this) {
+            if (this.executor == target) {
+                this.executor = null;
+            }
+        }
+
+        if (target instanceof EventExecutorGroup) {
+            ((EventExecutorGroup) target).shutdownGracefully(0, SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return;
+        }
+
+        target.shutdown();
+    }
+
+    private static boolean hasVirtualThreads() {
+        try {
+            Executors.class.getMethod(VIRTUAL_EXECUTOR);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static ExecutorService virtualExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod(VIRTUAL_EXECUTOR).invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new MocoException(e);
+        }
+    }
+
+    public static ExecutionPolicy inline() {
+        return INLINE;
+    }
+
+    public static ExecutionPolicy pool(final int threads, final int queueLimit) {
+        checkArgument(threads > 0, "Threads must be greater than zero");
+        checkArgument(queueLimit > 0, "Queue limit must be greater than zero");
+        return new ExecutionPolicy(() -> new DefaultEventExecutorGroup(threads,
+                new DefaultThreadFactory("moco-handler", true), queueLimit, RejectedExecutionHandlers.reject()), true);
+    }
+
+    public static ExecutionPolicy virtual() {
+        return VIRTUAL;
+    }
+}
@@ -1,6 +1,7 @@
 package com.github.dreamhead.moco;
 
 import com.github.dreamhead.moco.handler.failover.Failover;
+import com.github.dreamhead.moco.handler.proxy.ProxyClientConfig;
 import com.github.dreamhead.moco.handler.proxy.ProxyConfig;
 import com.github.dreamhead.moco.mount.MountPredicate;
 import com.github.dreamhead.moco.mount.MountTo;
@@ -20,5 +21,13 @@ public interface HttpServer extends HttpResponseSetting, Server<HttpResponseSett
 
     HttpResponseSetting proxy(ProxyConfig proxyConfig, Failover failover);
 
+    default void streamProxy(final ProxyConfig proxyConfig) {
+        streamProxy(proxyConfig, ProxyClientConfig.DEFAULT_CONFIG);
+    }
+
+    default void streamProxy(final ProxyConfig proxyConfig, final ProxyClientConfig clientConfig) {
+        throw new UnsupportedOperationException("Streaming proxy is not supported by " + getClass().getName());
+    }
+
     WebSocketServer websocket(String uri);
 }
@@ -2,36 +2,66 @@ package com.github.dreamhead.moco;
 
 import com.github.dreamhead.moco.model.MessageContent;
 import com.github.dreamhead.moco.resource.ContentResource;
+import com.github.dreamhead.moco.util.Suppliers;
 import com.google.common.io.Closeables;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.SupportedCipherSuiteFilter;
 
 import javax.net.ssl.KeyManagerFactory;
-import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLSessionContext;
 import java.io.InputStream;
 import java.security.KeyStore;
+import java.security.SecureRandom;
 import java.security.Security;
+import java.util.function.Supplier;
 
 import static com.github.dreamhead.moco.util.Preconditions.checkNotNullOrEmpty;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 public final class HttpsCertificate {
-    private static final String PROTOCOL = "TLS";
     private static final String DEFAULT_ALGORITHM = "SunX509";
     private final ContentResource resource;
     private final String keyStorePassword;
     private final String certPassword;
+    private final TlsSessionConfig sessionConfig;
+    private final Supplier<SslContext> sslContext = Suppliers.memoize(() -> createServerContext(false));
+    private final Supplier<SslContext> http2SslContext = Suppliers.memoize(() -> createServerContext(true));
 
-    private HttpsCertificate(final ContentResource resource, final String keyStorePassword, final String certPassword) {
+    private HttpsCertificate(final ContentResource resource, final String keyStorePassword,
+                             final String certPassword, final TlsSessionConfig sessionConfig) {
         this.resource = resource;
         this.keyStorePassword = keyStorePassword;
         this.certPassword = certPassword;
+        this.sessionConfig = sessionConfig;
     }
 
+    /**
+     * @deprecated use {@link #getSslContext()}; engines from an OpenSSL context must be released by the caller.
+     */
+    @Deprecated
     public SSLEngine createSSLEngine() {
-        return createServerContext().createSSLEngine();
+        return getSslContext().newEngine(ByteBufAllocator.DEFAULT);
     }
 
-    private SSLContext createServerContext() {
+    public SslContext getSslContext() {
+        return sslContext.get();
+    }
+
+    public SslContext getHttp2SslContext() {
+        return http2SslContext.get();
+    }
+
+    private SslContext createServerContext(final boolean http2) {
         InputStream is = this.getKeyStore();
         try {
             KeyStore keyStore = KeyStore.getInstance("JKS");
@@ -39,9 +69,22 @@ public final class HttpsCertificate {
             KeyManagerFactory factory = KeyManagerFactory.getInstance(getAlgorithm());
             factory.init(keyStore, this.getCertPassword());
 
-            SSLContext serverContext = SSLContext.getInstance(PROTOCOL);
-            serverContext.init(factory.getKeyManagers(), null, null);
-            return serverContext;
+            SslContextBuilder builder = SslContextBuilder.forServer(factory)
+                    .sslProvider(getProvider())
+                    .sessionCacheSize(sessionConfig.getCacheSize())
+                    .sessionTimeout(sessionConfig.getTimeout());
+            if (http2) {
+                builder.ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
+                        .applicationProtocolConfig(new ApplicationProtocolConfig(
+                                ApplicationProtocolConfig.Protocol.ALPN,
+                                ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                                ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                                ApplicationProtocolNames.HTTP_2, ApplicationProtocolNames.HTTP_1_1));
+            }
+
+            SslContext context = builder.build();
+            enableTickets(context.sessionContext());
+            return context;
         } catch (Exception e) {
             throw new MocoException("Failed to initialize the server-side SSLContext", e);
         } finally {
@@ -49,6 +92,32 @@ public final class HttpsCertificate {
         }
     }
 
+    private static SslProvider getProvider() {
+        if (OpenSsl.isAvailable()) {
+            return SslProvider.OPENSSL;
+        }
+
+        return SslProvider.JDK;
+    }
+
+    private void enableTickets(final SSLSessionContext context) {
+        if (!sessionConfig.isTickets() || !(context instanceof OpenSslSessionContext)) {
+            return;
+        }
+
+        SecureRandom random = new SecureRandom();
+        ((OpenSslSessionContext) context).setTicketKeys(new OpenSslSessionTicketKey(
+                randomBytes(random, OpenSslSessionTicketKey.NAME_SIZE),
+                randomBytes(random, OpenSslSessionTicketKey.HMAC_KEY_SIZE),
+                randomBytes(random, OpenSslSessionTicketKey.AES_KEY_SIZE)));
+    }
+
+    private static byte[] randomBytes(final SecureRandom random, final int size) {
+        byte[] bytes = new byte[size];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
     private static String getAlgorithm() {
         String algorithm = Security.getProperty("ssl.KeyManagerFactory.algorithm");
         if (algorithm == null) {
@@ -74,8 +143,16 @@ public final class HttpsCertificate {
     public static HttpsCertificate certificate(final ContentResource resource,
                                                final String keyStorePassword,
                                                final String certPassword) {
+        return certificate(resource, keyStorePassword, certPassword, TlsSessionConfig.DEFAULT_CONFIG);
+    }
+
+    public static HttpsCertificate certificate(final ContentResource resource,
+                                               final String keyStorePassword,
+                                               final String certPassword,
+                                               final TlsSessionConfig sessionConfig) {
         return new HttpsCertificate(checkNotNull(resource),
                 checkNotNullOrEmpty(keyStorePassword, "Key store password should not be null"),
-                checkNotNullOrEmpty(certPassword, "Cert password should not be null"));
+                checkNotNullOrEmpty(certPassword, "Cert password should not be null"),
+                checkNotNull(sessionConfig, "Session config should not be null"));
     }
 }
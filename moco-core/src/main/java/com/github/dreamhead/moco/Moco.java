@@ -4,6 +4,7 @@ import com.github.dreamhead.moco.action.MocoAsyncAction;
 import com.github.dreamhead.moco.action.MocoGetRequestAction;
 import com.github.dreamhead.moco.action.MocoPostRequestAction;
 import com.github.dreamhead.moco.config.MocoContextConfig;
+import com.github.dreamhead.moco.config.MocoExecutionConfig;
 import com.github.dreamhead.moco.config.MocoFileRootConfig;
 import com.github.dreamhead.moco.config.MocoRequestConfig;
 import com.github.dreamhead.moco.config.MocoResponseConfig;
@@ -15,11 +16,14 @@ import com.github.dreamhead.moco.extractor.JsonPathRequestExtractor;
 import com.github.dreamhead.moco.extractor.ParamRequestExtractor;
 import com.github.dreamhead.moco.extractor.XPathRequestExtractor;
 import com.github.dreamhead.moco.handler.AndResponseHandler;
+import com.github.dreamhead.moco.handler.ExecutionResponseHandler;
+import com.github.dreamhead.moco.handler.MetricsResponseHandler;
 import com.github.dreamhead.moco.handler.ProxyBatchResponseHandler;
 import com.github.dreamhead.moco.handler.ProxyResponseHandler;
 import com.github.dreamhead.moco.handler.StatusCodeResponseHandler;
 import com.github.dreamhead.moco.handler.failover.Failover;
 import com.github.dreamhead.moco.handler.failover.FailoverStrategy;
+import com.github.dreamhead.moco.handler.proxy.ProxyClientConfig;
 import com.github.dreamhead.moco.handler.proxy.ProxyConfig;
 import com.github.dreamhead.moco.internal.ActualHttpServer;
 import com.github.dreamhead.moco.internal.ActualSocketServer;
@@ -30,6 +34,10 @@ import com.github.dreamhead.moco.matcher.EqRequestMatcher;
 import com.github.dreamhead.moco.matcher.ExistMatcher;
 import com.github.dreamhead.moco.matcher.NotRequestMatcher;
 import com.github.dreamhead.moco.matcher.OrRequestMatcher;
+import com.github.dreamhead.moco.metrics.MetricsFormat;
+import com.github.dreamhead.moco.monitor.AsyncMonitor;
+import com.github.dreamhead.moco.monitor.LogConfig;
+import com.github.dreamhead.moco.monitor.OverflowPolicy;
 import com.github.dreamhead.moco.monitor.StdLogWriter;
 import com.github.dreamhead.moco.procedure.LatencyProcedure;
 import com.github.dreamhead.moco.recorder.MocoGroup;
@@ -177,6 +185,10 @@ public final class Moco {
         return response(with(checkNotNull(header, "Response handler should not be null")));
     }
 
+    public static MocoConfig<?> execution(final ExecutionPolicy policy) {
+        return new MocoExecutionConfig(checkNotNull(policy, "Execution policy should not be null"));
+    }
+
     public static MocoConfig<?> fileRoot(final String fileRoot) {
         return new MocoFileRootConfig(checkNotNullOrEmpty(fileRoot, "File root should not be null"));
     }
@@ -193,6 +205,30 @@ public final class Moco {
         return ApiUtils.log(ApiUtils.fileLogWriter(checkNotNullOrEmpty(filename, "Filename should not be null or empty"), checkNotNull(charset, "Charset should not be null")));
     }
 
+    public static MocoMonitor log(final String filename, final LogConfig config) {
+        return ApiUtils.log(ApiUtils.fileLogWriter(checkNotNullOrEmpty(filename, "Filename should not be null or empty"), null,
+                checkNotNull(config, "Log config should not be null")));
+    }
+
+    public static MocoMonitor log(final String filename, final Charset charset, final LogConfig config) {
+        return ApiUtils.log(ApiUtils.fileLogWriter(checkNotNullOrEmpty(filename, "Filename should not be null or empty"),
+                checkNotNull(charset, "Charset should not be null"),
+                checkNotNull(config, "Log config should not be null")));
+    }
+
+    private static final int DEFAULT_MONITOR_CAPACITY = 8192;
+
+    public static MocoMonitor async(final MocoMonitor monitor) {
+        return async(checkNotNull(monitor, "Monitor should not be null"),
+                DEFAULT_MONITOR_CAPACITY, OverflowPolicy.DROP);
+    }
+
+    public static MocoMonitor async(final MocoMonitor monitor, final int capacity, final OverflowPolicy policy) {
+        checkArgument(capacity > 0, "Capacity must be greater than zero");
+        return new AsyncMonitor(checkNotNull(monitor, "Monitor should not be null"), capacity,
+                checkNotNull(policy, "Overflow policy should not be null"));
+    }
+
     public static RequestMatcher by(final String content) {
         return by(text(checkNotNullOrEmpty(content, "Content should not be null")));
     }
@@ -270,6 +306,12 @@ public final class Moco {
                 checkNotNull(elements, "Responses should not be null"));
     }
 
+    public static ResponseHandler execute(final ExecutionPolicy policy,
+                                          final ResponseElement element, final ResponseElement... elements) {
+        return ExecutionResponseHandler.execute(checkNotNull(policy, "Execution policy should not be null"),
+                and(element, elements));
+    }
+
     public static RequestMatcher or(final RequestMatcher matcher, final RequestMatcher... matchers) {
         return new OrRequestMatcher(asIterable(
                 checkNotNull(matcher, "Matcher should not be null"),
@@ -281,8 +323,7 @@ public final class Moco {
     }
 
     public static ContentResource text(final String text) {
-        checkNotNull(text, "Text should not be null");
-        return text((request) -> text);
+        return textResource(checkNotNull(text, "Text should not be null"));
     }
 
     public static ContentResource text(final Function<Request, String> function) {
@@ -390,8 +431,7 @@ public final class Moco {
     }
 
     public static ContentResource json(final Resource resource) {
-        checkNotNull(resource, "Json should not be null");
-        return json((request) -> resource);
+        return jsonResource((Object) checkNotNull(resource, "Json should not be null"));
     }
 
     public static ContentResource json(final Function<Request, Object> function) {
@@ -399,8 +439,7 @@ public final class Moco {
     }
 
     public static ContentResource json(final Object pojo) {
-        checkNotNull(pojo, "Json object should not be null");
-        return json((request) -> pojo);
+        return jsonResource(checkNotNull(pojo, "Json object should not be null"));
     }
 
     public static JsonPathRequestExtractor jsonPath(final String jsonPath) {
@@ -492,6 +531,14 @@ public final class Moco {
         return new StatusCodeResponseHandler(code);
     }
 
+    public static ResponseHandler metrics() {
+        return metrics(MetricsFormat.JSON);
+    }
+
+    public static ResponseHandler metrics(final MetricsFormat format) {
+        return new MetricsResponseHandler(checkNotNull(format, "Metrics format should not be null"));
+    }
+
     public static ResponseHandler proxy(final String url) {
         return proxy(checkNotNullOrEmpty(url, "URL should not be null"), Failover.DEFAULT_FAILOVER);
     }
@@ -506,8 +553,14 @@ public final class Moco {
     }
 
     public static ResponseHandler proxy(final ContentResource url, final Failover failover) {
+        return proxy(url, failover, ProxyClientConfig.DEFAULT_CONFIG);
+    }
+
+    public static ResponseHandler proxy(final ContentResource url, final Failover failover,
+                                        final ProxyClientConfig clientConfig) {
         return new ProxyResponseHandler(toUrlFunction(checkNotNull(url, "URL should not be null")),
-                checkNotNull(failover, "Failover should not be null"));
+                checkNotNull(failover, "Failover should not be null"),
+                checkNotNull(clientConfig, "Proxy client config should not be null"));
     }
 
     public static ResponseHandler proxy(final ProxyConfig proxyConfig) {
@@ -515,7 +568,13 @@ public final class Moco {
     }
 
     public static ResponseHandler proxy(final ProxyConfig proxyConfig, final Failover failover) {
-        return new ProxyBatchResponseHandler(checkNotNull(proxyConfig), checkNotNull(failover));
+        return proxy(proxyConfig, failover, ProxyClientConfig.DEFAULT_CONFIG);
+    }
+
+    public static ResponseHandler proxy(final ProxyConfig proxyConfig, final Failover failover,
+                                        final ProxyClientConfig clientConfig) {
+        return new ProxyBatchResponseHandler(checkNotNull(proxyConfig), checkNotNull(failover),
+                checkNotNull(clientConfig, "Proxy client config should not be null"));
     }
 
     public static ProxyConfig.Builder from(final String localBase) {
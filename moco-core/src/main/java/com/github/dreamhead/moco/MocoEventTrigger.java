@@ -1,5 +1,8 @@
 package com.github.dreamhead.moco;
 
+import com.github.dreamhead.moco.action.SessionEventAction;
+import com.github.dreamhead.moco.internal.SessionContext;
+
 public final class MocoEventTrigger implements ConfigApplier<MocoEventTrigger> {
     private final MocoEvent event;
     private final MocoEventAction action;
@@ -17,6 +20,10 @@ public final class MocoEventTrigger implements ConfigApplier<MocoEventTrigger> {
         action.execute(request);
     }
 
+    public void fireEvent(final SessionContext context) {
+        SessionEventAction.execute(action, context);
+    }
+
     @Override
     public MocoEventTrigger apply(final MocoConfig config) {
         MocoEventAction appliedAction = this.action.apply(config);
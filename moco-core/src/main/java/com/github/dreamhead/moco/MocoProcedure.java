@@ -1,5 +1,11 @@
 package com.github.dreamhead.moco;
 
+import com.github.dreamhead.moco.internal.SessionContext;
+
 public interface MocoProcedure extends ResponseElement {
     void execute();
+
+    default void execute(final SessionContext context) {
+        execute();
+    }
 }
@@ -2,6 +2,7 @@ package com.github.dreamhead.moco;
 
 import com.github.dreamhead.moco.recorder.DynamicRecordHandler;
 import com.github.dreamhead.moco.recorder.DynamicReplayHandler;
+import com.github.dreamhead.moco.recorder.FsyncPolicy;
 import com.github.dreamhead.moco.recorder.RecorderConfig;
 import com.github.dreamhead.moco.recorder.RecorderConfigurations;
 import com.github.dreamhead.moco.recorder.RecorderIdentifier;
@@ -34,6 +35,11 @@ public final class MocoRecorders {
         return new RecorderTape(checkNotNullOrEmpty(path, "tape should not be empty"));
     }
 
+    public static RecorderTape tape(final String path, final FsyncPolicy policy) {
+        return new RecorderTape(checkNotNullOrEmpty(path, "tape should not be empty"),
+                checkNotNull(policy, "Fsync policy should not be null"));
+    }
+
     public static RecorderIdentifier identifier(final String text) {
         return new RecorderIdentifier(template(checkNotNullOrEmpty(text, "Identifier should not be empty")));
     }
@@ -1,18 +1,24 @@
 package com.github.dreamhead.moco;
 
 import com.github.dreamhead.moco.monitor.DefaultRequestHit;
+import com.github.dreamhead.moco.monitor.JournalConfig;
 import com.github.dreamhead.moco.verification.AtLeastVerification;
 import com.github.dreamhead.moco.verification.AtMostVerification;
 import com.github.dreamhead.moco.verification.BetweenVerification;
 import com.github.dreamhead.moco.verification.TimesVerification;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
 
 public final class MocoRequestHit {
     public static RequestHit requestHit() {
         return new DefaultRequestHit();
     }
 
+    public static RequestHit requestHit(final JournalConfig config) {
+        return new DefaultRequestHit(checkNotNull(config, "Journal config should not be null"));
+    }
+
     public static UnexpectedRequestMatcher unexpected() {
         return new UnexpectedRequestMatcher();
     }
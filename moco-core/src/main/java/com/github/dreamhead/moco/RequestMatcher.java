@@ -1,5 +1,6 @@
 package com.github.dreamhead.moco;
 
+import com.github.dreamhead.moco.internal.RequestRoute;
 import com.github.dreamhead.moco.internal.SessionContext;
 import com.github.dreamhead.moco.matcher.AbstractRequestMatcher;
 
@@ -11,6 +12,10 @@ public interface RequestMatcher extends ConfigApplier<RequestMatcher> {
     default void attach(final SessionContext context) {
     }
 
+    default RequestRoute route() {
+        return RequestRoute.ANY;
+    }
+
     RequestMatcher ANY_REQUEST_MATCHER = new AbstractRequestMatcher() {
         @Override
         public boolean match(final Request request) {
@@ -4,4 +4,8 @@ import com.github.dreamhead.moco.internal.SessionContext;
 
 public interface ResponseHandler extends ResponseElement, ConfigApplier<ResponseHandler> {
     void writeToResponse(SessionContext context);
+
+    default boolean isStatic() {
+        return false;
+    }
 }
@@ -0,0 +1,97 @@
+package com.github.dreamhead.moco;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+public final class TlsSessionConfig {
+    public static final TlsSessionConfig DEFAULT_CONFIG = builder().build();
+
+    private static final long DEFAULT_CACHE_SIZE = 20_480;
+    private static final long DEFAULT_TIMEOUT = 86_400;
+
+    private final long cacheSize;
+    private final long timeout;
+    private final boolean tickets;
+
+    private TlsSessionConfig(final long cacheSize, final long timeout, final boolean tickets) {
+        this.cacheSize = cacheSize;
+        this.timeout = timeout;
+        this.tickets = tickets;
+    }
+
+    public long getCacheSize() {
+        return cacheSize;
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    public boolean isTickets() {
+        return tickets;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof TlsSessionConfig)) {
+            return false;
+        }
+
+        TlsSessionConfig that = (TlsSessionConfig) o;
+        return cacheSize == that.cacheSize
+                && timeout == that.timeout
+                && tickets == that.tickets;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cacheSize, timeout, tickets);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("cacheSize", cacheSize)
+                .add("timeout", timeout)
+                .add("tickets", tickets)
+                .toString();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private long cacheSize = DEFAULT_CACHE_SIZE;
+        private long timeout = DEFAULT_TIMEOUT;
+        private boolean tickets = true;
+
+        public Builder withCacheSize(final long cacheSize) {
+            checkArgument(cacheSize >= 0, "Session cache size must not be negative");
+            this.cacheSize = cacheSize;
+            return this;
+        }
+
+        public Builder withTimeout(final long timeout) {
+            checkArgument(timeout >= 0, "Session timeout must not be negative");
+            this.timeout = timeout;
+            return this;
+        }
+
+        public Builder withTickets(final boolean tickets) {
+            this.tickets = tickets;
+            return this;
+        }
+
+        public TlsSessionConfig build() {
+            return new TlsSessionConfig(cacheSize, timeout, tickets);
+        }
+    }
+}
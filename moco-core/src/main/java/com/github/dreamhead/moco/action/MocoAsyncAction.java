@@ -3,15 +3,19 @@ package com.github.dreamhead.moco.action;
 import com.github.dreamhead.moco.MocoConfig;
 import com.github.dreamhead.moco.MocoEventAction;
 import com.github.dreamhead.moco.Request;
+import com.github.dreamhead.moco.internal.SessionContext;
 import com.github.dreamhead.moco.procedure.LatencyProcedure;
 import com.github.dreamhead.moco.util.MocoExecutors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+public final class MocoAsyncAction implements SessionEventAction {
+    private static final Logger logger = LoggerFactory.getLogger(MocoAsyncAction.class);
 
-public final class MocoAsyncAction implements MocoEventAction {
     private final MocoEventAction action;
     private final LatencyProcedure procedure;
-    private final ExecutorService service = MocoExecutors.executor();
 
     public MocoAsyncAction(final MocoEventAction action, final LatencyProcedure procedure) {
         this.action = action;
@@ -20,10 +24,29 @@ public final class MocoAsyncAction implements MocoEventAction {
 
     @Override
     public void execute(final Request request) {
-        service.execute(() -> {
-            procedure.execute();
-            action.execute(request);
-        });
+        schedule(() -> action.execute(request));
+    }
+
+    @Override
+    public void execute(final SessionContext context) {
+        schedule(() -> SessionEventAction.execute(action, context));
+    }
+
+    private void schedule(final Runnable task) {
+        try {
+            MocoExecutors.scheduler().schedule(() -> dispatch(task),
+                    procedure.getDuration(), procedure.getUnit());
+        } catch (RejectedExecutionException e) {
+            logger.warn("Async action is dropped: {}", e.getMessage());
+        }
+    }
+
+    private void dispatch(final Runnable task) {
+        try {
+            MocoExecutors.io().execute(task);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Async action is dropped: {}", e.getMessage());
+        }
     }
 
     @Override
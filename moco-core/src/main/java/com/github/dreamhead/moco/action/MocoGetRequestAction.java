@@ -5,16 +5,18 @@ import com.github.dreamhead.moco.MocoConfig;
 import com.github.dreamhead.moco.MocoEventAction;
 import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.resource.Resource;
-import org.apache.hc.client5.http.classic.methods.HttpGet;
-import org.apache.hc.core5.http.ClassicHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
 
 public final class MocoGetRequestAction extends MocoRequestAction {
     public MocoGetRequestAction(final Resource url, final HttpHeader[] headers) {
         super(url, headers);
     }
 
-    protected ClassicHttpRequest createRequest(final String url, final Request request) {
-        return new HttpGet(url);
+    protected FullHttpRequest createRequest(final String uri, final Request request) {
+        return new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
     }
 
     @Override
@@ -8,11 +8,12 @@ import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.resource.ContentResource;
 import com.github.dreamhead.moco.resource.Resource;
 import com.google.common.net.MediaType;
-import org.apache.hc.client5.http.classic.methods.HttpPost;
-import org.apache.hc.core5.http.ClassicHttpRequest;
-import org.apache.hc.core5.http.ContentType;
-import org.apache.hc.core5.http.HttpEntity;
-import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
 
 import java.nio.charset.Charset;
 
@@ -25,20 +26,16 @@ public final class MocoPostRequestAction extends MocoRequestAction {
         this.content = content;
     }
 
-    protected ClassicHttpRequest createRequest(final String url, final Request request) {
-        HttpPost targetRequest = new HttpPost(url);
-        targetRequest.setEntity(asEntity(content, request));
+    protected FullHttpRequest createRequest(final String uri, final Request request) {
+        FullHttpRequest targetRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, uri,
+                Unpooled.wrappedBuffer(content.readFor(request).getContent()));
+        targetRequest.headers().set(HttpHeaderNames.CONTENT_TYPE, getContentType((HttpRequest) request));
         return targetRequest;
     }
 
-    private HttpEntity asEntity(final ContentResource resource, final Request request) {
-        return new ByteArrayEntity(resource.readFor(request).getContent(), getContentType((HttpRequest) request));
-    }
-
-    private ContentType getContentType(final HttpRequest request) {
+    private String getContentType(final HttpRequest request) {
         MediaType type = content.getContentType(request);
-        return ContentType.create(type.type() + "/" + type.subtype(),
-                type.charset().or(Charset.defaultCharset()));
+        return type.withCharset(type.charset().or(Charset.defaultCharset())).toString();
     }
 
     @Override
@@ -2,25 +2,27 @@ package com.github.dreamhead.moco.action;
 
 import com.github.dreamhead.moco.HttpHeader;
 import com.github.dreamhead.moco.MocoConfig;
-import com.github.dreamhead.moco.MocoEventAction;
 import com.github.dreamhead.moco.MocoException;
 import com.github.dreamhead.moco.Request;
+import com.github.dreamhead.moco.internal.SessionContext;
 import com.github.dreamhead.moco.resource.Resource;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
-import org.apache.hc.client5.http.impl.classic.HttpClients;
-import org.apache.hc.core5.http.ClassicHttpRequest;
+import com.google.common.base.Strings;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpUtil;
 
-import java.io.IOException;
-import java.net.URISyntaxException;
+import java.net.MalformedURLException;
+import java.net.URL;
 
-public abstract class MocoRequestAction implements MocoEventAction {
+public abstract class MocoRequestAction implements SessionEventAction {
     private final ActionMonitor monitor = new ActionMonitor();
 
     private final Resource url;
     private final HttpHeader[] headers;
 
-    protected abstract ClassicHttpRequest createRequest(String url, Request request);
+    protected abstract FullHttpRequest createRequest(String uri, Request request);
 
     protected MocoRequestAction(final Resource url, final HttpHeader[] headers) {
         this.url = url;
@@ -29,20 +31,37 @@ public abstract class MocoRequestAction implements MocoEventAction {
 
     @Override
     public final void execute(final Request request) {
-        try (CloseableHttpClient client = HttpClients.createDefault()) {
-            final ClassicHttpRequest actual = prepareRequest(request);
-            monitor.preAction(actual);
-            final CloseableHttpResponse response = client.execute(actual);
-            monitor.postAction(response);
-        } catch (IOException | URISyntaxException e) {
+        dispatch(null, request);
+    }
+
+    @Override
+    public final void execute(final SessionContext context) {
+        dispatch(context.getEventLoop().map(EventLoop::parent).orElse(null), context.getRequest());
+    }
+
+    private void dispatch(final EventLoopGroup owner, final Request request) {
+        final URL target = targetUrl(request);
+        final FullHttpRequest actual = prepareRequest(target, request);
+        monitor.preAction(actual);
+        WebhookDispatcher.dispatcher().dispatch(owner, target, actual).thenAccept(monitor::postAction);
+    }
+
+    private URL targetUrl(final Request request) {
+        try {
+            return new URL(url.readFor(request).toString());
+        } catch (MalformedURLException e) {
             throw new MocoException(e);
         }
     }
 
-    private ClassicHttpRequest prepareRequest(final Request request) {
-        ClassicHttpRequest httpRequest = createRequest(url.readFor(request).toString(), request);
+    private FullHttpRequest prepareRequest(final URL target, final Request request) {
+        String uri = Strings.isNullOrEmpty(target.getFile()) ? "/" : target.getFile();
+        FullHttpRequest httpRequest = createRequest(uri, request);
+        httpRequest.headers().set(HttpHeaderNames.HOST, target.getPort() == -1 ? target.getHost()
+                : target.getHost() + ":" + target.getPort());
+        HttpUtil.setContentLength(httpRequest, httpRequest.content().readableBytes());
         for (HttpHeader header : headers) {
-            httpRequest.addHeader(header.getName(), header.getValue().readFor(request).toString());
+            httpRequest.headers().set(header.getName(), header.getValue().readFor(request).toString());
         }
 
         return httpRequest;
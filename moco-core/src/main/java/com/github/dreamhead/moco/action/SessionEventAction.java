@@ -0,0 +1,17 @@
+package com.github.dreamhead.moco.action;
+
+import com.github.dreamhead.moco.MocoEventAction;
+import com.github.dreamhead.moco.internal.SessionContext;
+
+public interface SessionEventAction extends MocoEventAction {
+    void execute(SessionContext context);
+
+    static void execute(final MocoEventAction action, final SessionContext context) {
+        if (action instanceof SessionEventAction) {
+            ((SessionEventAction) action).execute(context);
+            return;
+        }
+
+        action.execute(context.getRequest());
+    }
+}
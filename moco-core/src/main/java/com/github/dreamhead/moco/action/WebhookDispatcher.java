@@ -0,0 +1,234 @@
+package com.github.dreamhead.moco.action;
+
+import com.github.dreamhead.moco.HttpResponse;
+import com.github.dreamhead.moco.handler.proxy.NettyProxyClient;
+import com.github.dreamhead.moco.handler.proxy.ProxyClientConfig;
+import com.github.dreamhead.moco.handler.proxy.RequestNotSentException;
+import com.github.dreamhead.moco.metrics.MocoMetrics;
+import com.github.dreamhead.moco.metrics.WebhookMetrics;
+import com.github.dreamhead.moco.server.TransportConfig;
+import com.github.dreamhead.moco.server.Transports;
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.ThreadPerTaskExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.dreamhead.moco.model.DefaultHttpResponse.newResponse;
+import static com.google.common.base.Preconditions.checkArgument;
+
+public final class WebhookDispatcher {
+    private static final Logger logger = LoggerFactory.getLogger(WebhookDispatcher.class);
+    private static final long MAX_BACKOFF = 10_000;
+    private static final int MAX_SHIFT = 16;
+    private static final int SERVER_ERROR = 500;
+    private static volatile WebhookDispatcher dispatcher;
+
+    private final EventLoop eventLoop;
+    private final NettyProxyClient client;
+    private final int queueLimit;
+    private final int retries;
+    private final long backoff;
+    private final Pending pending = new Pending();
+    private final ConcurrentMap<EventExecutorGroup, Pending> owners = new ConcurrentHashMap<>();
+    private final WebhookMetrics metrics = new WebhookMetrics(pending::get);
+
+    private WebhookDispatcher() {
+        this.queueLimit = positive("moco.webhook.queue", 10_000);
+        this.retries = Integer.getInteger("moco.webhook.retries", 3);
+        this.backoff = positive("moco.webhook.backoff", 100);
+        checkArgument(retries >= 0, "moco.webhook.retries must not be negative");
+        long timeout = positive("moco.webhook.timeout", 10_000);
+        this.client = new NettyProxyClient(ProxyClientConfig.builder()
+                .withMaxPerRoute(positive("moco.webhook.max-per-target", 16))
+                .withConnectTimeout(timeout)
+                .withResponseTimeout(timeout)
+                .withTrustAll(false)
+                .build());
+        this.eventLoop = Transports.newEventLoopGroup(TransportConfig.Transport.AUTO, 1,
+                new ThreadPerTaskExecutor(new DefaultThreadFactory("moco-webhook", true))).next();
+        MocoMetrics.register(metrics);
+    }
+
+    public CompletableFuture<HttpResponse> dispatch(final URL url, final FullHttpRequest request) {
+        return dispatch(null, url, request);
+    }
+
+    public CompletableFuture<HttpResponse> dispatch(final EventExecutorGroup owner, final URL url,
+                                                    final FullHttpRequest request) {
+        CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+        Pending owned = owner == null ? null : pendingOf(owner);
+        if (owned != null) {
+            owned.increment();
+        }
+
+        if (pending.increment() > queueLimit) {
+            request.release();
+            metrics.dropped();
+            logger.warn("Webhook to {} is dropped, {} webhooks are pending", url, queueLimit);
+            done(owned, result, null, new RejectedExecutionException("Too many pending webhooks"));
+            return result;
+        }
+
+        send(owned, url, request, 0, result);
+        return result;
+    }
+
+    private Pending pendingOf(final EventExecutorGroup owner) {
+        Pending current = owners.get(owner);
+        if (current != null) {
+            return current;
+        }
+
+        Pending created = new Pending();
+        Pending existing = owners.putIfAbsent(owner, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        owner.terminationFuture().addListener(future -> owners.remove(owner, created));
+        return created;
+    }
+
+    private void send(final Pending owned, final URL url, final FullHttpRequest request, final int attempt,
+                      final CompletableFuture<HttpResponse> result) {
+        client.forward(eventLoop, url, request.retainedDuplicate()).whenComplete((response, cause) -> {
+            if (cause == null && response.status().code() < SERVER_ERROR) {
+                request.release();
+                metrics.delivered();
+                done(owned, result, toResponse(response), null);
+                return;
+            }
+
+            Throwable failure = cause;
+            if (response != null) {
+                failure = new IllegalStateException("Webhook responded with " + response.status());
+                response.release();
+            }
+
+            if (attempt < retries && isRetryable(request, cause)) {
+                metrics.retried();
+                eventLoop.schedule(() -> send(owned, url, request, attempt + 1, result),
+                        backoff(attempt), TimeUnit.MILLISECONDS);
+                return;
+            }
+
+            request.release();
+            metrics.failed();
+            logger.warn("Fail to send webhook to {} after {} attempts", url, attempt + 1, failure);
+            done(owned, result, null, failure);
+        });
+    }
+
+    private static boolean isRetryable(final FullHttpRequest request, final Throwable cause) {
+        return cause instanceof RequestNotSentException || !HttpMethod.POST.equals(request.method());
+    }
+
+    private HttpResponse toResponse(final FullHttpResponse response) {
+        try {
+            return newResponse(response);
+        } finally {
+            response.release();
+        }
+    }
+
+    private long backoff(final int attempt) {
+        return Math.min(MAX_BACKOFF, backoff << Math.min(attempt, MAX_SHIFT));
+    }
+
+    private void done(final Pending owned, final CompletableFuture<HttpResponse> result,
+                      final HttpResponse response, final Throwable cause) {
+        pending.decrement();
+        if (owned != null) {
+            owned.decrement();
+        }
+
+        if (cause != null) {
+            result.completeExceptionally(cause);
+            return;
+        }
+
+        result.complete(response);
+    }
+
+    private static int positive(final String name, final int defaultValue) {
+        int value = Integer.getInteger(name, defaultValue);
+        checkArgument(value > 0, "%s must be greater than zero", name);
+        return value;
+    }
+
+    public static WebhookDispatcher dispatcher() {
+        WebhookDispatcher current = dispatcher;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (WebhookDispatcher.class) {
+            if (dispatcher == null) {
+                dispatcher = new WebhookDispatcher();
+            }
+
+            return dispatcher;
+        }
+    }
+
+    public static boolean drain(final EventExecutorGroup owner, final long timeout, final TimeUnit unit) {
+        WebhookDispatcher current = dispatcher;
+        if (current == null || owner == null) {
+            return true;
+        }
+
+        Pending owned = current.owners.get(owner);
+        return owned == null || owned.await(timeout, unit);
+    }
+
+    private static final class Pending {
+        private final AtomicInteger count = new AtomicInteger();
+
+        private int get() {
+            return count.get();
+        }
+
+        private int increment() {
+            return count.incrementAndGet();
+        }
+
+        private void decrement() {
+            if (count.decrementAndGet() == 0) {
+                synchronized (this) {
+                    notifyAll();
+                }
+            }
+        }
+
+        private boolean await(final long timeout, final TimeUnit unit) {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            synchronized (this) {
+                long remaining = deadline - System.nanoTime();
+                while (count.get() > 0 && remaining > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                    remaining = deadline - System.nanoTime();
+                }
+
+                return count.get() == 0;
+            }
+        }
+    }
+}
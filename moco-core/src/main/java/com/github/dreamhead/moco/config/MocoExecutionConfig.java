@@ -0,0 +1,30 @@
+package com.github.dreamhead.moco.config;
+
+import com.github.dreamhead.moco.ExecutionPolicy;
+import com.github.dreamhead.moco.MocoConfig;
+import com.github.dreamhead.moco.ResponseHandler;
+import com.github.dreamhead.moco.handler.ExecutionResponseHandler;
+
+import static com.github.dreamhead.moco.handler.ExecutionResponseHandler.execute;
+
+public final class MocoExecutionConfig implements MocoConfig<ResponseHandler> {
+    private final ExecutionPolicy policy;
+
+    public MocoExecutionConfig(final ExecutionPolicy policy) {
+        this.policy = policy;
+    }
+
+    @Override
+    public boolean isFor(final String id) {
+        return RESPONSE_ID.equalsIgnoreCase(id);
+    }
+
+    @Override
+    public ResponseHandler apply(final ResponseHandler target) {
+        if (target instanceof ExecutionResponseHandler) {
+            return target;
+        }
+
+        return execute(policy, target);
+    }
+}
@@ -18,6 +18,10 @@ public final class HeaderRequestExtractor extends HttpRequestExtractor<String[]>
         this.name = name;
     }
 
+    public String getName() {
+        return name;
+    }
+
     @Override
     protected Optional<String[]> doExtract(final HttpRequest request) {
         String[] extractedValues = request.getHeaders().entrySet().stream()
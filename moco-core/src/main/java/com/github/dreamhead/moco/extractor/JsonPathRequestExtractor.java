@@ -3,11 +3,11 @@ package com.github.dreamhead.moco.extractor;
 import com.github.dreamhead.moco.HttpRequest;
 import com.github.dreamhead.moco.HttpRequestExtractor;
 import com.github.dreamhead.moco.model.MessageContent;
+import com.github.dreamhead.moco.model.RequestCache;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +15,8 @@ import static java.util.Optional.empty;
 import static java.util.Optional.of;
 
 public final class JsonPathRequestExtractor extends HttpRequestExtractor<Object> {
+    private static final Object CONTENT_DOCUMENT = new Object();
+
     private final ContentRequestExtractor extractor = new ContentRequestExtractor();
     private final JsonPath jsonPath;
 
@@ -24,25 +26,31 @@ public final class JsonPathRequestExtractor extends HttpRequestExtractor<Object>
 
     @Override
     protected Optional<Object> doExtract(final HttpRequest request) {
-        Optional<MessageContent> requestBody = extractor.extract(request);
-        return requestBody.flatMap(this::extractContent);
+        return RequestCache.cached(request, this, () -> {
+            Optional<MessageContent> requestBody = extractor.extract(request);
+            return requestBody.flatMap(content -> extractContent(request, content));
+        });
     }
 
-    private Optional<Object> extractContent(final MessageContent content) {
+    private Optional<Object> extractContent(final HttpRequest request, final MessageContent content) {
+        Object document = RequestCache.cached(request, CONTENT_DOCUMENT, () -> parse(content));
         try {
-            Object jsonPathContent = jsonPath.read(content.toInputStream(),
-                    content.getCharset().toString(),
-                    Configuration.defaultConfiguration());
+            Object jsonPathContent = jsonPath.read(document, Configuration.defaultConfiguration());
             if (jsonPathContent == null) {
                 return empty();
             }
 
             return of(toStringArray(jsonPathContent));
-        } catch (PathNotFoundException | IOException e) {
+        } catch (PathNotFoundException e) {
             return empty();
         }
     }
 
+    private static Object parse(final MessageContent content) {
+        return Configuration.defaultConfiguration().jsonProvider()
+                .parse(content.toInputStream(), content.getCharset().toString());
+    }
+
     @SuppressWarnings("unchecked")
     private Object toStringArray(final Object content) {
         if (content instanceof List) {
@@ -2,14 +2,20 @@ package com.github.dreamhead.moco.extractor;
 
 import com.github.dreamhead.moco.HttpRequest;
 import com.github.dreamhead.moco.HttpRequestExtractor;
+import com.github.dreamhead.moco.model.RequestCache;
+import org.w3c.dom.Document;
 import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
 
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
+import java.io.IOException;
 import java.util.Optional;
 import java.util.stream.IntStream;
 
@@ -17,6 +23,8 @@ import static java.util.Optional.empty;
 import static java.util.Optional.of;
 
 public class XPathRequestExtractor extends HttpRequestExtractor<String[]> {
+    private static final Object CONTENT_DOCUMENT = new Object();
+
     private final XmlExtractorHelper helper = new XmlExtractorHelper();
     private final ContentRequestExtractor extractor = new ContentRequestExtractor();
     private final XPathExpression xPathExpression;
@@ -33,12 +41,24 @@ public class XPathRequestExtractor extends HttpRequestExtractor<String[]> {
 
     @Override
     protected final Optional<String[]> doExtract(final HttpRequest request) {
-        return helper.extractAsInputSource(request, extractor).flatMap(this::doExtract);
+        return RequestCache.cached(request, this, () -> RequestCache.cached(request, CONTENT_DOCUMENT,
+                () -> helper.extractAsInputSource(request, extractor).flatMap(XPathRequestExtractor::parse))
+                .flatMap(this::doExtract));
+    }
+
+    private static Optional<Document> parse(final InputSource source) {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            return Optional.of(factory.newDocumentBuilder().parse(source));
+        } catch (ParserConfigurationException | SAXException | IOException e) {
+            return empty();
+        }
     }
 
-    private Optional<String[]> doExtract(final InputSource source) {
+    private Optional<String[]> doExtract(final Document document) {
         try {
-            NodeList list = (NodeList) xPathExpression.evaluate(source, XPathConstants.NODESET);
+            NodeList list = (NodeList) xPathExpression.evaluate(document, XPathConstants.NODESET);
             if (list.getLength() == 0) {
                 return empty();
             }
@@ -9,6 +9,11 @@ import com.github.dreamhead.moco.internal.SessionContext;
 public abstract class AbstractHttpResponseHandler extends AbstractResponseHandler {
     protected abstract void doWriteToResponse(HttpRequest httpRequest, MutableHttpResponse httpResponse);
 
+    protected void doWriteToResponse(final SessionContext context, final HttpRequest httpRequest,
+                                     final MutableHttpResponse httpResponse) {
+        doWriteToResponse(httpRequest, httpResponse);
+    }
+
     @Override
     public final void writeToResponse(final SessionContext context) {
         Request request = context.getRequest();
@@ -17,7 +22,7 @@ public abstract class AbstractHttpResponseHandler extends AbstractResponseHandle
         if (HttpRequest.class.isInstance(request) && MutableHttpResponse.class.isInstance(response)) {
             HttpRequest httpRequest = HttpRequest.class.cast(request);
             MutableHttpResponse httpResponse = MutableHttpResponse.class.cast(response);
-            doWriteToResponse(httpRequest, httpResponse);
+            doWriteToResponse(context, httpRequest, httpResponse);
         }
     }
 }
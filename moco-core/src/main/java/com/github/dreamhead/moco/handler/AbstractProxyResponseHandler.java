@@ -5,52 +5,44 @@ import com.github.dreamhead.moco.HttpResponse;
 import com.github.dreamhead.moco.MocoException;
 import com.github.dreamhead.moco.MutableHttpResponse;
 import com.github.dreamhead.moco.handler.failover.Failover;
+import com.github.dreamhead.moco.handler.proxy.ProxyClientConfig;
+import com.github.dreamhead.moco.handler.proxy.ProxyClients;
+import com.github.dreamhead.moco.internal.SessionContext;
 import com.github.dreamhead.moco.model.DefaultHttpRequest;
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableSet;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.EventLoop;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.QueryStringEncoder;
+import io.netty.util.concurrent.EventExecutorGroup;
 import org.apache.hc.client5.http.ClientProtocolException;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
-import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
-import org.apache.hc.client5.http.impl.classic.HttpClients;
-import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
-import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
-import org.apache.hc.client5.http.socket.PlainConnectionSocketFactory;
-import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
-import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
-import org.apache.hc.client5.http.ssl.TrustSelfSignedStrategy;
 import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpEntity;
-import org.apache.hc.core5.http.URIScheme;
-import org.apache.hc.core5.http.config.RegistryBuilder;
 import org.apache.hc.core5.http.io.entity.InputStreamEntity;
-import org.apache.hc.core5.ssl.SSLContextBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.SSLContext;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.security.KeyManagementException;
-import java.security.KeyStoreException;
-import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import static com.github.dreamhead.moco.model.DefaultHttpResponse.newResponse;
 import static com.github.dreamhead.moco.util.URLs.toUrl;
@@ -58,6 +50,7 @@ import static com.google.common.net.HttpHeaders.CONTENT_LENGTH;
 import static com.google.common.net.HttpHeaders.DATE;
 import static com.google.common.net.HttpHeaders.HOST;
 import static com.google.common.net.HttpHeaders.SERVER;
+import static com.google.common.net.HttpHeaders.TRANSFER_ENCODING;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.apache.hc.core5.http.io.entity.EntityUtils.toByteArray;
@@ -69,47 +62,21 @@ public abstract class AbstractProxyResponseHandler extends AbstractHttpResponseH
     private static final ImmutableSet<String> IGNORED_RESPONSE_HEADERS = ImmutableSet.of(
             DATE.toUpperCase(), SERVER.toUpperCase());
 
-    private CloseableHttpClient createClient() {
-        // Try to ignore SSL certification
-        // https://memorynotfound.com/ignore-certificate-errors-apache-httpclient/
-        try {
-
-            SSLContext sslContext = SSLContextBuilder.create()
-                    .loadTrustMaterial(new TrustSelfSignedStrategy())
-                    .build();
-
-            HostnameVerifier allowAllHosts = new NoopHostnameVerifier();
-            SSLConnectionSocketFactory connectionFactory = new SSLConnectionSocketFactory(sslContext, allowAllHosts);
-
-            RegistryBuilder.<ConnectionSocketFactory>create()
-                    .register(URIScheme.HTTP.id, PlainConnectionSocketFactory.getSocketFactory())
-                    .register(URIScheme.HTTPS.id, connectionFactory)
-                    .build();
-
-            PoolingHttpClientConnectionManager connManager = new PoolingHttpClientConnectionManager();
-
-            return HttpClients.custom()
-                    .setConnectionManager(connManager)
-                    .setConnectionManagerShared(true)
-                    .build();
-        } catch (NoSuchAlgorithmException | KeyManagementException | KeyStoreException e) {
-            throw new MocoException(e);
-        }
-    }
-
     protected abstract Optional<String> doRemoteUrl(HttpRequest request);
 
     private static Logger logger = LoggerFactory.getLogger(AbstractProxyResponseHandler.class);
 
     private final Failover failover;
+    private final ProxyClientConfig clientConfig;
 
-    protected AbstractProxyResponseHandler(final Failover failover) {
+    protected AbstractProxyResponseHandler(final Failover failover, final ProxyClientConfig clientConfig) {
         this.failover = failover;
+        this.clientConfig = clientConfig;
     }
 
     private HttpUriRequestBase prepareRemoteRequest(final FullHttpRequest request, final URL url) {
         HttpUriRequestBase remoteRequest = createRemoteRequest(request, url);
-        remoteRequest.setConfig(createRequestConfig());
+        remoteRequest.setConfig(ProxyClients.requestConfig(clientConfig));
 
         long contentLength = HttpUtil.getContentLength(request, -1);
         if (contentLength > 0) {
@@ -119,15 +86,6 @@ public abstract class AbstractProxyResponseHandler extends AbstractHttpResponseH
         return remoteRequest;
     }
 
-    private RequestConfig createRequestConfig() {
-        return RequestConfig.custom()
-                .setRedirectsEnabled(false)
-                .setResponseTimeout(0, TimeUnit.SECONDS)
-//                .setSocketTimeout(0)
-//                .setStaleConnectionCheckEnabled(true)
-                .build();
-    }
-
     private HttpUriRequestBase createRemoteRequest(final FullHttpRequest request, final URL url) {
         HttpUriRequestBase remoteRequest = createBaseRequest(url, request.method());
 
@@ -200,11 +158,27 @@ public abstract class AbstractProxyResponseHandler extends AbstractHttpResponseH
         return newResponse(response);
     }
 
+    @Override
+    protected final void doWriteToResponse(final SessionContext context, final HttpRequest httpRequest,
+                                           final MutableHttpResponse httpResponse) {
+        Optional<EventLoop> eventLoop = context.getEventLoop();
+        if (!clientConfig.isAsync() || !eventLoop.isPresent()) {
+            EventExecutorGroup server = eventLoop.map(EventLoop::parent).orElse(null);
+            remoteUrl(httpRequest).ifPresent(actual ->
+                    doWritHttpResponse(doProxy(server, httpRequest, actual), httpResponse));
+            return;
+        }
+
+        Optional<URL> url = remoteUrl(httpRequest);
+        url.ifPresent(actual -> context.defer(doAsyncProxy(eventLoop.get(), httpRequest, actual)
+                .thenAccept(response -> doWritHttpResponse(response, httpResponse))));
+    }
+
     @Override
     protected final void doWriteToResponse(final HttpRequest httpRequest, final MutableHttpResponse httpResponse) {
         Optional<URL> url = remoteUrl(httpRequest);
         url.ifPresent(actual -> {
-            HttpResponse response = doProxy(httpRequest, actual);
+            HttpResponse response = doProxy(null, httpRequest, actual);
             doWritHttpResponse(response, httpResponse);
         });
     }
@@ -222,7 +196,7 @@ public abstract class AbstractProxyResponseHandler extends AbstractHttpResponseH
         httpResponse.setContent(response.getContent());
     }
 
-    private HttpResponse doProxy(final HttpRequest request, final URL remoteUrl) {
+    private HttpResponse doProxy(final EventExecutorGroup server, final HttpRequest request, final URL remoteUrl) {
         if (failover.isPlayback()) {
             try {
                 return failover.failover(request);
@@ -230,25 +204,81 @@ public abstract class AbstractProxyResponseHandler extends AbstractHttpResponseH
             }
         }
 
-        return doForward(request, remoteUrl);
+        return doForward(server, request, remoteUrl);
     }
 
-    private HttpResponse doForward(final HttpRequest request, final URL remoteUrl) {
-        try (CloseableHttpClient client = createClient()) {
+    private CompletableFuture<HttpResponse> doAsyncProxy(final EventLoop eventLoop, final HttpRequest request,
+                                                         final URL remoteUrl) {
+        if (failover.isPlayback()) {
             try {
-                HttpUriRequestBase remoteRequest = prepareRemoteRequest(request, remoteUrl);
-                try (CloseableHttpResponse response = client.execute(remoteRequest)) {
-                    return setupResponse(request, response);
-                }
-            } catch (ClientProtocolException e) {
-                logger.error("Failed to create remote request", e);
-                throw new MocoException(e);
-            } catch (IOException e) {
-                logger.error("Failed to load remote and try to failover", e);
-                return failover.failover(request);
+                return CompletableFuture.completedFuture(failover.failover(request));
+            } catch (RuntimeException ignored) {
             }
-        } catch (IOException e) {
+        }
+
+        return ProxyClients.nettyClient(eventLoop.parent(), clientConfig)
+                .forward(eventLoop, remoteUrl, prepareNettyRequest(request, remoteUrl))
+                .handle((remoteResponse, cause) -> {
+                    if (cause != null) {
+                        logger.error("Failed to load remote and try to failover", cause);
+                        return CompletableFuture.completedFuture(failover.failover(request));
+                    }
+
+                    return setupResponse(request, remoteResponse);
+                })
+                .thenCompose(Function.identity());
+    }
+
+    private FullHttpRequest prepareNettyRequest(final HttpRequest request, final URL remoteUrl) {
+        FullHttpRequest remoteRequest = ((DefaultHttpRequest) request).toFullHttpRequest();
+        remoteRequest.setUri(Strings.isNullOrEmpty(remoteUrl.getFile()) ? "/" : remoteUrl.getFile());
+        if (!HttpVersion.HTTP_1_0.equals(remoteRequest.protocolVersion())) {
+            remoteRequest.setProtocolVersion(HttpVersion.HTTP_1_1);
+        }
+
+        HttpHeaders headers = remoteRequest.headers();
+        IGNORED_REQUEST_HEADERS.forEach(headers::remove);
+        headers.remove(TRANSFER_ENCODING);
+        headers.set(HOST, remoteUrl.getPort() == -1 ? remoteUrl.getHost()
+                : remoteUrl.getHost() + ":" + remoteUrl.getPort());
+        int contentLength = remoteRequest.content().readableBytes();
+        if (contentLength > 0) {
+            HttpUtil.setContentLength(remoteRequest, contentLength);
+        }
+
+        return remoteRequest;
+    }
+
+    private CompletableFuture<HttpResponse> setupResponse(final HttpRequest request,
+                                                          final FullHttpResponse remoteResponse) {
+        try {
+            if (failover.shouldFailover(remoteResponse.status().code())) {
+                return CompletableFuture.completedFuture(failover.failover(request));
+            }
+
+            IGNORED_RESPONSE_HEADERS.forEach(remoteResponse.headers()::remove);
+            HttpResponse httpResponse = newResponse(remoteResponse);
+            failover.onCompleteResponse(request, httpResponse);
+            return CompletableFuture.completedFuture(httpResponse);
+        } finally {
+            remoteResponse.release();
+        }
+    }
+
+    private HttpResponse doForward(final EventExecutorGroup server, final HttpRequest request,
+                                   final URL remoteUrl) {
+        CloseableHttpClient client = ProxyClients.client(server, clientConfig);
+        try {
+            HttpUriRequestBase remoteRequest = prepareRemoteRequest(request, remoteUrl);
+            try (CloseableHttpResponse response = client.execute(remoteRequest)) {
+                return setupResponse(request, response);
+            }
+        } catch (ClientProtocolException e) {
+            logger.error("Failed to create remote request", e);
             throw new MocoException(e);
+        } catch (IOException e) {
+            logger.error("Failed to load remote and try to failover", e);
+            return failover.failover(request);
         }
     }
 
@@ -284,4 +314,8 @@ public abstract class AbstractProxyResponseHandler extends AbstractHttpResponseH
     protected final Failover failover() {
         return failover;
     }
+
+    protected final ProxyClientConfig clientConfig() {
+        return clientConfig;
+    }
 }
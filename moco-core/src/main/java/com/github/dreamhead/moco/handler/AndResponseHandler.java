@@ -6,6 +6,7 @@ import com.github.dreamhead.moco.ResponseElement;
 import com.github.dreamhead.moco.ResponseHandler;
 import com.github.dreamhead.moco.internal.SessionContext;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -22,11 +23,26 @@ public final class AndResponseHandler extends AbstractResponseHandler {
 
     @Override
     public void writeToResponse(final SessionContext context) {
-        for (ResponseHandler handler : handlers) {
-            handler.writeToResponse(context);
+        writeToResponse(handlers.iterator(), context);
+    }
+
+    private void writeToResponse(final Iterator<ResponseHandler> iterator, final SessionContext context) {
+        while (iterator.hasNext()) {
+            if (!context.whenReady().isDone()) {
+                context.deferUntilReady(forked -> writeToResponse(iterator, forked));
+                return;
+            }
+
+            iterator.next().writeToResponse(context);
         }
     }
 
+    @Override
+    public boolean isStatic() {
+        return StreamSupport.stream(handlers.spliterator(), false)
+                .allMatch(ResponseHandler::isStatic);
+    }
+
     @Override
     public ResponseHandler doApply(final MocoConfig config) {
         return and(StreamSupport.stream(handlers.spliterator(), false)
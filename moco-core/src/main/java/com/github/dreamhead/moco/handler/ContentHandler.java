@@ -30,6 +30,11 @@ public class ContentHandler extends AbstractContentResponseHandler {
         return resource.getContentType(request);
     }
 
+    @Override
+    public final boolean isStatic() {
+        return resource.isStatic();
+    }
+
     @Override
     public final ResponseHandler doApply(final MocoConfig config) {
         Resource appliedResource = this.resource.apply(config);
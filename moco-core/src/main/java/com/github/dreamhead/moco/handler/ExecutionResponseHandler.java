@@ -0,0 +1,83 @@
+package com.github.dreamhead.moco.handler;
+
+import com.github.dreamhead.moco.ExecutionPolicy;
+import com.github.dreamhead.moco.MocoConfig;
+import com.github.dreamhead.moco.MutableHttpResponse;
+import com.github.dreamhead.moco.Response;
+import com.github.dreamhead.moco.ResponseHandler;
+import com.github.dreamhead.moco.internal.SessionContext;
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.http.HttpResponseStatus;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+public final class ExecutionResponseHandler extends AbstractResponseHandler {
+    private final ExecutionPolicy policy;
+    private final ResponseHandler handler;
+
+    private ExecutionResponseHandler(final ExecutionPolicy policy, final ResponseHandler handler) {
+        this.policy = policy;
+        this.handler = handler;
+    }
+
+    @Override
+    public void writeToResponse(final SessionContext context) {
+        Optional<EventLoop> eventLoop = context.getEventLoop();
+        if (policy.isInline() || !eventLoop.isPresent()) {
+            handler.writeToResponse(context);
+            return;
+        }
+
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        context.defer(done);
+        SessionContext forked = context.fork();
+        try {
+            policy.execute(() -> doWriteToResponse(forked, done));
+        } catch (RejectedExecutionException e) {
+            reject(context.getResponse(), done, e);
+        }
+    }
+
+    private void doWriteToResponse(final SessionContext context, final CompletableFuture<Void> done) {
+        try {
+            handler.writeToResponse(context);
+        } catch (RuntimeException e) {
+            done.completeExceptionally(e);
+            return;
+        }
+
+        context.completeWhenReady(done);
+    }
+
+    private void reject(final Response response, final CompletableFuture<Void> done,
+                        final RejectedExecutionException e) {
+        if (response instanceof MutableHttpResponse) {
+            ((MutableHttpResponse) response).setStatus(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
+            done.complete(null);
+            return;
+        }
+
+        done.completeExceptionally(e);
+    }
+
+    @Override
+    public boolean isStatic() {
+        return handler.isStatic();
+    }
+
+    @Override
+    protected ResponseHandler doApply(final MocoConfig config) {
+        ResponseHandler applied = handler.apply(config);
+        if (applied == handler) {
+            return this;
+        }
+
+        return new ExecutionResponseHandler(policy, applied);
+    }
+
+    public static ResponseHandler execute(final ExecutionPolicy policy, final ResponseHandler handler) {
+        return new ExecutionResponseHandler(policy, handler);
+    }
+}
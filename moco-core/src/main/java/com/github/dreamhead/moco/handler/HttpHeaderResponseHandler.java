@@ -19,6 +19,11 @@ public class HttpHeaderResponseHandler extends AbstractHttpResponseHandler {
         httpResponse.addHeader(header.getName(), value);
     }
 
+    @Override
+    public final boolean isStatic() {
+        return header.getValue().isStatic();
+    }
+
     @Override
     public final ResponseHandler doApply(final MocoConfig config) {
         HttpHeader appliedHeader = this.header.apply(config);
@@ -0,0 +1,32 @@
+package com.github.dreamhead.moco.handler;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.internal.SessionContext;
+import com.github.dreamhead.moco.metrics.MetricsFormat;
+import com.github.dreamhead.moco.metrics.MocoMetrics;
+import com.github.dreamhead.moco.model.MessageContent;
+import com.google.common.net.MediaType;
+
+public final class MetricsResponseHandler extends AbstractContentResponseHandler {
+    private static final MediaType PROMETHEUS_TYPE = MediaType.PLAIN_TEXT_UTF_8.withParameter("version", "0.0.4");
+
+    private final MetricsFormat format;
+
+    public MetricsResponseHandler(final MetricsFormat format) {
+        this.format = format;
+    }
+
+    @Override
+    protected MessageContent responseContent(final SessionContext context) {
+        return MessageContent.content(MocoMetrics.toText(format));
+    }
+
+    @Override
+    protected MediaType getContentType(final HttpRequest request) {
+        if (format == MetricsFormat.PROMETHEUS) {
+            return PROMETHEUS_TYPE;
+        }
+
+        return MediaType.JSON_UTF_8;
+    }
+}
@@ -13,6 +13,6 @@ public final class ProcedureResponseHandler extends AbstractResponseHandler impl
 
     @Override
     public void writeToResponse(final SessionContext context) {
-        this.procedure.execute();
+        this.procedure.execute(context);
     }
 }
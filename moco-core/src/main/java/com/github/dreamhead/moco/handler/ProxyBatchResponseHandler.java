@@ -4,6 +4,7 @@ import com.github.dreamhead.moco.HttpRequest;
 import com.github.dreamhead.moco.MocoConfig;
 import com.github.dreamhead.moco.ResponseHandler;
 import com.github.dreamhead.moco.handler.failover.Failover;
+import com.github.dreamhead.moco.handler.proxy.ProxyClientConfig;
 import com.github.dreamhead.moco.handler.proxy.ProxyConfig;
 
 import java.util.Optional;
@@ -15,9 +16,14 @@ import static java.util.Optional.of;
 public final class ProxyBatchResponseHandler extends AbstractProxyResponseHandler {
     private final ProxyConfig proxyConfig;
 
+    public ProxyBatchResponseHandler(final ProxyConfig proxyConfig, final Failover failover) {
+        this(proxyConfig, failover, ProxyClientConfig.DEFAULT_CONFIG);
+    }
+
     public ProxyBatchResponseHandler(final ProxyConfig proxyConfig,
-                                     final Failover failover) {
-        super(failover);
+                                     final Failover failover,
+                                     final ProxyClientConfig clientConfig) {
+        super(failover, clientConfig);
         this.proxyConfig = proxyConfig;
     }
 
@@ -36,7 +42,8 @@ public final class ProxyBatchResponseHandler extends AbstractProxyResponseHandle
     public ResponseHandler doApply(final MocoConfig config) {
         if (config.isFor(MocoConfig.URI_ID)) {
             String newLocalBase = (String) config.apply(proxyConfig.localBase());
-            return new ProxyBatchResponseHandler(from(newLocalBase).to(proxyConfig.remoteBase()), failover());
+            return new ProxyBatchResponseHandler(from(newLocalBase).to(proxyConfig.remoteBase()),
+                    failover(), clientConfig());
         }
 
         return this;
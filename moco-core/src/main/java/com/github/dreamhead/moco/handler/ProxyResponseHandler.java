@@ -3,6 +3,7 @@ package com.github.dreamhead.moco.handler;
 import com.github.dreamhead.moco.HttpRequest;
 import com.github.dreamhead.moco.ResponseHandler;
 import com.github.dreamhead.moco.handler.failover.Failover;
+import com.github.dreamhead.moco.handler.proxy.ProxyClientConfig;
 
 import java.net.URL;
 import java.util.Optional;
@@ -15,7 +16,12 @@ public class ProxyResponseHandler extends AbstractProxyResponseHandler implement
     private final Function<HttpRequest, URL> url;
 
     public ProxyResponseHandler(final Function<HttpRequest, URL> url, final Failover failover) {
-        super(failover);
+        this(url, failover, ProxyClientConfig.DEFAULT_CONFIG);
+    }
+
+    public ProxyResponseHandler(final Function<HttpRequest, URL> url, final Failover failover,
+                                final ProxyClientConfig clientConfig) {
+        super(failover, clientConfig);
         this.url = url;
     }
 
@@ -0,0 +1,61 @@
+package com.github.dreamhead.moco.handler;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.MocoConfig;
+import com.github.dreamhead.moco.ResponseHandler;
+import com.github.dreamhead.moco.internal.SessionContext;
+import com.github.dreamhead.moco.model.DefaultMutableHttpResponse;
+import com.github.dreamhead.moco.model.StaticHttpResponse;
+
+import static com.github.dreamhead.moco.model.DefaultMutableHttpResponse.newResponse;
+
+public final class StaticResponseHandler extends AbstractResponseHandler {
+    private final ResponseHandler handler;
+    private volatile StaticHttpResponse response;
+
+    private StaticResponseHandler(final ResponseHandler handler) {
+        this.handler = handler;
+    }
+
+    public static ResponseHandler staticHandler(final ResponseHandler handler) {
+        if (handler == null || handler instanceof StaticResponseHandler || !handler.isStatic()) {
+            return handler;
+        }
+
+        return new StaticResponseHandler(handler);
+    }
+
+    @Override
+    public void writeToResponse(final SessionContext context) {
+        if (!(context.getRequest() instanceof HttpRequest)
+                || !(context.getResponse() instanceof DefaultMutableHttpResponse)) {
+            handler.writeToResponse(context);
+            return;
+        }
+
+        DefaultMutableHttpResponse httpResponse = (DefaultMutableHttpResponse) context.getResponse();
+        httpResponse.writeFrom(staticResponse((HttpRequest) context.getRequest(), httpResponse.getStatus()));
+    }
+
+    private StaticHttpResponse staticResponse(final HttpRequest request, final int status) {
+        StaticHttpResponse current = this.response;
+        if (current == null) {
+            DefaultMutableHttpResponse template = newResponse(request, status);
+            handler.writeToResponse(new SessionContext(request, template));
+            current = template.toStaticResponse();
+            this.response = current;
+        }
+
+        return current;
+    }
+
+    @Override
+    public boolean isStatic() {
+        return true;
+    }
+
+    @Override
+    protected ResponseHandler doApply(final MocoConfig config) {
+        return staticHandler(handler.apply(config));
+    }
+}
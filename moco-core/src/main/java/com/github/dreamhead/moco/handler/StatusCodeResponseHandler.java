@@ -15,4 +15,9 @@ public class StatusCodeResponseHandler extends AbstractHttpResponseHandler {
     protected final void doWriteToResponse(final HttpRequest httpRequest, final MutableHttpResponse httpResponse) {
         httpResponse.setStatus(status.code());
     }
+
+    @Override
+    public final boolean isStatic() {
+        return true;
+    }
 }
@@ -31,7 +31,10 @@ public final class Failover {
     }
 
     public boolean shouldFailover(final org.apache.hc.core5.http.HttpResponse remoteResponse) {
-        int statusCode = remoteResponse.getCode();
+        return shouldFailover(remoteResponse.getCode());
+    }
+
+    public boolean shouldFailover(final int statusCode) {
         return statuses.contains(statusCode);
     }
 
@@ -0,0 +1,448 @@
+package com.github.dreamhead.moco.handler.failover;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.MocoException;
+import com.github.dreamhead.moco.model.HttpRequestFailoverMatcher;
+import com.github.dreamhead.moco.model.Session;
+import com.github.dreamhead.moco.server.ServerResources;
+import com.github.dreamhead.moco.util.Jsons;
+import com.github.dreamhead.moco.util.MocoExecutors;
+import com.google.common.collect.ImmutableList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+import static com.google.common.collect.Lists.newArrayList;
+
+public final class FailoverStore {
+    private static final Logger logger = LoggerFactory.getLogger(FailoverStore.class);
+    private static final ConcurrentMap<Path, FailoverStore> STORES = new ConcurrentHashMap<>();
+    private static final NavigableSet<Long> EMPTY_BUCKET = Collections.emptyNavigableSet();
+    private static final long FLUSH_DELAY_MILLIS = Long.getLong("moco.failover.flush.delay", 100);
+    private static final int TAIL_SIZE = 64;
+    private static final long CHECK_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(FLUSH_DELAY_MILLIS);
+
+    private final File file;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object scheduleMonitor = new Object();
+    private final Object writeMonitor = new Object();
+
+    private final Map<Long, Session> sessions = new LinkedHashMap<>();
+    private final Map<String, NavigableSet<Long>> buckets = new HashMap<>();
+    private final NavigableSet<Long> fallbackBucket = new TreeSet<>();
+    private long sequence;
+    private boolean loaded;
+    private long lastModified;
+    private long length;
+    private volatile long nextCheck;
+    private final List<Session> appended = newArrayList();
+    private boolean rewrite;
+    private int written;
+
+    private CompletableFuture<Void> pendingFlush;
+
+    private FailoverStore(final File file) {
+        this.file = file;
+    }
+
+    public static FailoverStore of(final File file) {
+        return of(pathOf(file));
+    }
+
+    static FailoverStore of(final Path path) {
+        return STORES.computeIfAbsent(path, key -> {
+            FailoverStore store = new FailoverStore(key.toFile());
+            ServerResources.register(() -> {
+                STORES.remove(key, store);
+                store.flush();
+            });
+            return store;
+        });
+    }
+
+    static Path pathOf(final File file) {
+        return file.toPath().toAbsolutePath().normalize();
+    }
+
+    public static void flushAll() {
+        STORES.values().forEach(FailoverStore::flush);
+    }
+
+    public Optional<Session> find(final HttpRequest request) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return candidates(request).stream()
+                    .map(sessions::get)
+                    .filter(session -> isForRequest(session, request))
+                    .findFirst();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public CompletableFuture<Void> record(final Session session) {
+        ensureLoaded();
+        lock.writeLock().lock();
+        try {
+            HttpRequest request = session.getRequest();
+            candidates(request).stream()
+                    .filter(position -> isForRequest(sessions.get(position), request))
+                    .forEach(position -> {
+                        remove(position);
+                        rewrite = true;
+                    });
+            add(session);
+            appended.add(session);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        return scheduleFlush();
+    }
+
+    private List<Long> candidates(final HttpRequest request) {
+        Iterator<Long> bucket = keyOf(request).map(key -> buckets.getOrDefault(key, EMPTY_BUCKET))
+                .orElse(EMPTY_BUCKET).iterator();
+        Iterator<Long> fallback = fallbackBucket.iterator();
+        List<Long> positions = newArrayList();
+        Long bucketPosition = next(bucket);
+        Long fallbackPosition = next(fallback);
+
+        while (bucketPosition != null || fallbackPosition != null) {
+            if (fallbackPosition == null || (bucketPosition != null && bucketPosition < fallbackPosition)) {
+                positions.add(bucketPosition);
+                bucketPosition = next(bucket);
+            } else {
+                positions.add(fallbackPosition);
+                fallbackPosition = next(fallback);
+            }
+        }
+
+        return positions;
+    }
+
+    private static Long next(final Iterator<Long> iterator) {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    private static boolean isForRequest(final Session session, final HttpRequest request) {
+        return new HttpRequestFailoverMatcher(session.getRequest()).match(request);
+    }
+
+    private static Optional<String> keyOf(final HttpRequest request) {
+        if (request.getMethod() == null || isNullOrEmpty(request.getUri())) {
+            return Optional.empty();
+        }
+
+        return Optional.of(request.getMethod().name() + " " + request.getUri());
+    }
+
+    private void add(final Session session) {
+        long position = sequence++;
+        sessions.put(position, session);
+        Optional<String> key = keyOf(session.getRequest());
+        if (key.isPresent()) {
+            buckets.computeIfAbsent(key.get(), ignored -> new TreeSet<>()).add(position);
+        } else {
+            fallbackBucket.add(position);
+        }
+    }
+
+    private void remove(final Long position) {
+        Session session = sessions.remove(position);
+        Optional<String> key = keyOf(session.getRequest());
+        if (!key.isPresent()) {
+            fallbackBucket.remove(position);
+            return;
+        }
+
+        NavigableSet<Long> bucket = buckets.get(key.get());
+        bucket.remove(position);
+        if (bucket.isEmpty()) {
+            buckets.remove(key.get());
+        }
+    }
+
+    private void ensureLoaded() {
+        lock.readLock().lock();
+        try {
+            if (loaded && !shouldCheckOutside()) {
+                return;
+            }
+
+            if (loaded && !isModifiedOutside()) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (!loaded || isModifiedOutside()) {
+                load();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean shouldCheckOutside() {
+        long now = System.nanoTime();
+        if (now - nextCheck < 0) {
+            return false;
+        }
+
+        nextCheck = now + CHECK_INTERVAL_NANOS;
+        return true;
+    }
+
+    private boolean isModifiedOutside() {
+        return file.lastModified() != lastModified || file.length() != length;
+    }
+
+    private void load() {
+        sessions.clear();
+        buckets.clear();
+        fallbackBucket.clear();
+        restoreSessions().forEach(this::add);
+        appended.clear();
+        this.rewrite = false;
+        this.written = sessions.size();
+        this.loaded = true;
+        stamp();
+    }
+
+    private ImmutableList<Session> restoreSessions() {
+        if (file.length() == 0) {
+            return ImmutableList.of();
+        }
+
+        try (InputStream inputStream = new FileInputStream(file)) {
+            return Jsons.toObjects(inputStream, Session.class);
+        } catch (MocoException me) {
+            logger.warn("exception found", me);
+            return ImmutableList.of();
+        } catch (IOException e) {
+            throw new MocoException(e);
+        }
+    }
+
+    private void stamp() {
+        this.lastModified = file.lastModified();
+        this.length = file.length();
+        this.nextCheck = System.nanoTime() + CHECK_INTERVAL_NANOS;
+    }
+
+    private CompletableFuture<Void> scheduleFlush() {
+        synchronized (scheduleMonitor) {
+            if (pendingFlush == null) {
+                pendingFlush = new CompletableFuture<>();
+                try {
+                    MocoExecutors.scheduler().schedule(this::flushInBackground, FLUSH_DELAY_MILLIS,
+                            TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    CompletableFuture<Void> rejected = pendingFlush;
+                    pendingFlush = null;
+                    rejected.completeExceptionally(e);
+                    return rejected;
+                }
+            }
+
+            return pendingFlush;
+        }
+    }
+
+    private void flushInBackground() {
+        try {
+            MocoExecutors.io().execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            logger.warn("IO executor is saturated, writing failover file {} on scheduler thread", file);
+            flush();
+        }
+    }
+
+    private void flush() {
+        synchronized (writeMonitor) {
+            CompletableFuture<Void> flushed;
+            synchronized (scheduleMonitor) {
+                flushed = pendingFlush;
+                pendingFlush = null;
+            }
+
+            if (flushed == null) {
+                return;
+            }
+
+            try {
+                write();
+                flushed.complete(null);
+            } catch (RuntimeException e) {
+                logger.error("Failed to write failover file {}", file, e);
+                flushed.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void write() {
+        ImmutableList<Session> added;
+        ImmutableList<Session> snapshot = null;
+        lock.writeLock().lock();
+        try {
+            added = ImmutableList.copyOf(appended);
+            appended.clear();
+            if (rewrite || written == 0 || isModifiedOutside()) {
+                snapshot = ImmutableList.copyOf(sessions.values());
+            }
+            rewrite = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            if (snapshot == null && !added.isEmpty() && !append(added)) {
+                snapshot = snapshot();
+            }
+
+            if (snapshot != null) {
+                rewrite(snapshot);
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                rewrite = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+    }
+
+    private ImmutableList<Session> snapshot() {
+        lock.readLock().lock();
+        try {
+            return ImmutableList.copyOf(sessions.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean append(final ImmutableList<Session> added) {
+        StringBuilder content = new StringBuilder();
+        for (Session session : added) {
+            content.append(",\n").append(Jsons.toJson(session));
+        }
+        content.append("\n]");
+        byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long end = arrayEnd(channel);
+            if (end < 0) {
+                return false;
+            }
+
+            lock.writeLock().lock();
+            try {
+                channel.truncate(end);
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer, end + buffer.position());
+                }
+                channel.force(false);
+                written += added.size();
+            } finally {
+                stamp();
+                lock.writeLock().unlock();
+            }
+
+            return true;
+        } catch (IOException e) {
+            throw new MocoException(e);
+        }
+    }
+
+    private static long arrayEnd(final FileChannel channel) throws IOException {
+        long size = channel.size();
+        int tail = (int) Math.min(size, TAIL_SIZE);
+        ByteBuffer buffer = ByteBuffer.allocate(tail);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, size - tail + buffer.position()) < 0) {
+                return -1;
+            }
+        }
+
+        for (int i = tail - 1; i >= 0; i--) {
+            byte current = buffer.get(i);
+            if (!Character.isWhitespace(current)) {
+                return current == ']' ? size - tail + i : -1;
+            }
+        }
+
+        return -1;
+    }
+
+    private void rewrite(final ImmutableList<Session> snapshot) {
+        try {
+            File directory = file.getAbsoluteFile().getParentFile();
+            Path temp = File.createTempFile(file.getName(), ".tmp", directory).toPath();
+            try {
+                Jsons.writeToFile(temp, snapshot);
+                replace(temp);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new MocoException(e);
+        }
+
+        lock.writeLock().lock();
+        try {
+            written = snapshot.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void replace(final Path temp) throws IOException {
+        lock.writeLock().lock();
+        try {
+            Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            stamp();
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.github.dreamhead.moco.handler.proxy;
+
+import com.github.dreamhead.moco.MocoException;
+import com.github.dreamhead.moco.server.Transports;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoop;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.pool.AbstractChannelPoolHandler;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.channel.pool.FixedChannelPool;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLParameters;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.channels.ClosedChannelException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+public final class NettyProxyClient {
+    private static final AttributeKey<CompletableFuture<FullHttpResponse>> PENDING_RESPONSE =
+            AttributeKey.valueOf("moco.proxy.response");
+    private static final AttributeKey<ChannelPool> POOL = AttributeKey.valueOf("moco.proxy.pool");
+    private static final String STREAMING_HANDLER = "handler";
+    private static final ChannelHandler IDLE_CLOSER = new IdleCloser();
+
+    private final ProxyClientConfig config;
+    private final SslContext sslContext;
+    private final ConcurrentMap<Route, ChannelPool> pools = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Route, ChannelPool> streamingPools = new ConcurrentHashMap<>();
+
+    public NettyProxyClient(final ProxyClientConfig config) {
+        this.config = config;
+        this.sslContext = createSslContext(config);
+    }
+
+    public CompletableFuture<FullHttpResponse> forward(final EventLoop eventLoop, final URL remoteUrl,
+                                                       final FullHttpRequest request) {
+        CompletableFuture<FullHttpResponse> response = new CompletableFuture<>();
+        ChannelPool pool = pools.computeIfAbsent(new Route(eventLoop, remoteUrl), this::newAggregatedPool);
+        pool.acquire().addListener((Future<Channel> acquired) -> {
+            if (!acquired.isSuccess()) {
+                request.release();
+                response.completeExceptionally(new RequestNotSentException(acquired.cause()));
+                return;
+            }
+
+            Channel channel = acquired.getNow();
+            channel.attr(PENDING_RESPONSE).set(response);
+            ScheduledFuture<?> timeout = scheduleTimeout(eventLoop, response);
+            response.whenComplete((actual, cause) -> {
+                if (timeout != null) {
+                    timeout.cancel(false);
+                }
+
+                channel.attr(PENDING_RESPONSE).set(null);
+                if (cause != null || !HttpUtil.isKeepAlive(actual)) {
+                    channel.close();
+                }
+
+                pool.release(channel);
+            });
+
+            channel.writeAndFlush(request).addListener(written -> {
+                if (!written.isSuccess()) {
+                    response.completeExceptionally(written.cause());
+                }
+            });
+        });
+
+        return response;
+    }
+
+    public Future<Channel> acquire(final EventLoop eventLoop, final URL remoteUrl, final ChannelHandler handler) {
+        Promise<Channel> promise = eventLoop.newPromise();
+        ChannelPool pool = streamingPools.computeIfAbsent(new Route(eventLoop, remoteUrl), this::newStreamingPool);
+        pool.acquire().addListener((Future<Channel> acquired) -> {
+            if (!acquired.isSuccess()) {
+                promise.setFailure(acquired.cause());
+                return;
+            }
+
+            Channel channel = acquired.getNow();
+            channel.attr(POOL).set(pool);
+            channel.pipeline().addLast(STREAMING_HANDLER, handler);
+            promise.setSuccess(channel);
+        });
+
+        return promise;
+    }
+
+    public void release(final Channel channel) {
+        ChannelPipeline pipeline = channel.pipeline();
+        if (pipeline.get(STREAMING_HANDLER) != null) {
+            pipeline.remove(STREAMING_HANDLER);
+        }
+
+        channel.attr(POOL).get().release(channel);
+    }
+
+    public void close() {
+        close(pools);
+        close(streamingPools);
+    }
+
+    private static void close(final ConcurrentMap<Route, ChannelPool> pools) {
+        for (ChannelPool pool : pools.values()) {
+            pool.close();
+        }
+        pools.clear();
+    }
+
+    private ScheduledFuture<?> scheduleTimeout(final EventLoop eventLoop,
+                                               final CompletableFuture<FullHttpResponse> response) {
+        long responseTimeout = config.getResponseTimeout();
+        if (responseTimeout <= 0) {
+            return null;
+        }
+
+        return eventLoop.schedule(() -> response.completeExceptionally(
+                new TimeoutException("Remote response timed out")), responseTimeout, TimeUnit.MILLISECONDS);
+    }
+
+    private Bootstrap bootstrap(final Route route) {
+        return new Bootstrap()
+                .group(route.eventLoop)
+                .channel(Transports.socketChannelClass(route.eventLoop))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) Math.min(Integer.MAX_VALUE,
+                        config.getConnectTimeout()))
+                .resolver(OffloadedAddressResolverGroup.INSTANCE)
+                .remoteAddress(InetSocketAddress.createUnresolved(route.host, route.port));
+    }
+
+    private ChannelPool newAggregatedPool(final Route route) {
+        return newPool(pools, route, channel -> {
+            ChannelPipeline pipeline = channel.pipeline();
+            pipeline.addLast("aggregator", new HttpObjectAggregator(Integer.MAX_VALUE));
+            pipeline.addLast("handler", new ProxyResponseHandler());
+        });
+    }
+
+    private ChannelPool newStreamingPool(final Route route) {
+        return newPool(streamingPools, route, channel -> channel.pipeline().addLast("idle-close", IDLE_CLOSER));
+    }
+
+    private ChannelPool newPool(final ConcurrentMap<Route, ChannelPool> routes, final Route route,
+                                final Consumer<Channel> initializer) {
+        ChannelPool pool = new FixedChannelPool(bootstrap(route), new AbstractChannelPoolHandler() {
+            @Override
+            public void channelCreated(final Channel channel) {
+                channel.pipeline().addLast("idle", new IdleStateHandler(0, 0, config.getIdleTimeout(),
+                        TimeUnit.MILLISECONDS));
+                addCodec(channel, route);
+                initializer.accept(channel);
+            }
+        }, config.getMaxPerRoute());
+
+        route.eventLoop.terminationFuture().addListener(future -> {
+            routes.remove(route);
+            pool.close();
+        });
+        return pool;
+    }
+
+    private void addCodec(final Channel channel, final Route route) {
+        ChannelPipeline pipeline = channel.pipeline();
+        if (route.secure) {
+            SslHandler handler = sslContext.newHandler(channel.alloc(), route.host, route.port);
+            if (!config.isTrustAll()) {
+                SSLParameters parameters = handler.engine().getSSLParameters();
+                parameters.setEndpointIdentificationAlgorithm("HTTPS");
+                handler.engine().setSSLParameters(parameters);
+            }
+
+            pipeline.addFirst("ssl", handler);
+        }
+
+        pipeline.addLast("codec", new HttpClientCodec());
+    }
+
+    private static SslContext createSslContext(final ProxyClientConfig config) {
+        SslContextBuilder builder = SslContextBuilder.forClient();
+        if (config.isTrustAll()) {
+            builder.trustManager(InsecureTrustManagerFactory.INSTANCE);
+        }
+
+        try {
+            return builder.build();
+        } catch (SSLException e) {
+            throw new MocoException(e);
+        }
+    }
+
+    @ChannelHandler.Sharable
+    private static final class IdleCloser extends ChannelInboundHandlerAdapter {
+        @Override
+        public void userEventTriggered(final ChannelHandlerContext ctx, final Object evt) {
+            if (evt instanceof IdleStateEvent && ctx.pipeline().get(STREAMING_HANDLER) == null) {
+                ctx.close();
+                return;
+            }
+
+            ctx.fireUserEventTriggered(evt);
+        }
+    }
+
+    private static final class ProxyResponseHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+        @Override
+        protected void channelRead0(final ChannelHandlerContext ctx, final FullHttpResponse msg) {
+            CompletableFuture<FullHttpResponse> response = ctx.channel().attr(PENDING_RESPONSE).getAndSet(null);
+            if (response != null && !response.complete(msg.retain())) {
+                msg.release();
+            }
+        }
+
+        @Override
+        public void userEventTriggered(final ChannelHandlerContext ctx, final Object evt) throws Exception {
+            if (evt instanceof IdleStateEvent && ctx.channel().attr(PENDING_RESPONSE).get() == null) {
+                ctx.close();
+                return;
+            }
+
+            super.userEventTriggered(ctx, evt);
+        }
+
+        @Override
+        public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+            fail(ctx, new ClosedChannelException());
+            super.channelInactive(ctx);
+        }
+
+        @Override
+        public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
+            fail(ctx, cause);
+            ctx.close();
+        }
+
+        private void fail(final ChannelHandlerContext ctx, final Throwable cause) {
+            CompletableFuture<FullHttpResponse> response = ctx.channel().attr(PENDING_RESPONSE).getAndSet(null);
+            if (response != null) {
+                response.completeExceptionally(cause);
+            }
+        }
+    }
+
+    private static final class Route {
+        private final EventLoop eventLoop;
+        private final String host;
+        private final int port;
+        private final boolean secure;
+
+        private Route(final EventLoop eventLoop, final URL url) {
+            this.eventLoop = eventLoop;
+            this.host = url.getHost();
+            this.port = url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+            this.secure = "https".equalsIgnoreCase(url.getProtocol());
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Route)) {
+                return false;
+            }
+
+            Route that = (Route) o;
+            return port == that.port
+                    && secure == that.secure
+                    && eventLoop == that.eventLoop
+                    && host.equals(that.host);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(eventLoop), host, port, secure);
+        }
+    }
+}
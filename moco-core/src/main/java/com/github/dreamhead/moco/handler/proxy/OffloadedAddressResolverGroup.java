@@ -0,0 +1,64 @@
+package com.github.dreamhead.moco.handler.proxy;
+
+import com.github.dreamhead.moco.util.MocoExecutors;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.InetNameResolver;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Promise;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+final class OffloadedAddressResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+    static final OffloadedAddressResolverGroup INSTANCE = new OffloadedAddressResolverGroup();
+
+    @Override
+    protected AddressResolver<InetSocketAddress> newResolver(final EventExecutor executor) {
+        return new OffloadedNameResolver(executor, MocoExecutors.io()).asAddressResolver();
+    }
+
+    private OffloadedAddressResolverGroup() {
+    }
+
+    private static final class OffloadedNameResolver extends InetNameResolver {
+        private final Executor lookupExecutor;
+
+        private OffloadedNameResolver(final EventExecutor executor, final Executor lookupExecutor) {
+            super(executor);
+            this.lookupExecutor = lookupExecutor;
+        }
+
+        @Override
+        protected void doResolve(final String inetHost, final Promise<InetAddress> promise) {
+            lookup(promise, () -> InetAddress.getByName(inetHost));
+        }
+
+        @Override
+        protected void doResolveAll(final String inetHost, final Promise<List<InetAddress>> promise) {
+            lookup(promise, () -> Arrays.asList(InetAddress.getAllByName(inetHost)));
+        }
+
+        private <T> void lookup(final Promise<T> promise, final Lookup<T> lookup) {
+            try {
+                lookupExecutor.execute(() -> {
+                    try {
+                        promise.trySuccess(lookup.get());
+                    } catch (Exception e) {
+                        promise.tryFailure(e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                promise.tryFailure(e);
+            }
+        }
+    }
+
+    private interface Lookup<T> {
+        T get() throws Exception;
+    }
+}
@@ -0,0 +1,162 @@
+package com.github.dreamhead.moco.handler.proxy;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+public final class ProxyClientConfig {
+    public static final ProxyClientConfig DEFAULT_CONFIG = builder().build();
+
+    private static final int DEFAULT_MAX_PER_ROUTE = 20;
+    private static final int DEFAULT_MAX_TOTAL = 200;
+    private static final long DEFAULT_IDLE_TIMEOUT = 30_000;
+    private static final long DEFAULT_CONNECT_TIMEOUT = 180_000;
+    private static final long NO_TIMEOUT = 0;
+
+    private final int maxPerRoute;
+    private final int maxTotal;
+    private final long idleTimeout;
+    private final long connectTimeout;
+    private final long responseTimeout;
+    private final boolean async;
+    private final boolean trustAll;
+
+    private ProxyClientConfig(final int maxPerRoute, final int maxTotal, final long idleTimeout,
+                              final long connectTimeout, final long responseTimeout, final boolean async,
+                              final boolean trustAll) {
+        this.maxPerRoute = maxPerRoute;
+        this.maxTotal = maxTotal;
+        this.idleTimeout = idleTimeout;
+        this.connectTimeout = connectTimeout;
+        this.responseTimeout = responseTimeout;
+        this.async = async;
+        this.trustAll = trustAll;
+    }
+
+    public int getMaxPerRoute() {
+        return maxPerRoute;
+    }
+
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public long getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public long getResponseTimeout() {
+        return responseTimeout;
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public boolean isTrustAll() {
+        return trustAll;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof ProxyClientConfig)) {
+            return false;
+        }
+
+        ProxyClientConfig that = (ProxyClientConfig) o;
+        return maxPerRoute == that.maxPerRoute
+                && maxTotal == that.maxTotal
+                && idleTimeout == that.idleTimeout
+                && connectTimeout == that.connectTimeout
+                && responseTimeout == that.responseTimeout
+                && async == that.async
+                && trustAll == that.trustAll;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxPerRoute, maxTotal, idleTimeout, connectTimeout, responseTimeout, async, trustAll);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("maxPerRoute", maxPerRoute)
+                .add("maxTotal", maxTotal)
+                .add("idleTimeout", idleTimeout)
+                .add("connectTimeout", connectTimeout)
+                .add("responseTimeout", responseTimeout)
+                .add("async", async)
+                .add("trustAll", trustAll)
+                .toString();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private int maxPerRoute = DEFAULT_MAX_PER_ROUTE;
+        private int maxTotal = DEFAULT_MAX_TOTAL;
+        private long idleTimeout = DEFAULT_IDLE_TIMEOUT;
+        private long connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+        private long responseTimeout = NO_TIMEOUT;
+        private boolean async;
+        private boolean trustAll = true;
+
+        public Builder withMaxPerRoute(final int maxPerRoute) {
+            checkArgument(maxPerRoute > 0, "Max connections per route must be greater than zero");
+            this.maxPerRoute = maxPerRoute;
+            return this;
+        }
+
+        public Builder withMaxTotal(final int maxTotal) {
+            checkArgument(maxTotal > 0, "Max total connections must be greater than zero");
+            this.maxTotal = maxTotal;
+            return this;
+        }
+
+        public Builder withIdleTimeout(final long idleTimeout) {
+            checkArgument(idleTimeout > 0, "Idle timeout must be greater than zero");
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        public Builder withConnectTimeout(final long connectTimeout) {
+            checkArgument(connectTimeout >= 0, "Connect timeout must not be negative");
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        public Builder withResponseTimeout(final long responseTimeout) {
+            checkArgument(responseTimeout >= 0, "Response timeout must not be negative");
+            this.responseTimeout = responseTimeout;
+            return this;
+        }
+
+        public Builder withAsync(final boolean async) {
+            this.async = async;
+            return this;
+        }
+
+        public Builder withTrustAll(final boolean trustAll) {
+            this.trustAll = trustAll;
+            return this;
+        }
+
+        public ProxyClientConfig build() {
+            return new ProxyClientConfig(maxPerRoute, Math.max(maxPerRoute, maxTotal),
+                    idleTimeout, connectTimeout, responseTimeout, async, trustAll);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.github.dreamhead.moco.handler.proxy;
+
+import com.github.dreamhead.moco.MocoException;
+import com.github.dreamhead.moco.server.ServerResources;
+import io.netty.util.concurrent.EventExecutorGroup;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.client5.http.ssl.TrustSelfSignedStrategy;
+import org.apache.hc.core5.ssl.SSLContextBuilder;
+import org.apache.hc.core5.util.TimeValue;
+
+import javax.net.ssl.SSLContext;
+import java.security.KeyManagementException;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+public final class ProxyClients {
+    private static final TimeValue VALIDATE_AFTER_INACTIVITY = TimeValue.ofSeconds(2);
+
+    private static final Map<Owner, CloseableHttpClient> CLIENTS = new ConcurrentHashMap<>();
+    private static final Map<Owner, NettyProxyClient> NETTY_CLIENTS = new ConcurrentHashMap<>();
+
+    public static CloseableHttpClient client(final ProxyClientConfig config) {
+        return client(null, config);
+    }
+
+    public static CloseableHttpClient client(final EventExecutorGroup server, final ProxyClientConfig config) {
+        return owned(CLIENTS, new Owner(server, config), ProxyClients::createClient, CloseableHttpClient::close);
+    }
+
+    public static NettyProxyClient nettyClient(final ProxyClientConfig config) {
+        return nettyClient(null, config);
+    }
+
+    public static NettyProxyClient nettyClient(final EventExecutorGroup server, final ProxyClientConfig config) {
+        return owned(NETTY_CLIENTS, new Owner(server, config), NettyProxyClient::new, NettyProxyClient::close);
+    }
+
+    private static <T> T owned(final Map<Owner, T> clients, final Owner owner,
+                               final Function<ProxyClientConfig, T> factory, final Closer<T> closer) {
+        T current = clients.get(owner);
+        if (current != null) {
+            return current;
+        }
+
+        T created = factory.apply(owner.config);
+        T existing = clients.putIfAbsent(owner, created);
+        if (existing != null) {
+            close(closer, created);
+            return existing;
+        }
+
+        AutoCloseable release = () -> {
+            clients.remove(owner, created);
+            closer.close(created);
+        };
+
+        if (owner.server == null) {
+            ServerResources.register(release);
+        } else {
+            owner.server.terminationFuture().addListener(future -> release.close());
+        }
+
+        return created;
+    }
+
+    private static <T> void close(final Closer<T> closer, final T client) {
+        try {
+            closer.close(client);
+        } catch (Exception e) {
+            throw new MocoException(e);
+        }
+    }
+
+    public static RequestConfig requestConfig(final ProxyClientConfig config) {
+        return RequestConfig.custom()
+                .setRedirectsEnabled(false)
+                .setConnectTimeout(config.getConnectTimeout(), TimeUnit.MILLISECONDS)
+                .setResponseTimeout(config.getResponseTimeout(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    private static CloseableHttpClient createClient(final ProxyClientConfig config) {
+        PoolingHttpClientConnectionManagerBuilder builder = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnPerRoute(config.getMaxPerRoute())
+                .setMaxConnTotal(config.getMaxTotal())
+                .setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY);
+        if (config.isTrustAll()) {
+            builder.setSSLSocketFactory(trustAllSocketFactory());
+        }
+
+        return HttpClients.custom()
+                .setConnectionManager(builder.build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(config.getIdleTimeout()))
+                .build();
+    }
+
+    private static SSLConnectionSocketFactory trustAllSocketFactory() {
+        // https://memorynotfound.com/ignore-certificate-errors-apache-httpclient/
+        try {
+            SSLContext sslContext = SSLContextBuilder.create()
+                    .loadTrustMaterial(new TrustSelfSignedStrategy())
+                    .build();
+            return new SSLConnectionSocketFactory(sslContext, new NoopHostnameVerifier());
+        } catch (NoSuchAlgorithmException | KeyManagementException | KeyStoreException e) {
+            throw new MocoException(e);
+        }
+    }
+
+    private interface Closer<T> {
+        void close(T client) throws Exception;
+    }
+
+    private static final class Owner {
+        private final EventExecutorGroup server;
+        private final ProxyClientConfig config;
+
+        private Owner(final EventExecutorGroup server, final ProxyClientConfig config) {
+            this.server = server;
+            this.config = config;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Owner)) {
+                return false;
+            }
+
+            Owner that = (Owner) o;
+            return server == that.server && config.equals(that.config);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(server), config);
+        }
+    }
+
+    private ProxyClients() {
+    }
+}
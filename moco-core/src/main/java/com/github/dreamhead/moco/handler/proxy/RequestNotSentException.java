@@ -0,0 +1,9 @@
+package com.github.dreamhead.moco.handler.proxy;
+
+import java.io.IOException;
+
+public final class RequestNotSentException extends IOException {
+    public RequestNotSentException(final Throwable cause) {
+        super("Request was not sent to remote server", cause);
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.dreamhead.moco.handler.proxy;
+
+import com.github.dreamhead.moco.ConfigApplier;
+import com.github.dreamhead.moco.MocoConfig;
+import io.netty.util.concurrent.EventExecutorGroup;
+
+import java.net.URL;
+
+import static com.github.dreamhead.moco.Moco.from;
+import static com.github.dreamhead.moco.util.URLs.toUrl;
+
+public final class StreamingProxy implements ConfigApplier<StreamingProxy> {
+    private final ProxyConfig proxyConfig;
+    private final ProxyClientConfig clientConfig;
+
+    public StreamingProxy(final ProxyConfig proxyConfig, final ProxyClientConfig clientConfig) {
+        this.proxyConfig = proxyConfig;
+        this.clientConfig = clientConfig;
+    }
+
+    public boolean canAccessedBy(final String uri) {
+        return proxyConfig.canAccessedBy(uri);
+    }
+
+    public URL remoteUrl(final String uri) {
+        return toUrl(proxyConfig.remoteUrl(uri));
+    }
+
+    public NettyProxyClient client(final EventExecutorGroup server) {
+        return ProxyClients.nettyClient(server, clientConfig);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public StreamingProxy apply(final MocoConfig config) {
+        if (config.isFor(MocoConfig.URI_ID)) {
+            String newLocalBase = (String) config.apply(proxyConfig.localBase());
+            return new StreamingProxy(from(newLocalBase).to(proxyConfig.remoteBase()), clientConfig);
+        }
+
+        return this;
+    }
+}
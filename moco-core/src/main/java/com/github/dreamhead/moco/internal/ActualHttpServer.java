@@ -7,31 +7,37 @@ import com.github.dreamhead.moco.RequestMatcher;
 import com.github.dreamhead.moco.WebSocketServer;
 import com.github.dreamhead.moco.dumper.HttpRequestDumper;
 import com.github.dreamhead.moco.dumper.HttpResponseDumper;
+import com.github.dreamhead.moco.handler.proxy.ProxyClientConfig;
+import com.github.dreamhead.moco.handler.proxy.ProxyConfig;
+import com.github.dreamhead.moco.handler.proxy.StreamingProxy;
+import com.github.dreamhead.moco.monitor.AsyncMonitor;
 import com.github.dreamhead.moco.monitor.QuietMonitor;
 import com.github.dreamhead.moco.monitor.Slf4jMonitor;
 import com.github.dreamhead.moco.monitor.ThreadSafeMonitor;
+import com.github.dreamhead.moco.server.TransportConfig;
 import com.github.dreamhead.moco.setting.HttpSetting;
 import com.github.dreamhead.moco.websocket.ActualWebSocketServer;
-import io.netty.handler.ssl.SslHandler;
+import com.google.common.collect.ImmutableList;
+import io.netty.handler.ssl.SslContext;
 
-import javax.net.ssl.SSLEngine;
+import java.util.List;
 import java.util.Optional;
 
 import static com.github.dreamhead.moco.util.Preconditions.checkNotNullOrEmpty;
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Lists.newArrayList;
 
 public class ActualHttpServer extends HttpConfiguration<ActualHttpServer> {
-    private static final int MAX_HEADER_SIZE = 8192;
-    private static final int MAX_CONTENT_LENGTH = 1048576;
-
     private final HttpsCertificate certificate;
     private final ServerConfig serverConfig;
     private ActualWebSocketServer websocketServer;
+    private final List<StreamingProxy> streamingProxies = newArrayList();
 
     protected ActualHttpServer(final int port,
                                final HttpsCertificate certificate,
                                final MocoMonitor monitor, final MocoConfig<?>... configs) {
-        this(port, certificate, monitor, new ServerConfig(MAX_HEADER_SIZE, MAX_CONTENT_LENGTH), configs);
+        this(port, certificate, monitor, new ServerConfig(TransportConfig.DEFAULT_CONFIG), configs);
     }
 
     protected ActualHttpServer(final int port,
@@ -52,26 +58,30 @@ public class ActualHttpServer extends HttpConfiguration<ActualHttpServer> {
         return certificate != null;
     }
 
-    public final SslHandler getRequiredSslHandler() {
+    public final SslContext getRequiredSslContext() {
         if (this.certificate == null) {
             throw new IllegalArgumentException();
         }
 
-        return asSslHandler(certificate);
-    }
+        if (serverConfig.getHttp2Config().isEnabled()) {
+            return certificate.getHttp2SslContext();
+        }
 
-    private SslHandler asSslHandler(final HttpsCertificate certificate) {
-        SSLEngine sslEngine = certificate.createSSLEngine();
-        sslEngine.setUseClientMode(false);
-        return new SslHandler(sslEngine);
+        return certificate.getSslContext();
     }
 
     protected final ActualHttpServer createMergeServer(final ActualHttpServer thatServer) {
-        return newBaseServer(mergePort(this, thatServer).orElse(0), isQuiet(this, thatServer), mergedCertificate(this.certificate, thatServer.certificate));
+        return new ActualHttpServer(mergePort(this, thatServer).orElse(0),
+                mergedCertificate(this.certificate, thatServer.certificate), mergedMonitor(this, thatServer),
+                this.serverConfig);
     }
 
-    private boolean isQuiet(final ActualHttpServer thisServer, final ActualHttpServer thatServer) {
-        return thisServer.isQuiet() && thatServer.isQuiet();
+    private MocoMonitor mergedMonitor(final ActualHttpServer thisServer, final ActualHttpServer thatServer) {
+        if (thisServer.isQuiet() && !thatServer.isQuiet()) {
+            return thatServer.getMonitor();
+        }
+
+        return thisServer.getMonitor();
     }
 
     private Optional<Integer> mergePort(final ActualHttpServer thisServer, final ActualHttpServer thatServer) {
@@ -92,14 +102,6 @@ public class ActualHttpServer extends HttpConfiguration<ActualHttpServer> {
         return other;
     }
 
-    private ActualHttpServer newBaseServer(final int port, final boolean quite, final HttpsCertificate certificate) {
-        if (certificate != null) {
-            return createHttpsServer(port, quite, certificate);
-        }
-
-        return createHttpServer(port, quite);
-    }
-
     public static ActualHttpServer createHttpsServer(final int port, final boolean quite,
                                                       final HttpsCertificate certificate) {
         if (quite) {
@@ -120,7 +122,40 @@ public class ActualHttpServer extends HttpConfiguration<ActualHttpServer> {
     public static ActualHttpServer createHttpServerWithMonitor(final int port,
                                                                final MocoMonitor monitor,
                                                                final MocoConfig<?>... configs) {
-        return new ActualHttpServer(port, null, new ThreadSafeMonitor(monitor), configs);
+        return new ActualHttpServer(port, null, threadSafe(monitor), configs);
+    }
+
+    public static ActualHttpServer createHttpsServer(final int port, final boolean quiet,
+                                                     final HttpsCertificate certificate,
+                                                     final ServerConfig serverConfig) {
+        return createHttpsServer(port, certificate, defaultMonitor(quiet), serverConfig);
+    }
+
+    public static ActualHttpServer createHttpServer(final int port, final boolean quiet,
+                                                    final ServerConfig serverConfig) {
+        return createHttpServerWithMonitor(port, defaultMonitor(quiet), serverConfig);
+    }
+
+    public static ActualHttpServer createHttpServerWithMonitor(final int port,
+                                                               final MocoMonitor monitor,
+                                                               final ServerConfig serverConfig) {
+        return new ActualHttpServer(port, null, threadSafe(monitor), serverConfig);
+    }
+
+    private static MocoMonitor defaultMonitor(final boolean quiet) {
+        if (quiet) {
+            return new QuietMonitor();
+        }
+
+        return new Slf4jMonitor(new HttpRequestDumper(), new HttpResponseDumper());
+    }
+
+    private static MocoMonitor threadSafe(final MocoMonitor monitor) {
+        if (monitor instanceof AsyncMonitor) {
+            return monitor;
+        }
+
+        return new ThreadSafeMonitor(monitor);
     }
 
     public static ActualHttpServer createHttpServer(final int port, final boolean quiet, final MocoConfig<?>[] configs) {
@@ -184,6 +219,17 @@ public class ActualHttpServer extends HttpConfiguration<ActualHttpServer> {
     @Override
     protected final void addExtension(final ActualHttpServer server) {
         this.websocketServer = server.websocketServer;
+        this.streamingProxies.addAll(server.getStreamingProxies());
+    }
+
+    @Override
+    public final void streamProxy(final ProxyConfig proxyConfig, final ProxyClientConfig clientConfig) {
+        this.streamingProxies.add(new StreamingProxy(checkNotNull(proxyConfig, "Proxy config should not be null"),
+                checkNotNull(clientConfig, "Proxy client config should not be null")));
+    }
+
+    public final ImmutableList<StreamingProxy> getStreamingProxies() {
+        return configured(streamingProxies);
     }
 
     @Override
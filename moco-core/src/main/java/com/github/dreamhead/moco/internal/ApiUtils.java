@@ -21,6 +21,7 @@ import com.github.dreamhead.moco.matcher.XmlStructRequestMatcher;
 import com.github.dreamhead.moco.monitor.CompositeMonitor;
 import com.github.dreamhead.moco.monitor.DefaultLogFormatter;
 import com.github.dreamhead.moco.monitor.FileLogWriter;
+import com.github.dreamhead.moco.monitor.LogConfig;
 import com.github.dreamhead.moco.monitor.LogMonitor;
 import com.github.dreamhead.moco.monitor.LogWriter;
 import com.github.dreamhead.moco.resource.ContentResource;
@@ -67,6 +68,10 @@ public final class ApiUtils {
         return new FileLogWriter(filename, charset);
     }
 
+    public static LogWriter fileLogWriter(final String filename, final Charset charset, final LogConfig config) {
+        return new FileLogWriter(filename, charset, config);
+    }
+
     public static MocoMonitor log(final LogWriter writer) {
         return new LogMonitor(new DefaultLogFormatter(), writer);
     }
@@ -4,16 +4,20 @@ import com.github.dreamhead.moco.ConfigApplier;
 import com.github.dreamhead.moco.MocoConfig;
 import com.github.dreamhead.moco.MocoEventTrigger;
 import com.github.dreamhead.moco.MocoMonitor;
+import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.RequestMatcher;
 import com.github.dreamhead.moco.Response;
 import com.github.dreamhead.moco.ResponseHandler;
 import com.github.dreamhead.moco.ResponseSetting;
+import com.github.dreamhead.moco.metrics.ServerMetrics;
+import com.github.dreamhead.moco.monitor.Monitors;
 import com.github.dreamhead.moco.server.ServerSetting;
 import com.github.dreamhead.moco.setting.Setting;
 import com.google.common.collect.ImmutableList;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.github.dreamhead.moco.RequestMatcher.ANY_REQUEST_MATCHER;
 import static com.github.dreamhead.moco.util.Configs.configItem;
@@ -29,13 +33,17 @@ public abstract class BaseActualServer<T extends ResponseSetting<T>, U extends B
     private final List<Setting<T>> settings = newArrayList();
     private int port;
     private RequestMatcher anyMatcher = ANY_REQUEST_MATCHER;
-    private Responser<T> responser;
+    private final ServerMetrics metrics = new ServerMetrics();
+    private final Responser<T> responser;
+    private volatile boolean frozen;
+    private volatile FrozenSettings<T> frozenSettings;
+    private final AtomicLong version = new AtomicLong();
 
     public BaseActualServer(final int port, final MocoMonitor monitor, final MocoConfig<?>[] configs) {
         this.port = port;
         this.monitor = monitor;
         this.configs = configs;
-        this.responser = new Responser<>(this);
+        this.responser = new Responser<>(this, metrics);
     }
 
     @Override
@@ -52,13 +60,50 @@ public abstract class BaseActualServer<T extends ResponseSetting<T>, U extends B
     }
 
     public final ImmutableList<Setting<T>> getSettings() {
+        if (frozen) {
+            return frozenSettings().getSettings();
+        }
+
         return configItems(settings, configs);
     }
 
     public final Setting<T> getAnySetting() {
+        if (frozen) {
+            return frozenSettings().getAnySetting();
+        }
+
         return configuredAnySetting();
     }
 
+    @Override
+    public final void freeze() {
+        this.frozen = true;
+        this.invalidate();
+    }
+
+    @Override
+    public final void release() {
+        Monitors.close(this.monitor);
+    }
+
+    @Override
+    protected final void invalidate() {
+        this.version.incrementAndGet();
+        this.frozenSettings = null;
+        this.responser.reset();
+    }
+
+    private FrozenSettings<T> frozenSettings() {
+        long currentVersion = this.version.get();
+        FrozenSettings<T> current = this.frozenSettings;
+        if (current == null || !current.isCurrent(currentVersion)) {
+            current = new FrozenSettings<>(configItems(settings, configs), configuredAnySetting(), currentVersion);
+            this.frozenSettings = current;
+        }
+
+        return current;
+    }
+
     private Setting<T> configuredAnySetting() {
         Setting<T> setting = newSetting(configuredAnyMatcher());
         if (this.handler != null) {
@@ -82,18 +127,31 @@ public abstract class BaseActualServer<T extends ResponseSetting<T>, U extends B
         this.monitor.onException(cause);
     }
 
+    public final void onMessageArrived(final Request request) {
+        metrics.request();
+        monitor.onMessageArrived(request);
+    }
+
+    public final void onMessageLeave(final Response response) {
+        monitor.onMessageLeave(response);
+    }
+
     protected final void addSetting(final Setting<T> setting) {
         this.settings.add(setting);
+        setting.onChange(this::invalidate);
+        this.invalidate();
     }
 
     protected final void addEvents(final List<MocoEventTrigger> eventTriggers) {
         this.eventTriggers.addAll(eventTriggers);
+        this.invalidate();
     }
 
     protected final void anySetting(final RequestMatcher anyMatcher, final ResponseHandler handler) {
         if (handler != null) {
             this.response(handler);
             this.anyMatcher = anyMatcher;
+            this.invalidate();
         }
     }
 
@@ -107,6 +165,10 @@ public abstract class BaseActualServer<T extends ResponseSetting<T>, U extends B
         return configItem(source, this.configs);
     }
 
+    protected final <V extends ConfigApplier<V>> ImmutableList<V> configured(final List<V> items) {
+        return configItems(items, this.configs);
+    }
+
     protected final RequestMatcher configuredAnyMatcher() {
         return configured(this.anyMatcher);
     }
@@ -139,12 +201,18 @@ public abstract class BaseActualServer<T extends ResponseSetting<T>, U extends B
 
     public final Optional<Response> getResponse(final SessionContext context) {
         try {
+            metrics.request();
             monitor.onMessageArrived(context.getRequest());
             Optional<Response> response = responser.getResponse(context);
 
             if (response.isPresent()) {
-                monitor.onMessageLeave(context.getResponse());
+                context.onReady(() -> monitor.onMessageLeave(context.getResponse()));
+                context.whenReady().exceptionally(cause -> {
+                    monitor.onException(cause);
+                    return null;
+                });
             } else {
+                metrics.unexpected();
                 monitor.onUnexpectedMessage(context.getRequest());
             }
             return response;
@@ -157,4 +225,13 @@ public abstract class BaseActualServer<T extends ResponseSetting<T>, U extends B
     public boolean isQuiet() {
         return this.monitor.isQuiet();
     }
+
+    @Override
+    public final ServerMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    protected final MocoMonitor getMonitor() {
+        return this.monitor;
+    }
 }
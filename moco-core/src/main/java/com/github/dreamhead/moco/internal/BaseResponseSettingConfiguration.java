@@ -32,9 +32,13 @@ public abstract class BaseResponseSettingConfiguration<T extends ResponseSetting
         ResponseHandler responseHandler = and(checkNotNull(handler, "Handler should not be null"),
                 checkNotNull(handlers, "Handlers should not be null"));
         this.handler = targetHandler(responseHandler);
+        this.invalidate();
         return self();
     }
 
+    protected void invalidate() {
+    }
+
     private ResponseHandler targetHandler(final ResponseHandler responseHandler) {
         if (this.handler == null) {
             return responseHandler;
@@ -46,6 +50,7 @@ public abstract class BaseResponseSettingConfiguration<T extends ResponseSetting
     @Override
     public final T on(final MocoEventTrigger trigger) {
         this.eventTriggers.add(checkNotNull(trigger, "Trigger should not be null"));
+        this.invalidate();
         return self();
     }
 }
@@ -0,0 +1,56 @@
+package com.github.dreamhead.moco.internal;
+
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+public final class DeferredWrites {
+    private static final AttributeKey<CompletableFuture<Void>> PENDING_WRITE =
+            AttributeKey.valueOf("moco.pending.write");
+    private static final ChannelFutureListener NOTHING = future -> {
+    };
+
+    public static void write(final ChannelHandlerContext ctx, final Object message, final long latency) {
+        write(ctx, CompletableFuture.completedFuture(message), latency, NOTHING);
+    }
+
+    public static void write(final ChannelHandlerContext ctx, final CompletableFuture<?> message,
+                             final long latency) {
+        write(ctx, message, latency, NOTHING);
+    }
+
+    public static void write(final ChannelHandlerContext ctx, final CompletableFuture<?> message,
+                             final long latency, final ChannelFutureListener listener) {
+        Attribute<CompletableFuture<Void>> pending = ctx.channel().attr(PENDING_WRITE);
+        CompletableFuture<Void> previous = pending.get();
+        boolean previousDone = previous == null || previous.isDone();
+        if (latency <= 0 && previousDone && message.isDone()) {
+            ctx.write(message.join()).addListener(listener);
+            return;
+        }
+
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        long deadline = System.nanoTime() + latency;
+        CompletableFuture<?> ready = message;
+        if (!previousDone) {
+            ready = CompletableFuture.allOf(previous, message);
+        }
+
+        ready.whenComplete((ignored, cause) -> ctx.executor().schedule(() -> {
+            try {
+                ctx.writeAndFlush(message.join()).addListener(listener);
+            } finally {
+                written.complete(null);
+            }
+        }, Math.max(0, deadline - System.nanoTime()), NANOSECONDS));
+        pending.set(written);
+    }
+
+    private DeferredWrites() {
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.dreamhead.moco.internal;
+
+import com.github.dreamhead.moco.ResponseSetting;
+import com.github.dreamhead.moco.setting.Setting;
+import com.google.common.collect.ImmutableList;
+
+public final class FrozenSettings<T extends ResponseSetting<T>> {
+    private final ImmutableList<Setting<T>> settings;
+    private final Setting<T> anySetting;
+    private final long version;
+
+    public FrozenSettings(final ImmutableList<Setting<T>> settings, final Setting<T> anySetting,
+                          final long version) {
+        this.settings = settings;
+        this.anySetting = anySetting;
+        this.version = version;
+    }
+
+    public ImmutableList<Setting<T>> getSettings() {
+        return settings;
+    }
+
+    public Setting<T> getAnySetting() {
+        return anySetting;
+    }
+
+    public boolean isCurrent(final long currentVersion) {
+        return version == currentVersion;
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.dreamhead.moco.internal;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2Exception;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2LocalFlowController;
+import io.netty.handler.codec.http2.Http2Stream;
+
+final class Http2ConnectionWindowHandler extends ChannelInboundHandlerAdapter {
+    private final Http2FrameCodec frameCodec;
+    private final int windowSize;
+
+    Http2ConnectionWindowHandler(final Http2FrameCodec frameCodec, final int windowSize) {
+        this.frameCodec = frameCodec;
+        this.windowSize = windowSize;
+    }
+
+    @Override
+    public void handlerAdded(final ChannelHandlerContext ctx) throws Http2Exception {
+        Http2Connection connection = frameCodec.connection();
+        Http2Stream stream = connection.connectionStream();
+        Http2LocalFlowController controller = connection.local().flowController();
+        int delta = windowSize - controller.windowSize(stream);
+        if (delta > 0) {
+            controller.incrementWindowSize(stream, delta);
+            ctx.flush();
+        }
+
+        ctx.pipeline().remove(this);
+    }
+}
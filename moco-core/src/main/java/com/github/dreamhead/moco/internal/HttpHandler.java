@@ -9,6 +9,8 @@ import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 
 import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static com.github.dreamhead.moco.model.DefaultMutableHttpResponse.newResponse;
 import static io.netty.handler.codec.http.HttpUtil.isContentLengthSet;
@@ -25,19 +27,43 @@ public class HttpHandler {
         this.server = server;
     }
 
-    public final FullHttpResponse handleRequest(ChannelHandlerContext ctx, final FullHttpRequest message) {
+    public final void handleRequest(final ChannelHandlerContext ctx, final FullHttpRequest message) {
         final InetSocketAddress address = (InetSocketAddress) ctx.channel().remoteAddress();
         HttpRequest request = DefaultHttpRequest.newRequest(message, address.getAddress().getHostAddress());
-        DefaultMutableHttpResponse httpResponse = getHttpResponse(request);
-        FullHttpResponse response = httpResponse.toFullResponse();
-        prepareForKeepAlive(message, response);
-        return response;
+        SessionContext context = new SessionContext(request, newResponse(request, DEFAULT_STATUS));
+        context.deferOn(ctx.channel().eventLoop());
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        context.writtenWhen(written);
+        boolean keepAlive = isKeepAlive(message);
+        DefaultMutableHttpResponse httpResponse = doGetResponse(request, context);
+        CompletableFuture<FullHttpResponse> response = context.whenReady().handle((ignored, cause) -> {
+            if (cause != null) {
+                return toFullResponse(newResponse(request, HttpResponseStatus.BAD_REQUEST.code()), keepAlive);
+            }
+
+            return toFullResponse(httpResponse, keepAlive);
+        });
+
+        long latency = context.getLatency(TimeUnit.NANOSECONDS);
+        if (keepAlive) {
+            DeferredWrites.write(ctx, response, latency, future -> written.complete(null));
+            return;
+        }
+
+        DeferredWrites.write(ctx, response, latency, future -> {
+            written.complete(null);
+            future.channel().close();
+        });
     }
 
-    private DefaultMutableHttpResponse getHttpResponse(final HttpRequest request) {
-        DefaultMutableHttpResponse httpResponse = newResponse(request, DEFAULT_STATUS);
-        SessionContext context = new SessionContext(request, httpResponse);
-        return doGetResponse(request, context);
+    private FullHttpResponse toFullResponse(final DefaultMutableHttpResponse httpResponse, final boolean keepAlive) {
+        FullHttpResponse response = httpResponse.toFullResponse();
+        if (keepAlive) {
+            setKeepAlive(response, true);
+            setContentLengthForKeepAlive(response);
+        }
+
+        return response;
     }
 
     private DefaultMutableHttpResponse doGetResponse(final HttpRequest request, final SessionContext context) {
@@ -56,11 +82,4 @@ public class HttpHandler {
             setContentLength(response, response.content().writerIndex());
         }
     }
-
-    private void prepareForKeepAlive(final FullHttpRequest request, final FullHttpResponse response) {
-        if (isKeepAlive(request)) {
-            setKeepAlive(response, true);
-            setContentLengthForKeepAlive(response);
-        }
-    }
 }
@@ -1,6 +1,8 @@
 package com.github.dreamhead.moco.internal;
 
 import com.github.dreamhead.moco.MocoException;
+import com.github.dreamhead.moco.server.TransportConfig;
+import com.github.dreamhead.moco.server.Transports;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
@@ -8,15 +10,13 @@ import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
 
 public class MocoClient {
     public final void run(final String host, final int port, final ChannelHandler pipelineFactory) {
-        EventLoopGroup group = new NioEventLoopGroup();
+        EventLoopGroup group = Transports.newEventLoopGroup(TransportConfig.Transport.AUTO);
         Bootstrap bootstrap = new Bootstrap();
         bootstrap.group(group)
-                .channel(NioSocketChannel.class)
+                .channel(Transports.socketChannelClass(group))
                 .remoteAddress(host, port)
                 .option(ChannelOption.TCP_NODELAY, true)
                 .handler(pipelineFactory);
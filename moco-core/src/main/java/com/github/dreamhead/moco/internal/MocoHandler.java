@@ -1,20 +1,16 @@
 package com.github.dreamhead.moco.internal;
 
 import com.github.dreamhead.moco.util.Strings;
-import io.netty.channel.ChannelFuture;
-import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.FullHttpRequest;
-import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.websocketx.WebSocketFrame;
 
 import static com.google.common.net.HttpHeaders.UPGRADE;
 import static io.netty.channel.ChannelHandler.Sharable;
-import static io.netty.handler.codec.http.HttpUtil.isKeepAlive;
 
 @Sharable
 public final class MocoHandler extends SimpleChannelInboundHandler<Object> {
@@ -52,8 +48,7 @@ public final class MocoHandler extends SimpleChannelInboundHandler<Object> {
         }
 
         if (!upgradeWebsocket(request)) {
-            FullHttpResponse response = httpHandler.handleRequest(ctx, request);
-            closeIfNotKeepAlive(request, ctx.write(response));
+            httpHandler.handleRequest(ctx, request);
             return;
         }
 
@@ -74,12 +69,6 @@ public final class MocoHandler extends SimpleChannelInboundHandler<Object> {
         ctx.flush();
     }
 
-    private void closeIfNotKeepAlive(final FullHttpRequest request, final ChannelFuture future) {
-        if (!isKeepAlive(request)) {
-            future.addListener(ChannelFutureListener.CLOSE);
-        }
-    }
-
     @Override
     public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
         server.onException(cause);
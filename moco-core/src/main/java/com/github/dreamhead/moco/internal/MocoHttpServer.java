@@ -1,16 +1,42 @@
 package com.github.dreamhead.moco.internal;
 
+import com.github.dreamhead.moco.handler.proxy.StreamingProxy;
+import com.github.dreamhead.moco.server.Http2Config;
 import com.github.dreamhead.moco.server.ServerConfiguration;
 import com.github.dreamhead.moco.server.ServerSetting;
+import com.github.dreamhead.moco.server.TransportConfig;
+import com.google.common.collect.ImmutableList;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMessage;
 import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpServerUpgradeHandler;
+import io.netty.handler.codec.http2.CleartextHttp2ServerUpgradeHandler;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2ServerUpgradeCodec;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.codec.http2.HttpConversionUtil;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
+import io.netty.handler.ssl.SslContext;
+import io.netty.util.AsciiString;
 
 public class MocoHttpServer implements ServerConfiguration {
     private static final int MAX_INITIAL_LINE_LENGTH = 4096;
     private static final int MAX_CHUNK_SIZE = 8192;
+    private static final ChannelHandler EXTENSION_HEADERS = new ExtensionHeaderRemover();
     private final ActualHttpServer serverSetting;
 
     public MocoHttpServer(final ActualHttpServer serverSetting) {
@@ -22,24 +48,161 @@ public class MocoHttpServer implements ServerConfiguration {
         return this.serverSetting;
     }
 
+    @Override
+    public final TransportConfig transportConfig() {
+        return serverSetting.getServerConfig().getTransportConfig();
+    }
+
     @Override
     public final ChannelInitializer<SocketChannel> channelInitializer() {
+        final SslContext sslContext = serverSetting.isSecure() ? serverSetting.getRequiredSslContext() : null;
+        final Http2Config http2Config = serverSetting.getServerConfig().getHttp2Config();
         return new ChannelInitializer<SocketChannel>() {
             @Override
             protected void initChannel(final SocketChannel ch) {
                 ChannelPipeline pipeline = ch.pipeline();
 
-                if (serverSetting.isSecure()) {
-                    pipeline.addFirst("ssl", serverSetting.getRequiredSslHandler());
+                if (sslContext != null) {
+                    pipeline.addFirst("ssl", sslContext.newHandler(ch.alloc()));
                 }
 
-                ServerConfig serverConfig = serverSetting.getServerConfig();
-                pipeline.addLast("codec", new HttpServerCodec(MAX_INITIAL_LINE_LENGTH,
-                        serverConfig.getHeaderSize(),
-                        MAX_CHUNK_SIZE, false));
-                pipeline.addLast("aggregator", new HttpObjectAggregator(serverConfig.getContentLength()));
-                pipeline.addLast("handler", new MocoHandler(serverSetting));
+                if (!http2Config.isEnabled()) {
+                    pipeline.addLast("codec", newCodec());
+                    addHttpHandlers(pipeline);
+                    return;
+                }
+
+                if (sslContext != null) {
+                    pipeline.addLast("alpn", new AlpnHandler(http2Config));
+                    return;
+                }
+
+                addCleartextHandlers(pipeline, http2Config);
             }
         };
     }
+
+    private HttpServerCodec newCodec() {
+        return new HttpServerCodec(MAX_INITIAL_LINE_LENGTH,
+                serverSetting.getServerConfig().getHeaderSize(),
+                MAX_CHUNK_SIZE, false);
+    }
+
+    private void addHttpHandlers(final ChannelPipeline pipeline) {
+        ImmutableList<StreamingProxy> streamingProxies = serverSetting.getStreamingProxies();
+        if (!streamingProxies.isEmpty()) {
+            pipeline.addLast("streaming", new StreamingProxyHandler(serverSetting, streamingProxies));
+        }
+
+        pipeline.addLast("aggregator", new HttpObjectAggregator(serverSetting.getServerConfig().getContentLength()));
+        pipeline.addLast("handler", new MocoHandler(serverSetting));
+    }
+
+    private void addCleartextHandlers(final ChannelPipeline pipeline, final Http2Config config) {
+        HttpServerCodec codec = newCodec();
+        HttpServerUpgradeHandler upgradeHandler = new HttpServerUpgradeHandler(codec, protocol -> {
+            if (AsciiString.contentEquals(Http2CodecUtil.HTTP_UPGRADE_PROTOCOL_NAME, protocol)) {
+                Http2FrameCodec frameCodec = newFrameCodec(config);
+                return new Http2ServerUpgradeCodec(frameCodec, newMultiplexHandler(),
+                        new Http2ConnectionWindowHandler(frameCodec, config.getConnectionWindowSize()));
+            }
+
+            return null;
+        }, serverSetting.getServerConfig().getContentLength());
+
+        pipeline.addLast("codec", new CleartextHttp2ServerUpgradeHandler(codec, upgradeHandler,
+                new ChannelInitializer<Channel>() {
+                    @Override
+                    protected void initChannel(final Channel channel) {
+                        addHttp2Handlers(channel.pipeline(), config);
+                    }
+                }));
+        pipeline.addLast("http1", new Http1Initializer());
+    }
+
+    private void addHttp2Handlers(final ChannelPipeline pipeline, final Http2Config config) {
+        Http2FrameCodec frameCodec = newFrameCodec(config);
+        pipeline.addLast("http2", frameCodec);
+        pipeline.addLast("multiplex", newMultiplexHandler());
+        pipeline.addLast("window", new Http2ConnectionWindowHandler(frameCodec, config.getConnectionWindowSize()));
+    }
+
+    private Http2FrameCodec newFrameCodec(final Http2Config config) {
+        return Http2FrameCodecBuilder.forServer()
+                .initialSettings(Http2Settings.defaultSettings()
+                        .maxConcurrentStreams(config.getMaxConcurrentStreams())
+                        .initialWindowSize(config.getInitialWindowSize())
+                        .maxHeaderListSize(serverSetting.getServerConfig().getHeaderSize()))
+                .build();
+    }
+
+    private ChannelHandler newMultiplexHandler() {
+        return new Http2MultiplexHandler(new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(final Channel stream) {
+                ChannelPipeline pipeline = stream.pipeline();
+                pipeline.addLast("codec", new Http2StreamFrameToHttpObjectCodec(true));
+                pipeline.addLast("extension", EXTENSION_HEADERS);
+                addHttpHandlers(pipeline);
+            }
+        });
+    }
+
+    @ChannelHandler.Sharable
+    private static final class ExtensionHeaderRemover extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+            if (msg instanceof HttpRequest) {
+                HttpHeaders headers = ((HttpRequest) msg).headers();
+                for (HttpConversionUtil.ExtensionHeaderNames name : HttpConversionUtil.ExtensionHeaderNames.values()) {
+                    headers.remove(name.text());
+                }
+            }
+
+            ctx.fireChannelRead(msg);
+        }
+    }
+
+    private final class Http1Initializer extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+            if (msg instanceof HttpMessage) {
+                addHttpHandlers(ctx.pipeline());
+                ctx.pipeline().remove(this);
+            }
+
+            ctx.fireChannelRead(msg);
+        }
+
+        @Override
+        public void userEventTriggered(final ChannelHandlerContext ctx, final Object evt) {
+            if (evt instanceof HttpServerUpgradeHandler.UpgradeEvent
+                    || evt instanceof CleartextHttp2ServerUpgradeHandler.PriorKnowledgeUpgradeEvent) {
+                ctx.pipeline().remove(this);
+            }
+
+            ctx.fireUserEventTriggered(evt);
+        }
+    }
+
+    private final class AlpnHandler extends ApplicationProtocolNegotiationHandler {
+        private final Http2Config config;
+
+        private AlpnHandler(final Http2Config config) {
+            super(ApplicationProtocolNames.HTTP_1_1);
+            this.config = config;
+        }
+
+        @Override
+        protected void configurePipeline(final ChannelHandlerContext ctx, final String protocol) {
+            ChannelPipeline pipeline = ctx.pipeline();
+            if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+                addHttp2Handlers(pipeline, config);
+                return;
+            }
+
+            pipeline.addLast("codec", newCodec());
+            addHttpHandlers(pipeline);
+        }
+    }
 }
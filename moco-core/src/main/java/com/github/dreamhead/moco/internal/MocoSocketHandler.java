@@ -14,6 +14,7 @@ import io.netty.channel.SimpleChannelInboundHandler;
 
 import java.net.InetSocketAddress;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static com.github.dreamhead.moco.model.MessageContent.content;
 import static io.netty.channel.ChannelHandler.Sharable;
@@ -33,10 +34,12 @@ public final class MocoSocketHandler extends SimpleChannelInboundHandler<ByteBuf
         MessageContent content = content().withContent(new ByteBufInputStream(msg)).build();
         SocketRequest request = new DefaultSocketRequest(content, address.getAddress().getHostAddress());
         SessionContext context = new SessionContext(request, new DefaultSocketResponse());
+        context.deferOn(ctx.channel().eventLoop());
         Optional<Response> response = server.getResponse(context);
         Response actual = response.orElseThrow(() ->
                 new MocoException(format("No handler found for request: %s", context.getRequest().getContent())));
-        ctx.write(ByteBufs.toByteBuf(actual.getContent().getContent()));
+        DeferredWrites.write(ctx, ByteBufs.toByteBuf(actual.getContent().getContent()),
+                context.getLatency(TimeUnit.NANOSECONDS));
     }
 
     @Override
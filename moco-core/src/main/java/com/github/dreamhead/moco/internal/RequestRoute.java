@@ -0,0 +1,164 @@
+package com.github.dreamhead.moco.internal;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.Request;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+public final class RequestRoute {
+    public static final RequestRoute ANY = new RequestRoute(null, null, null, ImmutableSet.of());
+
+    private final String uri;
+    private final String uriPrefix;
+    private final String method;
+    private final ImmutableSet<String> headers;
+
+    private RequestRoute(final String uri, final String uriPrefix, final String method,
+                         final ImmutableSet<String> headers) {
+        this.uri = uri;
+        this.uriPrefix = uriPrefix;
+        this.method = method;
+        this.headers = headers;
+    }
+
+    public static RequestRoute uri(final String uri) {
+        return new RequestRoute(uri, null, null, ImmutableSet.of());
+    }
+
+    public static RequestRoute uriPrefix(final String prefix) {
+        if (Strings.isNullOrEmpty(prefix)) {
+            return ANY;
+        }
+
+        return new RequestRoute(null, prefix, null, ImmutableSet.of());
+    }
+
+    public static RequestRoute method(final String method) {
+        return new RequestRoute(null, null, method, ImmutableSet.of());
+    }
+
+    public static RequestRoute header(final String name) {
+        return new RequestRoute(null, null, null, ImmutableSet.of(name.toLowerCase(Locale.ROOT)));
+    }
+
+    public Optional<String> getUri() {
+        return Optional.ofNullable(uri);
+    }
+
+    public Optional<String> getUriPrefix() {
+        return Optional.ofNullable(uriPrefix);
+    }
+
+    public Optional<String> getMethod() {
+        return Optional.ofNullable(method);
+    }
+
+    public boolean isAny() {
+        return uri == null && uriPrefix == null && method == null && headers.isEmpty();
+    }
+
+    public RequestRoute and(final RequestRoute other) {
+        return new RequestRoute(firstNonNull(this.uri, other.uri),
+                longerPrefix(this.uriPrefix, other.uriPrefix),
+                firstNonNull(this.method, other.method),
+                ImmutableSet.copyOf(Sets.union(this.headers, other.headers)));
+    }
+
+    public RequestRoute or(final RequestRoute other) {
+        String commonUri = Objects.equals(this.uri, other.uri) ? this.uri : null;
+        String commonPrefix = null;
+        if (commonUri == null) {
+            commonPrefix = commonPrefix(this.uriBase(), other.uriBase());
+        }
+
+        return new RequestRoute(commonUri, commonPrefix,
+                Objects.equals(this.method, other.method) ? this.method : null,
+                ImmutableSet.copyOf(Sets.intersection(this.headers, other.headers)));
+    }
+
+    public boolean accepts(final Request request) {
+        if (isAny()) {
+            return true;
+        }
+
+        if (!(request instanceof HttpRequest)) {
+            return false;
+        }
+
+        HttpRequest httpRequest = (HttpRequest) request;
+        String requestUri = httpRequest.getUri();
+        if (uri != null && !uri.equals(requestUri)) {
+            return false;
+        }
+
+        if (uriPrefix != null && (requestUri == null || !requestUri.startsWith(uriPrefix))) {
+            return false;
+        }
+
+        if (method != null && !method.equals(httpRequest.getMethod().name())) {
+            return false;
+        }
+
+        return headers.isEmpty() || hasHeaders(httpRequest);
+    }
+
+    private boolean hasHeaders(final HttpRequest request) {
+        ImmutableSet<String> names = request.getHeaders().keySet().stream()
+                .map(name -> name.toLowerCase(Locale.ROOT))
+                .collect(ImmutableSet.toImmutableSet());
+        return names.containsAll(headers);
+    }
+
+    private String uriBase() {
+        if (uri != null) {
+            return uri;
+        }
+
+        return uriPrefix;
+    }
+
+    private static String commonPrefix(final String one, final String other) {
+        if (one == null || other == null) {
+            return null;
+        }
+
+        return Strings.emptyToNull(Strings.commonPrefix(one, other));
+    }
+
+    private static String longerPrefix(final String one, final String other) {
+        if (one == null) {
+            return other;
+        }
+
+        if (other == null || one.startsWith(other)) {
+            return one;
+        }
+
+        return other;
+    }
+
+    private static String firstNonNull(final String one, final String other) {
+        if (one != null) {
+            return one;
+        }
+
+        return other;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .omitNullValues()
+                .add("uri", uri)
+                .add("uriPrefix", uriPrefix)
+                .add("method", method)
+                .add("headers", headers)
+                .toString();
+    }
+}
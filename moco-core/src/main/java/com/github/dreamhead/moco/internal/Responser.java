@@ -3,40 +3,66 @@ package com.github.dreamhead.moco.internal;
 import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.Response;
 import com.github.dreamhead.moco.ResponseSetting;
+import com.github.dreamhead.moco.metrics.ServerMetrics;
+import com.github.dreamhead.moco.metrics.SettingMetrics;
 import com.github.dreamhead.moco.setting.Setting;
-import com.google.common.collect.ImmutableList;
 
 import java.util.Optional;
 
 public class Responser<T extends ResponseSetting<T>> {
     private final SettingFetcher<T> fetcher;
+    private final ServerMetrics metrics;
+    private volatile SettingIndex<T> index;
 
-    public Responser(final SettingFetcher<T> fetcher) {
+    public Responser(final SettingFetcher<T> fetcher, final ServerMetrics metrics) {
         this.fetcher = fetcher;
+        this.metrics = metrics;
     }
 
     public final Optional<Response> getResponse(final SessionContext context) {
         Request request = context.getRequest();
-        ImmutableList<Setting<T>> settings = fetcher.getSettings();
-        final Optional<Setting<T>> firstSetting = settings.stream()
-                .filter(setting -> setting.match(request))
-                .findFirst();
-        if (firstSetting.isPresent()) {
-            firstSetting.get().writeToResponse(context);
-            return Optional.of(context.getResponse());
+        SettingIndex<T> current = settingIndex();
+        long start = System.nanoTime();
+        int position = current.findFirstPosition(request);
+        metrics.matched(System.nanoTime() - start);
+        if (position >= 0) {
+            Setting<T> setting = current.getSettings().get(position);
+            return writeToResponse(setting, context, metrics.setting(setting));
         }
 
         return getAnyResponse(context);
     }
 
+    public final void reset() {
+        this.index = null;
+    }
+
+    private SettingIndex<T> settingIndex() {
+        SettingIndex<T> current = this.index;
+        if (current == null) {
+            current = new SettingIndex<>(fetcher.getSettings());
+            this.index = current;
+        }
+
+        return current;
+    }
+
     private Optional<Response> getAnyResponse(final SessionContext context) {
         Request request = context.getRequest();
         Setting<T> anySetting = fetcher.getAnySetting();
         if (anySetting.match(request)) {
-            anySetting.writeToResponse(context);
-            return Optional.of(context.getResponse());
+            return writeToResponse(anySetting, context, metrics.anySetting());
         }
 
         return Optional.empty();
     }
+
+    private Optional<Response> writeToResponse(final Setting<T> setting, final SessionContext context,
+                                               final SettingMetrics settingMetrics) {
+        settingMetrics.hit();
+        long start = System.nanoTime();
+        setting.writeToResponse(context);
+        context.onReady(() -> settingMetrics.written(System.nanoTime() - start, context.getResponse()));
+        return Optional.of(context.getResponse());
+    }
 }
@@ -1,12 +1,39 @@
 package com.github.dreamhead.moco.internal;
 
+import com.github.dreamhead.moco.server.Http2Config;
+import com.github.dreamhead.moco.server.TransportConfig;
+
 public class ServerConfig {
+    private static final int DEFAULT_HEADER_SIZE = 8192;
+    private static final int DEFAULT_CONTENT_LENGTH = 1048576;
+
     private final int headerSize;
     private final int contentLength;
+    private final TransportConfig transportConfig;
+    private final Http2Config http2Config;
 
     public ServerConfig(final int maxHeaderSize, final int maxContentLength) {
+        this(maxHeaderSize, maxContentLength, TransportConfig.DEFAULT_CONFIG);
+    }
+
+    public ServerConfig(final TransportConfig transportConfig) {
+        this(DEFAULT_HEADER_SIZE, DEFAULT_CONTENT_LENGTH, transportConfig);
+    }
+
+    public ServerConfig(final TransportConfig transportConfig, final Http2Config http2Config) {
+        this(DEFAULT_HEADER_SIZE, DEFAULT_CONTENT_LENGTH, transportConfig, http2Config);
+    }
+
+    public ServerConfig(final int maxHeaderSize, final int maxContentLength, final TransportConfig transportConfig) {
+        this(maxHeaderSize, maxContentLength, transportConfig, Http2Config.DISABLED);
+    }
+
+    public ServerConfig(final int maxHeaderSize, final int maxContentLength,
+                        final TransportConfig transportConfig, final Http2Config http2Config) {
         this.headerSize = maxHeaderSize;
         this.contentLength = maxContentLength;
+        this.transportConfig = transportConfig;
+        this.http2Config = http2Config;
     }
 
     public final int getHeaderSize() {
@@ -16,4 +43,12 @@ public class ServerConfig {
     public final int getContentLength() {
         return contentLength;
     }
+
+    public final TransportConfig getTransportConfig() {
+        return transportConfig;
+    }
+
+    public final Http2Config getHttp2Config() {
+        return http2Config;
+    }
 }
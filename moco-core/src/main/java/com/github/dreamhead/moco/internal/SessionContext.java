@@ -3,16 +3,26 @@ package com.github.dreamhead.moco.internal;
 import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.Response;
 import com.github.dreamhead.moco.recorder.MocoGroup;
+import com.github.dreamhead.moco.util.Idles;
+import io.netty.channel.EventLoop;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 public final class SessionContext {
     private final Request request;
     private final Response response;
     private final SessionGroup group;
     private final Map<ContextKey, Object> context = new HashMap<>();
+    private EventLoop eventLoop;
+    private long latency;
+    private CompletableFuture<Void> ready = CompletableFuture.completedFuture(null);
+    private CompletableFuture<Void> written;
 
     public SessionContext(final Request request, final Response response) {
         this.request = request;
@@ -42,6 +52,103 @@ public final class SessionContext {
         Objects.requireNonNull(this.group).join(group);
     }
 
+    public SessionContext fork() {
+        SessionContext forked = new SessionContext(request, response, group);
+        forked.context.putAll(this.context);
+        forked.eventLoop = this.eventLoop;
+        forked.written = this.written;
+        return forked;
+    }
+
+    public void deferOn(final EventLoop eventLoop) {
+        this.eventLoop = eventLoop;
+    }
+
+    public Optional<EventLoop> getEventLoop() {
+        return Optional.ofNullable(eventLoop);
+    }
+
+    public void delay(final long duration, final TimeUnit unit) {
+        if (eventLoop == null) {
+            Idles.idle(duration, unit);
+            return;
+        }
+
+        this.latency += unit.toNanos(duration);
+    }
+
+    public long getLatency(final TimeUnit unit) {
+        return unit.convert(latency, TimeUnit.NANOSECONDS);
+    }
+
+    public void defer(final CompletableFuture<?> pending) {
+        this.ready = CompletableFuture.allOf(this.ready, pending);
+    }
+
+    public CompletableFuture<Void> whenReady() {
+        return ready;
+    }
+
+    public void deferUntilReady(final Consumer<SessionContext> action) {
+        CompletableFuture<Void> pending = this.ready;
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        defer(done);
+        pending.whenComplete((ignored, cause) -> {
+            if (cause != null) {
+                done.completeExceptionally(cause);
+                return;
+            }
+
+            SessionContext forked = fork();
+            try {
+                action.accept(forked);
+            } catch (RuntimeException e) {
+                done.completeExceptionally(e);
+                return;
+            }
+
+            forked.completeWhenReady(done);
+        });
+    }
+
+    public void completeWhenReady(final CompletableFuture<Void> done) {
+        ready.whenComplete((ignored, cause) -> {
+            if (cause != null) {
+                done.completeExceptionally(cause);
+                return;
+            }
+
+            if (latency <= 0 || eventLoop == null) {
+                done.complete(null);
+                return;
+            }
+
+            eventLoop.schedule(() -> done.complete(null), latency, TimeUnit.NANOSECONDS);
+        });
+    }
+
+    public void onReady(final Runnable action) {
+        if (ready.isDone() && !ready.isCompletedExceptionally()) {
+            action.run();
+            return;
+        }
+
+        ready.thenRun(action);
+    }
+
+    public void writtenWhen(final CompletableFuture<Void> written) {
+        this.written = written;
+    }
+
+    public void onWritten(final Runnable action) {
+        if (written == null) {
+            onReady(action);
+            return;
+        }
+
+        ready.thenAcceptBoth(written, (readied, flushed) -> action.run());
+    }
+
     public <T> void register(final ContextKey key, final T value) {
         this.context.put(key, value);
     }
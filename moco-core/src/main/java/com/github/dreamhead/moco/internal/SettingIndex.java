@@ -0,0 +1,95 @@
+package com.github.dreamhead.moco.internal;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.Request;
+import com.github.dreamhead.moco.ResponseSetting;
+import com.github.dreamhead.moco.setting.Setting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Ints;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.google.common.collect.Lists.newArrayList;
+
+public final class SettingIndex<T extends ResponseSetting<T>> {
+    private static final int[] EMPTY_BUCKET = new int[0];
+
+    private final ImmutableList<Setting<T>> settings;
+    private final ImmutableList<RequestRoute> routes;
+    private final ImmutableMap<String, int[]> uriBuckets;
+    private final int[] fallbackBucket;
+
+    public SettingIndex(final ImmutableList<Setting<T>> settings) {
+        this.settings = settings;
+        this.routes = settings.stream()
+                .map(Setting::route)
+                .collect(ImmutableList.toImmutableList());
+
+        Map<String, List<Integer>> buckets = new LinkedHashMap<>();
+        List<Integer> fallback = newArrayList();
+        for (int i = 0; i < routes.size(); i++) {
+            Optional<String> uri = routes.get(i).getUri();
+            if (uri.isPresent()) {
+                buckets.computeIfAbsent(uri.get(), key -> newArrayList()).add(i);
+            } else {
+                fallback.add(i);
+            }
+        }
+
+        this.uriBuckets = buckets.entrySet().stream()
+                .collect(ImmutableMap.toImmutableMap(Map.Entry::getKey, entry -> Ints.toArray(entry.getValue())));
+        this.fallbackBucket = Ints.toArray(fallback);
+    }
+
+    public ImmutableList<Setting<T>> getSettings() {
+        return settings;
+    }
+
+    public Optional<Setting<T>> findFirst(final Request request) {
+        int position = findFirstPosition(request);
+        if (position < 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(settings.get(position));
+    }
+
+    public int findFirstPosition(final Request request) {
+        int[] bucket = uriBucket(request);
+        int bucketIndex = 0;
+        int fallbackIndex = 0;
+
+        while (bucketIndex < bucket.length || fallbackIndex < fallbackBucket.length) {
+            int position;
+            if (fallbackIndex >= fallbackBucket.length
+                    || (bucketIndex < bucket.length && bucket[bucketIndex] < fallbackBucket[fallbackIndex])) {
+                position = bucket[bucketIndex++];
+            } else {
+                position = fallbackBucket[fallbackIndex++];
+            }
+
+            if (routes.get(position).accepts(request) && settings.get(position).match(request)) {
+                return position;
+            }
+        }
+
+        return -1;
+    }
+
+    private int[] uriBucket(final Request request) {
+        if (!(request instanceof HttpRequest)) {
+            return EMPTY_BUCKET;
+        }
+
+        String uri = ((HttpRequest) request).getUri();
+        if (uri == null) {
+            return EMPTY_BUCKET;
+        }
+
+        return uriBuckets.getOrDefault(uri, EMPTY_BUCKET);
+    }
+}
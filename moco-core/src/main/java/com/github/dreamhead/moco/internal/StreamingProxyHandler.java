@@ -0,0 +1,313 @@
+package com.github.dreamhead.moco.internal;
+
+import com.github.dreamhead.moco.Response;
+import com.github.dreamhead.moco.handler.proxy.NettyProxyClient;
+import com.github.dreamhead.moco.handler.proxy.StreamingProxy;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
+import com.github.dreamhead.moco.model.DefaultHttpResponse;
+import com.google.common.collect.ImmutableList;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpStatusClass;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.Future;
+
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+import static com.google.common.collect.Lists.newArrayList;
+
+public final class StreamingProxyHandler extends ChannelInboundHandlerAdapter {
+    private final ActualHttpServer server;
+    private final ImmutableList<StreamingProxy> proxies;
+    private final List<Object> pending = newArrayList();
+    private final List<Object> deferred = newArrayList();
+
+    private NettyProxyClient client;
+    private Channel upstream;
+    private boolean streaming;
+    private boolean connected;
+    private boolean requestDone;
+    private boolean keepAlive;
+
+    public StreamingProxyHandler(final ActualHttpServer server, final ImmutableList<StreamingProxy> proxies) {
+        this.server = server;
+        this.proxies = proxies;
+    }
+
+    @Override
+    public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+        if (streaming) {
+            relay(ctx, msg);
+            return;
+        }
+
+        if (msg instanceof HttpRequest && ((HttpRequest) msg).decoderResult().isSuccess()) {
+            HttpRequest request = (HttpRequest) msg;
+            Optional<StreamingProxy> proxy = proxies.stream()
+                    .filter(candidate -> candidate.canAccessedBy(request.uri()))
+                    .findFirst();
+            if (proxy.isPresent()) {
+                startStreaming(ctx, request, proxy.get());
+                return;
+            }
+        }
+
+        ctx.fireChannelRead(msg);
+    }
+
+    private void startStreaming(final ChannelHandlerContext ctx, final HttpRequest request,
+                                final StreamingProxy proxy) {
+        InetSocketAddress address = (InetSocketAddress) ctx.channel().remoteAddress();
+        server.onMessageArrived(DefaultHttpRequest.newRequest(request, address.getAddress().getHostAddress()));
+
+        URL remoteUrl = proxy.remoteUrl(request.uri());
+        request.setUri(isNullOrEmpty(remoteUrl.getFile()) ? "/" : remoteUrl.getFile());
+        request.headers().set(HttpHeaderNames.HOST, remoteUrl.getPort() == -1 ? remoteUrl.getHost()
+                : remoteUrl.getHost() + ":" + remoteUrl.getPort());
+
+        this.keepAlive = HttpUtil.isKeepAlive(request);
+        this.streaming = true;
+        this.requestDone = false;
+        this.connected = false;
+        this.client = proxy.client(ctx.channel().eventLoop().parent());
+        this.pending.add(request);
+        ctx.channel().config().setAutoRead(false);
+
+        client.acquire(ctx.channel().eventLoop(), remoteUrl, new UpstreamHandler(ctx)).addListener(
+                (Future<Channel> acquired) -> onAcquired(ctx, acquired));
+    }
+
+    private void onAcquired(final ChannelHandlerContext ctx, final Future<Channel> acquired) {
+        if (!acquired.isSuccess()) {
+            badGateway(ctx);
+            return;
+        }
+
+        Channel channel = acquired.getNow();
+        if (!ctx.channel().isActive()) {
+            channel.close();
+            client.release(channel);
+            return;
+        }
+
+        upstream = channel;
+        connected = true;
+        pending.forEach(upstream::write);
+        pending.clear();
+        upstream.flush();
+        if (!requestDone) {
+            ctx.channel().config().setAutoRead(upstream.isWritable());
+        }
+    }
+
+    private void relay(final ChannelHandlerContext ctx, final Object msg) {
+        if (requestDone) {
+            deferred.add(msg);
+            return;
+        }
+
+        if (msg instanceof LastHttpContent) {
+            requestDone = true;
+            ctx.channel().config().setAutoRead(false);
+        }
+
+        if (!connected) {
+            pending.add(msg);
+            return;
+        }
+
+        upstream.write(msg);
+        if (!upstream.isWritable()) {
+            ctx.channel().config().setAutoRead(false);
+        }
+    }
+
+    @Override
+    public void channelReadComplete(final ChannelHandlerContext ctx) {
+        if (connected) {
+            upstream.flush();
+        }
+
+        ctx.fireChannelReadComplete();
+    }
+
+    @Override
+    public void channelWritabilityChanged(final ChannelHandlerContext ctx) {
+        if (connected && ctx.channel().isWritable()) {
+            upstream.config().setAutoRead(true);
+        }
+
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) {
+        if (upstream != null) {
+            upstream.close();
+            client.release(upstream);
+            upstream = null;
+        }
+
+        streaming = false;
+        connected = false;
+
+        releaseAll(pending);
+        releaseAll(deferred);
+        ctx.fireChannelInactive();
+    }
+
+    private void finish(final ChannelHandlerContext ctx, final ChannelFuture written,
+                        final Response response, final boolean reusable) {
+        Channel finished = this.upstream;
+        this.upstream = null;
+        this.streaming = false;
+        this.connected = false;
+        if (!reusable || !requestDone) {
+            finished.close();
+        }
+
+        finished.config().setAutoRead(true);
+        client.release(finished);
+        server.onMessageLeave(response);
+
+        if (!keepAlive) {
+            written.addListener(ChannelFutureListener.CLOSE);
+            releaseAll(deferred);
+            return;
+        }
+
+        ctx.channel().config().setAutoRead(true);
+        List<Object> messages = newArrayList(deferred);
+        deferred.clear();
+        messages.forEach(message -> channelRead(ctx, message));
+    }
+
+    private void badGateway(final ChannelHandlerContext ctx) {
+        if (this.upstream != null) {
+            client.release(this.upstream);
+        }
+
+        this.upstream = null;
+        this.streaming = false;
+        this.connected = false;
+        releaseAll(pending);
+        releaseAll(deferred);
+
+        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.BAD_GATEWAY);
+        HttpUtil.setContentLength(response, 0);
+        server.onMessageLeave(DefaultHttpResponse.newResponse(response));
+        ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
+    }
+
+    private static void releaseAll(final List<Object> messages) {
+        messages.forEach(ReferenceCountUtil::release);
+        messages.clear();
+    }
+
+    private final class UpstreamHandler extends ChannelInboundHandlerAdapter {
+        private final ChannelHandlerContext downstream;
+        private Response response;
+        private boolean reusable;
+        private boolean informational;
+        private boolean done;
+
+        private UpstreamHandler(final ChannelHandlerContext downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+            if (done) {
+                ReferenceCountUtil.release(msg);
+                return;
+            }
+
+            if (msg instanceof HttpResponse) {
+                onResponse((HttpResponse) msg);
+            }
+
+            if (msg instanceof LastHttpContent && !informational) {
+                done = true;
+                finish(downstream, downstream.writeAndFlush(msg), response, reusable);
+                return;
+            }
+
+            if (msg instanceof LastHttpContent) {
+                informational = false;
+            }
+
+            downstream.write(msg);
+            if (!downstream.channel().isWritable()) {
+                ctx.channel().config().setAutoRead(false);
+            }
+        }
+
+        private void onResponse(final HttpResponse response) {
+            HttpResponseStatus status = response.status();
+            informational = status.codeClass() == HttpStatusClass.INFORMATIONAL
+                    && status.code() != HttpResponseStatus.SWITCHING_PROTOCOLS.code();
+            if (informational) {
+                return;
+            }
+
+            this.response = DefaultHttpResponse.newResponse(response);
+            boolean delimited = HttpUtil.isContentLengthSet(response) || HttpUtil.isTransferEncodingChunked(response);
+            if (!delimited) {
+                keepAlive = false;
+            }
+
+            this.reusable = delimited && HttpUtil.isKeepAlive(response)
+                    && status.code() != HttpResponseStatus.SWITCHING_PROTOCOLS.code();
+        }
+
+        @Override
+        public void channelReadComplete(final ChannelHandlerContext ctx) {
+            downstream.flush();
+        }
+
+        @Override
+        public void channelWritabilityChanged(final ChannelHandlerContext ctx) {
+            if (!done && !requestDone && ctx.channel().isWritable()) {
+                downstream.channel().config().setAutoRead(true);
+            }
+
+            ctx.fireChannelWritabilityChanged();
+        }
+
+        @Override
+        public void channelInactive(final ChannelHandlerContext ctx) {
+            if (done) {
+                return;
+            }
+
+            done = true;
+            if (response == null) {
+                badGateway(downstream);
+                return;
+            }
+
+            downstream.close();
+        }
+
+        @Override
+        public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
+            ctx.close();
+        }
+    }
+}
@@ -4,6 +4,10 @@ import com.github.dreamhead.moco.MocoConfig;
 import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.RequestExtractor;
 import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.extractor.HeaderRequestExtractor;
+import com.github.dreamhead.moco.extractor.HttpMethodExtractor;
+import com.github.dreamhead.moco.extractor.UriRequestExtractor;
+import com.github.dreamhead.moco.internal.RequestRoute;
 import com.github.dreamhead.moco.model.MessageContent;
 import com.github.dreamhead.moco.resource.Resource;
 
@@ -55,6 +59,35 @@ public abstract class AbstractOperatorMatcher<T> extends AbstractRequestMatcher
         return false;
     }
 
+    @Override
+    public final RequestRoute route() {
+        if (extractor instanceof HeaderRequestExtractor) {
+            return RequestRoute.header(((HeaderRequestExtractor) extractor).getName());
+        }
+
+        if (extractor instanceof UriRequestExtractor && isConstant(MocoConfig.URI_ID)) {
+            return uriRoute(expected.readFor((Request) null).toString());
+        }
+
+        if (extractor instanceof HttpMethodExtractor && isConstant("method")) {
+            return methodRoute(expected.readFor((Request) null).toString());
+        }
+
+        return RequestRoute.ANY;
+    }
+
+    private boolean isConstant(final String id) {
+        return id.equals(expected.id());
+    }
+
+    protected RequestRoute uriRoute(final String expectedUri) {
+        return RequestRoute.ANY;
+    }
+
+    protected RequestRoute methodRoute(final String expectedMethod) {
+        return RequestRoute.ANY;
+    }
+
     @Override
     public final RequestMatcher doApply(final MocoConfig config) {
         Resource appliedResource = expected.apply(config);
@@ -2,6 +2,7 @@ package com.github.dreamhead.moco.matcher;
 
 import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.internal.RequestRoute;
 
 import java.util.stream.StreamSupport;
 
@@ -16,6 +17,11 @@ public final class AndRequestMatcher extends CompositeRequestMatcher {
                 .allMatch(matcher -> matcher.match(request));
     }
 
+    @Override
+    protected RequestRoute combineRoute(final RequestRoute route, final RequestRoute other) {
+        return route.and(other);
+    }
+
     @Override
     protected RequestMatcher newMatcher(final Iterable<RequestMatcher> matchers) {
         return new AndRequestMatcher(matchers);
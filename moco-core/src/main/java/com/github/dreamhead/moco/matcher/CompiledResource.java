@@ -0,0 +1,43 @@
+package com.github.dreamhead.moco.matcher;
+
+import com.github.dreamhead.moco.Request;
+import com.github.dreamhead.moco.model.MessageContent;
+import com.github.dreamhead.moco.resource.Resource;
+
+import java.util.function.Function;
+
+final class CompiledResource<V> {
+    private final Resource resource;
+    private final Function<MessageContent, V> compiler;
+    private volatile Compiled<V> compiled;
+
+    CompiledResource(final Resource resource, final Function<MessageContent, V> compiler) {
+        this.resource = resource;
+        this.compiler = compiler;
+    }
+
+    public V get() {
+        return get(null);
+    }
+
+    public V get(final Request request) {
+        MessageContent source = resource.readFor(request);
+        Compiled<V> current = this.compiled;
+        if (current == null || !current.source.equals(source)) {
+            current = new Compiled<>(source, compiler.apply(source));
+            this.compiled = current;
+        }
+
+        return current.value;
+    }
+
+    private static final class Compiled<V> {
+        private final MessageContent source;
+        private final V value;
+
+        private Compiled(final MessageContent source, final V value) {
+            this.source = source;
+            this.value = value;
+        }
+    }
+}
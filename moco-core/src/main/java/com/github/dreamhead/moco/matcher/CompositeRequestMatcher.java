@@ -3,6 +3,7 @@ package com.github.dreamhead.moco.matcher;
 import com.github.dreamhead.moco.MocoConfig;
 import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.internal.RequestRoute;
 import com.google.common.collect.Iterables;
 
 import java.util.stream.Collectors;
@@ -45,4 +46,14 @@ public abstract class CompositeRequestMatcher extends AbstractRequestMatcher {
     }
 
     protected abstract boolean doMatch(Request request, Iterable<RequestMatcher> matchers);
+
+    @Override
+    public final RequestRoute route() {
+        return StreamSupport.stream(matchers.spliterator(), false)
+                .map(RequestMatcher::route)
+                .reduce(this::combineRoute)
+                .orElse(RequestRoute.ANY);
+    }
+
+    protected abstract RequestRoute combineRoute(RequestRoute route, RequestRoute other);
 }
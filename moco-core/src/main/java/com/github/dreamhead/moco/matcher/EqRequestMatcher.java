@@ -3,6 +3,7 @@ package com.github.dreamhead.moco.matcher;
 import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.RequestExtractor;
 import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.internal.RequestRoute;
 import com.github.dreamhead.moco.resource.Resource;
 
 public final class EqRequestMatcher<T> extends AbstractOperatorMatcher<T> {
@@ -10,6 +11,16 @@ public final class EqRequestMatcher<T> extends AbstractOperatorMatcher<T> {
         super(extractor, expected, input -> input.equals(expected.readFor((Request) null).toString()));
     }
 
+    @Override
+    protected RequestRoute uriRoute(final String expectedUri) {
+        return RequestRoute.uri(expectedUri);
+    }
+
+    @Override
+    protected RequestRoute methodRoute(final String expectedMethod) {
+        return RequestRoute.method(expectedMethod);
+    }
+
     @Override
     protected RequestMatcher newMatcher(final RequestExtractor<T> extractor, final Resource resource) {
         return new EqRequestMatcher<>(extractor, resource);
@@ -4,6 +4,8 @@ import com.github.dreamhead.moco.MocoConfig;
 import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.RequestExtractor;
 import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.extractor.HeaderRequestExtractor;
+import com.github.dreamhead.moco.internal.RequestRoute;
 
 import java.util.Optional;
 
@@ -20,6 +22,15 @@ public final class ExistMatcher<T> extends AbstractRequestMatcher {
         return extractContent.isPresent();
     }
 
+    @Override
+    public RequestRoute route() {
+        if (extractor instanceof HeaderRequestExtractor) {
+            return RequestRoute.header(((HeaderRequestExtractor) extractor).getName());
+        }
+
+        return RequestRoute.ANY;
+    }
+
     @Override
     public RequestMatcher doApply(final MocoConfig config) {
         return this;
@@ -5,13 +5,17 @@ import com.github.dreamhead.moco.RequestMatcher;
 import com.github.dreamhead.moco.extractor.ContentRequestExtractor;
 import com.github.dreamhead.moco.resource.Resource;
 
+import java.util.function.Predicate;
+
 public final class JsonContentRequestMatcher extends JsonRequestMatcher {
     public JsonContentRequestMatcher(final Resource expected, final ContentRequestExtractor extractor) {
         super(expected, extractor);
     }
 
-    protected boolean doMatch(final JsonNode actual, final JsonNode expected) {
-        return actual.equals(expected);
+    @Override
+    Predicate<JsonTree> compile(final JsonNode expected) {
+        JsonTree.Fingerprint fingerprint = new JsonTree(expected).fingerprint();
+        return actual -> actual.fingerprint().equals(fingerprint) && actual.node().equals(expected);
     }
 
     @Override
@@ -8,22 +8,27 @@ import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.RequestMatcher;
 import com.github.dreamhead.moco.extractor.ContentRequestExtractor;
 import com.github.dreamhead.moco.model.MessageContent;
+import com.github.dreamhead.moco.model.RequestCache;
 import com.github.dreamhead.moco.resource.Resource;
 
 import java.util.Optional;
+import java.util.function.Predicate;
 
 public abstract class JsonRequestMatcher extends AbstractRequestMatcher {
-    protected abstract boolean doMatch(JsonNode actual, JsonNode expected);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Object CONTENT_TREE = new Object();
+
+    abstract Predicate<JsonTree> compile(JsonNode expected);
     protected abstract RequestMatcher newApplyMatcher(Resource appliedResource, ContentRequestExtractor extractor);
 
     private final ContentRequestExtractor extractor;
-    private final ObjectMapper mapper;
     private final Resource expected;
+    private final CompiledResource<Optional<Predicate<JsonTree>>> compiled;
 
     public JsonRequestMatcher(final Resource expected, final ContentRequestExtractor extractor) {
         this.extractor = extractor;
         this.expected = expected;
-        this.mapper = new ObjectMapper();
+        this.compiled = new CompiledResource<>(expected, content -> readTree(content).map(this::compile));
     }
 
     @Override
@@ -34,12 +39,21 @@ public abstract class JsonRequestMatcher extends AbstractRequestMatcher {
     }
 
     private boolean doMatch(final Request request, final MessageContent content) {
+        Optional<JsonTree> actual = RequestCache.cached(request, CONTENT_TREE,
+                () -> readTree(content).map(JsonTree::new));
+        if (!actual.isPresent()) {
+            return false;
+        }
+
+        Optional<Predicate<JsonTree>> expected = compiled.get(request);
+        return expected.isPresent() && expected.get().test(actual.get());
+    }
+
+    private static Optional<JsonNode> readTree(final MessageContent content) {
         try {
-            JsonNode actual = mapper.readTree(content.toString());
-            JsonNode expected = mapper.readTree(this.expected.readFor(request).toString());
-            return doMatch(actual, expected);
+            return Optional.of(MAPPER.readTree(content.toString()));
         } catch (JsonProcessingException jpe) {
-            return false;
+            return Optional.empty();
         }
     }
 
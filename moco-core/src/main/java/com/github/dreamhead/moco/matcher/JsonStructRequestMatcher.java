@@ -4,53 +4,67 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.github.dreamhead.moco.RequestMatcher;
 import com.github.dreamhead.moco.extractor.ContentRequestExtractor;
 import com.github.dreamhead.moco.resource.Resource;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Streams;
 
+import java.util.Map;
+import java.util.function.Predicate;
+
 public final class JsonStructRequestMatcher extends JsonRequestMatcher {
     public JsonStructRequestMatcher(final Resource expected, final ContentRequestExtractor extractor) {
         super(expected, extractor);
     }
 
-    protected boolean doMatch(final JsonNode actual, final JsonNode expected) {
-        if (actual == null) {
-            return false;
-        }
+    @Override
+    Predicate<JsonTree> compile(final JsonNode expected) {
+        Predicate<JsonNode> shape = shapeOf(expected);
+        return actual -> shape.test(actual.node());
+    }
 
+    private static Predicate<JsonNode> shapeOf(final JsonNode expected) {
+        Predicate<JsonNode> shape = doShapeOf(expected);
+        return actual -> actual != null && shape.test(actual);
+    }
+
+    private static Predicate<JsonNode> doShapeOf(final JsonNode expected) {
         if (expected.isNull()) {
-            return true;
+            return actual -> true;
         }
 
-        if (actual.isNumber() && expected.isNumber()) {
-            return true;
+        if (expected.isNumber()) {
+            return JsonNode::isNumber;
         }
 
-        if (actual.isBoolean() && expected.isBoolean()) {
-            return true;
+        if (expected.isBoolean()) {
+            return JsonNode::isBoolean;
         }
 
-        if (actual.isTextual() && expected.isTextual()) {
-            return true;
+        if (expected.isTextual()) {
+            return JsonNode::isTextual;
         }
 
-        if (actual.isObject() && expected.isObject()) {
-            return Streams.stream(expected.fieldNames())
-                    .allMatch(name -> doMatch(actual.get(name), expected.get(name)));
+        if (expected.isObject()) {
+            ImmutableMap.Builder<String, Predicate<JsonNode>> builder = ImmutableMap.builder();
+            expected.fields().forEachRemaining(field -> builder.put(field.getKey(), shapeOf(field.getValue())));
+            Map<String, Predicate<JsonNode>> fields = builder.build();
+            return actual -> actual.isObject() && fields.entrySet().stream()
+                    .allMatch(field -> field.getValue().test(actual.get(field.getKey())));
         }
 
-        if (actual.isArray() && expected.isArray()) {
-            if (actual.isEmpty() || expected.isEmpty()) {
-                return true;
+        if (expected.isArray()) {
+            if (expected.isEmpty()) {
+                return JsonNode::isArray;
             }
-            JsonNode templateNode = expected.get(0);
-            return Streams.stream(actual)
-                    .allMatch(node -> doMatch(node, templateNode));
+
+            Predicate<JsonNode> element = shapeOf(expected.get(0));
+            return actual -> actual.isArray() && Streams.stream(actual).allMatch(element);
         }
 
-        if (actual.isBinary() && expected.isBinary()) {
-            return true;
+        if (expected.isBinary()) {
+            return JsonNode::isBinary;
         }
 
-        return false;
+        return actual -> false;
     }
 
     @Override
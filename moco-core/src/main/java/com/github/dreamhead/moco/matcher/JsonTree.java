@@ -0,0 +1,64 @@
+package com.github.dreamhead.moco.matcher;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+final class JsonTree {
+    private final JsonNode node;
+    private volatile Fingerprint fingerprint;
+
+    JsonTree(final JsonNode node) {
+        this.node = node;
+    }
+
+    public JsonNode node() {
+        return node;
+    }
+
+    public Fingerprint fingerprint() {
+        Fingerprint current = this.fingerprint;
+        if (current == null) {
+            current = new Fingerprint(count(node), node.hashCode());
+            this.fingerprint = current;
+        }
+
+        return current;
+    }
+
+    private static int count(final JsonNode node) {
+        int count = 1;
+        for (JsonNode child : node) {
+            count += count(child);
+        }
+
+        return count;
+    }
+
+    static final class Fingerprint {
+        private final int nodes;
+        private final int hash;
+
+        private Fingerprint(final int nodes, final int hash) {
+            this.nodes = nodes;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+
+            if (!(obj instanceof Fingerprint)) {
+                return false;
+            }
+
+            Fingerprint that = (Fingerprint) obj;
+            return this.nodes == that.nodes && this.hash == that.hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * nodes + hash;
+        }
+    }
+}
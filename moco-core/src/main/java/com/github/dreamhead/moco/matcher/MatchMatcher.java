@@ -1,18 +1,31 @@
 package com.github.dreamhead.moco.matcher;
 
-import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.RequestExtractor;
 import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.internal.RequestRoute;
+import com.github.dreamhead.moco.model.MessageContent;
 import com.github.dreamhead.moco.resource.Resource;
+import com.github.dreamhead.moco.util.Patterns;
 
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 public final class MatchMatcher<T> extends AbstractOperatorMatcher<T> {
     public MatchMatcher(final RequestExtractor<T> extractor, final Resource expected) {
-        super(extractor, expected, input -> {
-            Pattern pattern = Pattern.compile(expected.readFor((Request) null).toString());
-            return pattern.matcher(input).matches();
-        });
+        super(extractor, expected, matches(new CompiledResource<>(expected, MatchMatcher::compile)));
+    }
+
+    private static Predicate<String> matches(final CompiledResource<Pattern> pattern) {
+        return input -> pattern.get().matcher(input).matches();
+    }
+
+    private static Pattern compile(final MessageContent content) {
+        return Pattern.compile(content.toString());
+    }
+
+    @Override
+    protected RequestRoute uriRoute(final String expectedUri) {
+        return RequestRoute.uriPrefix(Patterns.literalPrefix(expectedUri));
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.github.dreamhead.moco.matcher;
 
 import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.internal.RequestRoute;
 
 import java.util.stream.StreamSupport;
 
@@ -16,6 +17,11 @@ public final class OrRequestMatcher extends CompositeRequestMatcher {
                 .anyMatch(requestMatcher -> requestMatcher.match(request));
     }
 
+    @Override
+    protected RequestRoute combineRoute(final RequestRoute route, final RequestRoute other) {
+        return route.or(other);
+    }
+
     @Override
     protected RequestMatcher newMatcher(final Iterable<RequestMatcher> matchers) {
         return new OrRequestMatcher(matchers);
@@ -1,21 +1,29 @@
 package com.github.dreamhead.moco.matcher;
 
-import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.RequestExtractor;
 import com.github.dreamhead.moco.RequestMatcher;
 import com.github.dreamhead.moco.internal.ContextKey;
 import com.github.dreamhead.moco.internal.SessionContext;
+import com.github.dreamhead.moco.model.MessageContent;
 import com.github.dreamhead.moco.resource.Resource;
 import com.github.dreamhead.moco.util.AntPathMatcher;
 
-public class PathMatcher<T> extends AbstractOperatorMatcher<T> {
-    private static final AntPathMatcher matcher = new AntPathMatcher();
+import java.util.function.Predicate;
 
+public class PathMatcher<T> extends AbstractOperatorMatcher<T> {
     public PathMatcher(final RequestExtractor<T> extractor, final Resource expected) {
-        super(extractor, expected, input -> {
-            final String target = expected.readFor((Request) null).toString();
-            return matcher.match(target, input);
-        });
+        super(extractor, expected, matches(new CompiledResource<>(expected, PathMatcher::compile)));
+    }
+
+    private static Predicate<String> matches(final CompiledResource<Predicate<String>> path) {
+        return input -> path.get().test(input);
+    }
+
+    private static Predicate<String> compile(final MessageContent content) {
+        String pattern = content.toString();
+        AntPathMatcher matcher = new AntPathMatcher();
+        matcher.setCachePatterns(true);
+        return input -> matcher.match(pattern, input);
     }
 
     @Override
@@ -3,7 +3,11 @@ package com.github.dreamhead.moco.matcher;
 import com.github.dreamhead.moco.RequestMatcher;
 import com.github.dreamhead.moco.extractor.ContentRequestExtractor;
 import com.github.dreamhead.moco.resource.Resource;
+import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import java.util.Objects;
 
 public final class XmlContentRequestMatcher extends XmlRequestMatcher {
     public XmlContentRequestMatcher(final Resource resource, final ContentRequestExtractor extractor) {
@@ -15,6 +19,26 @@ public final class XmlContentRequestMatcher extends XmlRequestMatcher {
         return expected.isEqualNode(actual);
     }
 
+    @Override
+    protected int fingerprint(final Node node) {
+        int hash = Objects.hash(node.getNodeType(), node.getNodeName(), node.getNodeValue());
+        NamedNodeMap attributes = node.getAttributes();
+        if (attributes != null) {
+            int attributeHash = 0;
+            for (int i = 0; i < attributes.getLength(); i++) {
+                attributeHash += fingerprint(attributes.item(i));
+            }
+            hash = 31 * hash + attributeHash;
+        }
+
+        NodeList children = node.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            hash = 31 * hash + fingerprint(children.item(i));
+        }
+
+        return hash;
+    }
+
     @Override
     protected RequestMatcher newAppliedMatcher(final Resource applied, final ContentRequestExtractor extractor) {
         return new XmlContentRequestMatcher(applied, extractor);
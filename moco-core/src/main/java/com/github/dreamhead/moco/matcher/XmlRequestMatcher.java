@@ -6,6 +6,8 @@ import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.RequestMatcher;
 import com.github.dreamhead.moco.extractor.ContentRequestExtractor;
 import com.github.dreamhead.moco.extractor.XmlExtractorHelper;
+import com.github.dreamhead.moco.model.MessageContent;
+import com.github.dreamhead.moco.model.RequestCache;
 import com.github.dreamhead.moco.resource.Resource;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -19,23 +21,28 @@ import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 
 public abstract class XmlRequestMatcher extends AbstractRequestMatcher {
+    private static final Object CONTENT_DOCUMENT = new Object();
+
     protected abstract boolean doMatch(Node actual, Node expected);
+    protected abstract int fingerprint(Node node);
     protected abstract RequestMatcher newAppliedMatcher(Resource applied, ContentRequestExtractor extractor);
 
     private final XmlExtractorHelper helper = new XmlExtractorHelper();
     private final ContentRequestExtractor extractor;
     private final Resource resource;
+    private final CompiledResource<ExpectedDocument> expected;
 
     public XmlRequestMatcher(final Resource resource, final ContentRequestExtractor extractor) {
         this.extractor = extractor;
         this.resource = resource;
+        this.expected = new CompiledResource<>(resource, this::compile);
     }
 
     @Override
@@ -45,12 +52,9 @@ public abstract class XmlRequestMatcher extends AbstractRequestMatcher {
     }
 
     private boolean tryToMatch(final Request request, final Document actual) {
-        try {
-            Document expected = getExpectedDocument(request, this.resource);
-            return doMatch(actual, expected);
-        } catch (SAXException e) {
-            return false;
-        }
+        ExpectedDocument expected = this.expected.get(request);
+        int fingerprint = RequestCache.cached(request, getClass(), () -> fingerprint(actual));
+        return fingerprint == expected.fingerprint && doMatch(actual, expected.documents.get());
     }
 
     @Override
@@ -62,15 +66,23 @@ public abstract class XmlRequestMatcher extends AbstractRequestMatcher {
         return this;
     }
 
-    private Document getExpectedDocument(final Request request, final Resource resource) throws SAXException {
-        InputStream stream = resource.readFor(request).toInputStream();
-        return extractDocument(new InputSource(stream));
+    private ExpectedDocument compile(final MessageContent content) {
+        Document document = parse(content);
+        ExpectedDocument expected = new ExpectedDocument(fingerprint(document), () -> parse(content));
+        expected.documents.set(document);
+        return expected;
+    }
+
+    private Document parse(final MessageContent content) {
+        return extractDocument(new InputSource(content.toInputStream()));
     }
 
     private Optional<Document> extractDocument(final Request request,
                                                final ContentRequestExtractor extractor) {
-        Optional<InputSource> inputSourceOptional = helper.extractAsInputSource(request, extractor);
-        return inputSourceOptional.map(this::extractDocument);
+        return RequestCache.cached(request, CONTENT_DOCUMENT, () -> {
+            Optional<InputSource> inputSourceOptional = helper.extractAsInputSource(request, extractor);
+            return inputSourceOptional.map(this::extractDocument);
+        });
     }
 
     private void trimChild(final Node node, final Node child) {
@@ -120,4 +132,15 @@ public abstract class XmlRequestMatcher extends AbstractRequestMatcher {
             throw new MocoException(e);
         }
     }
+
+    // DOM is not thread safe even for reading, so every thread compares against its own expected document.
+    private static final class ExpectedDocument {
+        private final int fingerprint;
+        private final ThreadLocal<Document> documents;
+
+        private ExpectedDocument(final int fingerprint, final Supplier<Document> parser) {
+            this.fingerprint = fingerprint;
+            this.documents = ThreadLocal.withInitial(parser);
+        }
+    }
 }
@@ -37,6 +37,23 @@ public class XmlStructRequestMatcher extends XmlRequestMatcher {
         return true;
     }
 
+    @Override
+    protected final int fingerprint(final Node node) {
+        int hash = node.getNodeType();
+        if (node.getNodeType() == Node.ELEMENT_NODE) {
+            hash = 31 * hash + node.getNodeName().hashCode();
+        }
+
+        if (node.getNodeType() == Node.ELEMENT_NODE || node.getNodeType() == Node.DOCUMENT_NODE) {
+            NodeList children = node.getChildNodes();
+            for (int i = 0; i < children.getLength(); i++) {
+                hash = 31 * hash + fingerprint(children.item(i));
+            }
+        }
+
+        return hash;
+    }
+
     private boolean doMatch(final Element actualNode, final Element expectedNode) {
         if (!actualNode.getNodeName().equals(expectedNode.getNodeName())) {
             return false;
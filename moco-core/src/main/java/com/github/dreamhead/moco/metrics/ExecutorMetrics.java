@@ -0,0 +1,59 @@
+package com.github.dreamhead.moco.metrics;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ExecutorMetrics implements ExecutorMetricsMXBean, RejectedExecutionHandler {
+    private final String name;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejected = new LongAdder();
+
+    private ExecutorMetrics(final String name, final ThreadPoolExecutor executor) {
+        this.name = name;
+        this.executor = executor;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getActive() {
+        return executor.getActiveCount();
+    }
+
+    @Override
+    public int getQueued() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    @Override
+    public int getPoolSize() {
+        return executor.getPoolSize();
+    }
+
+    @Override
+    public int getMaxPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    @Override
+    public void rejectedExecution(final Runnable task, final ThreadPoolExecutor source) {
+        rejected.increment();
+        throw new RejectedExecutionException("Task is rejected by " + name + " executor");
+    }
+
+    public static ExecutorMetrics observe(final String name, final ThreadPoolExecutor executor) {
+        ExecutorMetrics metrics = new ExecutorMetrics(name, executor);
+        executor.setRejectedExecutionHandler(metrics);
+        MocoMetrics.register(metrics);
+        return metrics;
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.dreamhead.moco.metrics;
+
+public interface ExecutorMetricsMXBean {
+    int getActive();
+
+    int getQueued();
+
+    long getRejected();
+
+    int getPoolSize();
+
+    int getMaxPoolSize();
+}
@@ -0,0 +1,101 @@
+package com.github.dreamhead.moco.metrics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Log-linear buckets: every power of two is split into 16 buckets, so values are kept within about 6%.
+// Each bucket is a LongAdder created on first use, so threads recording similar latencies don't contend on one cell.
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicReferenceArray<LongAdder> counts = new AtomicReferenceArray<>(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public void record(final long nanos) {
+        long value = Math.max(0, nanos);
+        bucket(indexOf(value)).increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public long count() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += countOf(i);
+        }
+
+        return count;
+    }
+
+    public long sum() {
+        return sum.sum();
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    public long percentile(final double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = countOf(i);
+            total += snapshot[i];
+        }
+
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long current = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            current += snapshot[i];
+            if (current >= target) {
+                return Math.min(upperBoundOf(i), max());
+            }
+        }
+
+        return max();
+    }
+
+    private LongAdder bucket(final int index) {
+        LongAdder bucket = counts.get(index);
+        if (bucket != null) {
+            return bucket;
+        }
+
+        counts.compareAndSet(index, null, new LongAdder());
+        return counts.get(index);
+    }
+
+    private long countOf(final int index) {
+        LongAdder bucket = counts.get(index);
+        return bucket == null ? 0 : bucket.sum();
+    }
+
+    private static int indexOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,6 @@
+package com.github.dreamhead.moco.metrics;
+
+public enum MetricsFormat {
+    JSON,
+    PROMETHEUS
+}
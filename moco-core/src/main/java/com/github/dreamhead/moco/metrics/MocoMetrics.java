@@ -0,0 +1,216 @@
+package com.github.dreamhead.moco.metrics;
+
+import com.github.dreamhead.moco.util.Jsons;
+import com.google.common.collect.ImmutableMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+public final class MocoMetrics {
+    private static final Logger logger = LoggerFactory.getLogger(MocoMetrics.class);
+    private static final Map<Integer, ServerMetrics> SERVERS = new ConcurrentSkipListMap<>();
+    private static final Map<String, ExecutorMetrics> EXECUTORS = new ConcurrentSkipListMap<>();
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+    private static final double NANOS_PER_SECOND = 1_000_000_000D;
+    private static volatile WebhookMetrics webhooks;
+
+    public static void register(final int port, final ServerMetrics metrics) {
+        SERVERS.put(port, metrics);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = objectName(port);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+
+            server.registerMBean(metrics, name);
+        } catch (JMException e) {
+            logger.warn("Fail to register metrics of server on port {}", port, e);
+        }
+    }
+
+    public static void register(final ExecutorMetrics metrics) {
+        EXECUTORS.put(metrics.getName(), metrics);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = executorObjectName(metrics.getName());
+            if (!server.isRegistered(name)) {
+                server.registerMBean(metrics, name);
+            }
+        } catch (JMException e) {
+            logger.warn("Fail to register metrics of {} executor", metrics.getName(), e);
+        }
+    }
+
+    public static void register(final WebhookMetrics metrics) {
+        webhooks = metrics;
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName("com.github.dreamhead.moco:type=Webhook");
+            if (!server.isRegistered(name)) {
+                server.registerMBean(metrics, name);
+            }
+        } catch (JMException e) {
+            logger.warn("Fail to register metrics of webhooks", e);
+        }
+    }
+
+    public static void unregister(final int port) {
+        SERVERS.remove(port);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = objectName(port);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            logger.warn("Fail to unregister metrics of server on port {}", port, e);
+        }
+    }
+
+    public static String toText(final MetricsFormat format) {
+        if (format == MetricsFormat.PROMETHEUS) {
+            return toPrometheus();
+        }
+
+        return toJson();
+    }
+
+    public static String toJson() {
+        Map<String, Object> servers = new LinkedHashMap<>();
+        SERVERS.forEach((port, metrics) -> servers.put(String.valueOf(port), toMap(metrics)));
+        return Jsons.toJson(servers);
+    }
+
+    public static String toPrometheus() {
+        StringBuilder builder = new StringBuilder();
+        type(builder, "moco_requests_total", "counter");
+        SERVERS.forEach((port, metrics) ->
+                sample(builder, "moco_requests_total", labels(port), metrics.getRequests()));
+        type(builder, "moco_unexpected_requests_total", "counter");
+        SERVERS.forEach((port, metrics) ->
+                sample(builder, "moco_unexpected_requests_total", labels(port), metrics.getUnexpectedRequests()));
+        type(builder, "moco_match_seconds", "summary");
+        SERVERS.forEach((port, metrics) ->
+                summary(builder, "moco_match_seconds", labels(port), metrics.getMatchTime()));
+
+        type(builder, "moco_setting_hits_total", "counter");
+        SERVERS.forEach((port, metrics) -> metrics.getSettings().forEach(setting ->
+                sample(builder, "moco_setting_hits_total", labels(port, setting), setting.getHits())));
+        type(builder, "moco_setting_bytes_total", "counter");
+        SERVERS.forEach((port, metrics) -> metrics.getSettings().forEach(setting ->
+                sample(builder, "moco_setting_bytes_total", labels(port, setting), setting.getBytes())));
+        type(builder, "moco_setting_handler_seconds", "summary");
+        SERVERS.forEach((port, metrics) -> metrics.getSettings().forEach(setting ->
+                summary(builder, "moco_setting_handler_seconds", labels(port, setting), setting.getHandlerTime())));
+
+        type(builder, "moco_executor_active_threads", "gauge");
+        EXECUTORS.forEach((name, metrics) ->
+                sample(builder, "moco_executor_active_threads", labels(name), metrics.getActive()));
+        type(builder, "moco_executor_queued_tasks", "gauge");
+        EXECUTORS.forEach((name, metrics) ->
+                sample(builder, "moco_executor_queued_tasks", labels(name), metrics.getQueued()));
+        type(builder, "moco_executor_rejected_total", "counter");
+        EXECUTORS.forEach((name, metrics) ->
+                sample(builder, "moco_executor_rejected_total", labels(name), metrics.getRejected()));
+
+        WebhookMetrics current = webhooks;
+        if (current != null) {
+            webhook(builder, "moco_webhook_pending", "gauge", current.getPending());
+            webhook(builder, "moco_webhook_delivered_total", "counter", current.getDelivered());
+            webhook(builder, "moco_webhook_retried_total", "counter", current.getRetried());
+            webhook(builder, "moco_webhook_failed_total", "counter", current.getFailed());
+            webhook(builder, "moco_webhook_dropped_total", "counter", current.getDropped());
+        }
+
+        return builder.toString();
+    }
+
+    private static Map<String, Object> toMap(final ServerMetrics metrics) {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        for (SettingMetrics setting : metrics.getSettings()) {
+            settings.put(setting.getName(), ImmutableMap.of(
+                    "route", setting.getRoute(),
+                    "hits", setting.getHits(),
+                    "bytes", setting.getBytes(),
+                    "handlerTime", toMap(setting.getHandlerTime())));
+        }
+
+        return ImmutableMap.of(
+                "requests", metrics.getRequests(),
+                "unexpected", metrics.getUnexpectedRequests(),
+                "matchTime", toMap(metrics.getMatchTime()),
+                "settings", settings);
+    }
+
+    private static Map<String, Object> toMap(final LatencyHistogram histogram) {
+        return ImmutableMap.of(
+                "count", histogram.count(),
+                "p50", histogram.percentile(50),
+                "p90", histogram.percentile(90),
+                "p99", histogram.percentile(99),
+                "max", histogram.max());
+    }
+
+    private static void type(final StringBuilder builder, final String name, final String type) {
+        builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void webhook(final StringBuilder builder, final String name,
+                                final String type, final long value) {
+        type(builder, name, type);
+        builder.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void summary(final StringBuilder builder, final String name,
+                                final String labels, final LatencyHistogram histogram) {
+        for (double quantile : QUANTILES) {
+            String quantileLabels = labels + ",quantile=\"" + quantile + "\"";
+            sample(builder, name, quantileLabels, histogram.percentile(quantile * 100) / NANOS_PER_SECOND);
+        }
+
+        sample(builder, name + "_sum", labels, histogram.sum() / NANOS_PER_SECOND);
+        sample(builder, name + "_count", labels, histogram.count());
+    }
+
+    private static void sample(final StringBuilder builder, final String name,
+                               final String labels, final Object value) {
+        builder.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static String labels(final int port) {
+        return "server=\"" + port + "\"";
+    }
+
+    private static String labels(final String executor) {
+        return "executor=\"" + executor + "\"";
+    }
+
+    private static String labels(final int port, final SettingMetrics setting) {
+        return labels(port)
+                + ",setting=\"" + escape(setting.getName()) + "\""
+                + ",route=\"" + escape(setting.getRoute()) + "\"";
+    }
+
+    private static String escape(final String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static ObjectName objectName(final int port) throws JMException {
+        return new ObjectName("com.github.dreamhead.moco:type=Server,port=" + port);
+    }
+
+    private static ObjectName executorObjectName(final String name) throws JMException {
+        return new ObjectName("com.github.dreamhead.moco:type=Executor,name=" + name);
+    }
+
+    private MocoMetrics() {
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.dreamhead.moco.metrics;
+
+import com.github.dreamhead.moco.internal.RequestRoute;
+import com.github.dreamhead.moco.setting.Setting;
+import com.google.common.collect.ImmutableList;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+public final class ServerMetrics implements ServerMetricsMXBean {
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder unexpected = new LongAdder();
+    private final LatencyHistogram matchTime = new LatencyHistogram();
+    private final ConcurrentMap<Setting<?>, SettingMetrics> settings = new ConcurrentHashMap<>();
+    private volatile SettingMetrics any;
+
+    public void request() {
+        requests.increment();
+    }
+
+    public void unexpected() {
+        unexpected.increment();
+    }
+
+    public void matched(final long nanos) {
+        matchTime.record(nanos);
+    }
+
+    public SettingMetrics setting(final Setting<?> setting) {
+        SettingMetrics metrics = settings.get(setting);
+        if (metrics != null) {
+            return metrics;
+        }
+
+        synchronized (settings) {
+            return settings.computeIfAbsent(setting, this::newSetting);
+        }
+    }
+
+    public SettingMetrics anySetting() {
+        SettingMetrics metrics = this.any;
+        if (metrics != null) {
+            return metrics;
+        }
+
+        synchronized (settings) {
+            if (this.any == null) {
+                this.any = new SettingMetrics("any", RequestRoute.ANY, Integer.MAX_VALUE);
+            }
+
+            return this.any;
+        }
+    }
+
+    private SettingMetrics newSetting(final Setting<?> setting) {
+        RequestRoute route = setting.route();
+        String description = SettingMetrics.describe(route);
+        long sameRoute = settings.values().stream()
+                .filter(metrics -> metrics.getRoute().equals(description))
+                .count();
+        String name = sameRoute == 0 ? description : description + " #" + (sameRoute + 1);
+        return new SettingMetrics(name, route, settings.size());
+    }
+
+    public ImmutableList<SettingMetrics> getSettings() {
+        ImmutableList.Builder<SettingMetrics> builder = ImmutableList.builder();
+        settings.values().stream()
+                .sorted(Comparator.comparingInt(SettingMetrics::getOrder))
+                .forEach(builder::add);
+        SettingMetrics metrics = this.any;
+        if (metrics != null) {
+            builder.add(metrics);
+        }
+
+        return builder.build();
+    }
+
+    public LatencyHistogram getMatchTime() {
+        return matchTime;
+    }
+
+    @Override
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    @Override
+    public long getUnexpectedRequests() {
+        return unexpected.sum();
+    }
+
+    @Override
+    public long getMatchTimeP50Nanos() {
+        return matchTime.percentile(50);
+    }
+
+    @Override
+    public long getMatchTimeP99Nanos() {
+        return matchTime.percentile(99);
+    }
+
+    @Override
+    public Map<String, Long> getSettingHits() {
+        return collect(SettingMetrics::getHits);
+    }
+
+    @Override
+    public Map<String, Long> getSettingHandlerTimeP99Nanos() {
+        return collect(setting -> setting.getHandlerTime().percentile(99));
+    }
+
+    private Map<String, Long> collect(final ToLongFunction<SettingMetrics> function) {
+        Map<String, Long> values = new LinkedHashMap<>();
+        for (SettingMetrics setting : getSettings()) {
+            values.put(setting.getName(), function.applyAsLong(setting));
+        }
+
+        return values;
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.dreamhead.moco.metrics;
+
+import java.util.Map;
+
+public interface ServerMetricsMXBean {
+    long getRequests();
+
+    long getUnexpectedRequests();
+
+    long getMatchTimeP50Nanos();
+
+    long getMatchTimeP99Nanos();
+
+    Map<String, Long> getSettingHits();
+
+    Map<String, Long> getSettingHandlerTimeP99Nanos();
+}
@@ -0,0 +1,65 @@
+package com.github.dreamhead.moco.metrics;
+
+import com.github.dreamhead.moco.Response;
+import com.github.dreamhead.moco.internal.RequestRoute;
+import com.github.dreamhead.moco.model.MessageContent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class SettingMetrics {
+    private final String name;
+    private final String route;
+    private final int order;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LatencyHistogram handlerTime = new LatencyHistogram();
+
+    SettingMetrics(final String name, final RequestRoute route, final int order) {
+        this.name = name;
+        this.route = describe(route);
+        this.order = order;
+    }
+
+    public void hit() {
+        hits.increment();
+    }
+
+    public void written(final long nanos, final Response response) {
+        handlerTime.record(nanos);
+        MessageContent content = response.getContent();
+        if (content != null) {
+            bytes.add(content.getContent().length);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    int getOrder() {
+        return order;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    public LatencyHistogram getHandlerTime() {
+        return handlerTime;
+    }
+
+    static String describe(final RequestRoute route) {
+        String method = route.getMethod().orElse("*");
+        String uri = route.getUri()
+                .orElseGet(() -> route.getUriPrefix().map(prefix -> prefix + "*").orElse("*"));
+        return method + " " + uri;
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.dreamhead.moco.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+public final class WebhookMetrics implements WebhookMetricsMXBean {
+    private final IntSupplier pending;
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public WebhookMetrics(final IntSupplier pending) {
+        this.pending = pending;
+    }
+
+    public void delivered() {
+        delivered.increment();
+    }
+
+    public void retried() {
+        retried.increment();
+    }
+
+    public void failed() {
+        failed.increment();
+    }
+
+    public void dropped() {
+        dropped.increment();
+    }
+
+    @Override
+    public int getPending() {
+        return pending.getAsInt();
+    }
+
+    @Override
+    public long getDelivered() {
+        return delivered.sum();
+    }
+
+    @Override
+    public long getRetried() {
+        return retried.sum();
+    }
+
+    @Override
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    @Override
+    public long getDropped() {
+        return dropped.sum();
+    }
+}
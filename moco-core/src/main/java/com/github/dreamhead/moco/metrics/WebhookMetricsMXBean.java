@@ -0,0 +1,13 @@
+package com.github.dreamhead.moco.metrics;
+
+public interface WebhookMetricsMXBean {
+    int getPending();
+
+    long getDelivered();
+
+    long getRetried();
+
+    long getFailed();
+
+    long getDropped();
+}
@@ -33,6 +33,8 @@ import static com.google.common.collect.ImmutableMap.toImmutableMap;
 public final class DefaultHttpRequest extends DefaultHttpMessage implements HttpRequest {
     private final Supplier<ImmutableMap<String, String>> formSupplier;
     private final Supplier<ImmutableMap<String, String>> cookieSupplier;
+    private final boolean cacheable;
+    private volatile RequestCache cache;
 
     private final HttpMethod method;
 
@@ -44,12 +46,13 @@ public final class DefaultHttpRequest extends DefaultHttpMessage implements Http
                                final HttpMethod method, final String uri,
                                final ImmutableMap<String, String[]> headers,
                                final ImmutableMap<String, String[]> queries,
-                               final String clientAddress) {
+                               final String clientAddress, final boolean cacheable) {
         super(version, content, headers);
         this.method = method;
         this.uri = uri;
         this.queries = queries;
         this.clientAddress = clientAddress;
+        this.cacheable = cacheable;
         this.formSupplier = formSupplier();
         this.cookieSupplier = cookieSupplier();
     }
@@ -81,7 +84,7 @@ public final class DefaultHttpRequest extends DefaultHttpMessage implements Http
     }
 
     private Supplier<ImmutableMap<String, String>> formSupplier() {
-        return Suppliers.memoize(() -> {
+        return memoize(() -> {
             Optional<ImmutableMap<String, String>> forms =
                     new FormsRequestExtractor().extract(DefaultHttpRequest.this);
             return forms.orElseGet(ImmutableMap::of);
@@ -89,13 +92,45 @@ public final class DefaultHttpRequest extends DefaultHttpMessage implements Http
     }
 
     private Supplier<ImmutableMap<String, String>> cookieSupplier() {
-        return Suppliers.memoize(() -> {
+        return memoize(() -> {
             Optional<ImmutableMap<String, String>> cookies =
                     new CookiesRequestExtractor().extract(DefaultHttpRequest.this);
             return cookies.orElseGet(ImmutableMap::of);
         });
     }
 
+    private <T> Supplier<T> memoize(final Supplier<T> supplier) {
+        return cacheable ? Suppliers.memoize(supplier) : supplier;
+    }
+
+    RequestCache cache() {
+        if (!cacheable) {
+            return null;
+        }
+
+        RequestCache current = this.cache;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (this.cache == null) {
+                this.cache = new RequestCache();
+            }
+
+            return this.cache;
+        }
+    }
+
+    public DefaultHttpRequest withoutCache() {
+        if (!cacheable) {
+            return this;
+        }
+
+        return new DefaultHttpRequest(getVersion(), getContent(), method, uri, getHeaders(), queries,
+                clientAddress, false);
+    }
+
     @Override
     public String getClientAddress() {
         return clientAddress;
@@ -126,6 +161,16 @@ public final class DefaultHttpRequest extends DefaultHttpMessage implements Http
     }
 
     public static HttpRequest newRequest(final FullHttpRequest request, final String clientAddress) {
+        return newRequest(request, toMessageContent(request), clientAddress);
+    }
+
+    public static HttpRequest newRequest(final io.netty.handler.codec.http.HttpRequest request,
+                                         final String clientAddress) {
+        return newRequest(request, content().build(), clientAddress);
+    }
+
+    private static HttpRequest newRequest(final io.netty.handler.codec.http.HttpRequest request,
+                                          final MessageContent content, final String clientAddress) {
         QueryStringDecoder decoder = new QueryStringDecoder(request.uri());
         ImmutableMap<String, String[]> queries = toQueries(decoder);
 
@@ -135,7 +180,7 @@ public final class DefaultHttpRequest extends DefaultHttpMessage implements Http
                 .withMethod(HttpMethod.valueOf(request.method().toString().toUpperCase()))
                 .withUri(decoder.path())
                 .withQueries(queries)
-                .withContent(toMessageContent(request))
+                .withContent(content)
                 .withClientAddress(clientAddress)
                 .build();
     }
@@ -207,7 +252,7 @@ public final class DefaultHttpRequest extends DefaultHttpMessage implements Http
 
         public DefaultHttpRequest build() {
             return new DefaultHttpRequest(this.getVersion(), this.getContent(), method,
-                    this.uri, this.getHeaders(), this.queries, this.clientAddress);
+                    this.uri, this.getHeaders(), this.queries, this.clientAddress, true);
         }
     }
 }
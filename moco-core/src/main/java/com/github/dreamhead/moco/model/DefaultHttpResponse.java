@@ -44,6 +44,15 @@ public final class DefaultHttpResponse extends DefaultHttpMessage implements Htt
                 .build();
     }
 
+    public static HttpResponse newResponse(final io.netty.handler.codec.http.HttpResponse response) {
+        return builder()
+                .withVersion(toHttpProtocolVersion(response.protocolVersion()))
+                .withStatus(response.status().code())
+                .withHeaders(toHeaders(response))
+                .withContent(content().build())
+                .build();
+    }
+
     private static HttpProtocolVersion toHttpProtocolVersion(final HttpVersion httpVersion) {
         return HttpProtocolVersion.versionOf(httpVersion.text());
     }
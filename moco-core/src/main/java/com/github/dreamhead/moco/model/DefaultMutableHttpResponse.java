@@ -6,6 +6,8 @@ import com.github.dreamhead.moco.MutableHttpResponse;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import com.google.common.net.HttpHeaders;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
@@ -19,6 +21,7 @@ public final class DefaultMutableHttpResponse implements MutableHttpResponse {
     private Map<String, String[]> headers = Maps.newHashMap();
     private int status;
     private MessageContent content;
+    private StaticHttpResponse staticResponse;
 
     private DefaultMutableHttpResponse() {
     }
@@ -31,6 +34,7 @@ public final class DefaultMutableHttpResponse implements MutableHttpResponse {
     @Override
     public void setStatus(final int status) {
         this.status = status;
+        this.staticResponse = null;
     }
 
     @Override
@@ -48,6 +52,7 @@ public final class DefaultMutableHttpResponse implements MutableHttpResponse {
 
     @Override
     public void addHeader(final String name, final Object value) {
+        this.staticResponse = null;
         if (this.headers.containsKey(name) && isSingleValueHeader(name)) {
             this.headers.remove(name);
         }
@@ -113,21 +118,55 @@ public final class DefaultMutableHttpResponse implements MutableHttpResponse {
         return httpResponse;
     }
 
+    public StaticHttpResponse toStaticResponse() {
+        return new StaticHttpResponse(this.status, ImmutableMap.copyOf(this.headers), this.content);
+    }
+
+    public void writeFrom(final StaticHttpResponse response) {
+        if (this.content != null || !this.headers.isEmpty()) {
+            setStatus(response.getStatus());
+            for (Map.Entry<String, String[]> entry : response.getHeaders().entrySet()) {
+                for (String value : entry.getValue()) {
+                    addHeader(entry.getKey(), value);
+                }
+            }
+
+            if (response.getContent() != null) {
+                setContent(response.getContent());
+            }
+            return;
+        }
+
+        this.status = response.getStatus();
+        this.headers.putAll(response.getHeaders());
+        this.content = response.getContent();
+        this.staticResponse = response;
+    }
+
     public FullHttpResponse toFullResponse() {
-        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.valueOf(this.version.text()),
-                HttpResponseStatus.valueOf(this.status));
+        HttpVersion httpVersion = HttpVersion.valueOf(this.version.text());
+        if (this.staticResponse != null) {
+            return this.staticResponse.toFullResponse(httpVersion);
+        }
 
-        for (Map.Entry<String, String[]> entry : getHeaders().entrySet()) {
+        FullHttpResponse response = new DefaultFullHttpResponse(httpVersion,
+                HttpResponseStatus.valueOf(this.status), toByteBuf(this.content));
+
+        for (Map.Entry<String, String[]> entry : this.headers.entrySet()) {
             String key = entry.getKey();
             for (String value : entry.getValue()) {
                 response.headers().add(key, value);
             }
         }
 
-        if (this.content != null) {
-            response.content().writeBytes(this.content.getContent());
+        return response;
+    }
+
+    private static ByteBuf toByteBuf(final MessageContent content) {
+        if (content == null) {
+            return Unpooled.buffer(0);
         }
 
-        return response;
+        return Unpooled.wrappedBuffer(content.getContent());
     }
 }
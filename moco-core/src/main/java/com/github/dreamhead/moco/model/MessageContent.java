@@ -21,6 +21,7 @@ import static com.google.common.io.ByteStreams.toByteArray;
 public class MessageContent {
     private byte[] content;
     private Charset charset;
+    private String text;
 
     public final byte[] getContent() {
         return content;
@@ -44,7 +45,11 @@ public class MessageContent {
 
     @Override
     public final String toString() {
-        return new String(content, getCharset());
+        if (text == null) {
+            text = new String(content, getCharset());
+        }
+
+        return text;
     }
 
     @Override
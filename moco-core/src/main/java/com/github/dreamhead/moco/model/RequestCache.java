@@ -0,0 +1,40 @@
+package com.github.dreamhead.moco.model;
+
+import com.github.dreamhead.moco.Request;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+public final class RequestCache {
+    private static final Object NULL_VALUE = new Object();
+
+    private final ConcurrentMap<Object, Object> values = new ConcurrentHashMap<>();
+
+    public static <T> T cached(final Request request, final Object key, final Supplier<T> loader) {
+        if (request instanceof DefaultHttpRequest) {
+            RequestCache cache = ((DefaultHttpRequest) request).cache();
+            if (cache != null) {
+                return cache.get(key, loader);
+            }
+        }
+
+        return loader.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Supplier<T> loader) {
+        Object value = values.get(key);
+        if (value == null) {
+            Object loaded = wrap(loader.get());
+            Object previous = values.putIfAbsent(key, loaded);
+            value = previous == null ? loaded : previous;
+        }
+
+        return value == NULL_VALUE ? null : (T) value;
+    }
+
+    private static Object wrap(final Object value) {
+        return value == null ? NULL_VALUE : value;
+    }
+}
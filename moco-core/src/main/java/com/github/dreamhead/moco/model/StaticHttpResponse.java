@@ -0,0 +1,72 @@
+package com.github.dreamhead.moco.model;
+
+import com.google.common.collect.ImmutableMap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+public final class StaticHttpResponse {
+    private final int status;
+    private final ImmutableMap<String, String[]> headers;
+    private final MessageContent content;
+    private final HttpResponseStatus encodedStatus;
+    private final HttpHeaders encodedHeaders;
+    private final ByteBuf encodedContent;
+
+    StaticHttpResponse(final int status, final ImmutableMap<String, String[]> headers,
+                       final MessageContent content) {
+        this.status = status;
+        this.headers = headers;
+        this.content = content;
+        this.encodedStatus = HttpResponseStatus.valueOf(status);
+        this.encodedHeaders = encodeHeaders(headers);
+        this.encodedContent = encodeContent(content);
+    }
+
+    int getStatus() {
+        return status;
+    }
+
+    ImmutableMap<String, String[]> getHeaders() {
+        return headers;
+    }
+
+    MessageContent getContent() {
+        return content;
+    }
+
+    FullHttpResponse toFullResponse(final HttpVersion version) {
+        return new DefaultFullHttpResponse(version, encodedStatus, encodedContent.retainedDuplicate(),
+                encodedHeaders.copy(), new DefaultHttpHeaders(false));
+    }
+
+    private static HttpHeaders encodeHeaders(final ImmutableMap<String, String[]> headers) {
+        HttpHeaders encoded = new DefaultHttpHeaders();
+        for (Map.Entry<String, String[]> entry : headers.entrySet()) {
+            for (String value : entry.getValue()) {
+                encoded.add(entry.getKey(), value);
+            }
+        }
+
+        return encoded;
+    }
+
+    private static ByteBuf encodeContent(final MessageContent content) {
+        if (content == null || !content.hasContent()) {
+            return Unpooled.EMPTY_BUFFER;
+        }
+
+        byte[] bytes = content.getContent();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(buffer.asReadOnlyBuffer()));
+    }
+}
@@ -0,0 +1,181 @@
+package com.github.dreamhead.moco.monitor;
+
+import com.github.dreamhead.moco.MocoMonitor;
+import com.github.dreamhead.moco.Request;
+import com.github.dreamhead.moco.Response;
+import io.netty.util.internal.PlatformDependent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+public final class AsyncMonitor implements MocoMonitor, AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncMonitor.class);
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FULL_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long CLOSE_TIMEOUT = TimeUnit.SECONDS.toMillis(5);
+
+    private final MocoMonitor monitor;
+    private final OverflowPolicy policy;
+    private final Queue<Consumer<MocoMonitor>> events;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Object lifecycle = new Object();
+    private volatile Worker worker;
+    private volatile boolean closed;
+
+    public AsyncMonitor(final MocoMonitor monitor, final int capacity, final OverflowPolicy policy) {
+        this.monitor = monitor;
+        this.policy = policy;
+        this.events = PlatformDependent.newFixedMpscQueue(capacity);
+        if (policy == OverflowPolicy.BLOCK) {
+            logger.warn("Monitor events will block request handling threads when monitor queue is full");
+        }
+    }
+
+    @Override
+    public void onMessageArrived(final Request request) {
+        publish(target -> target.onMessageArrived(request));
+    }
+
+    @Override
+    public void onException(final Throwable t) {
+        publish(target -> target.onException(t));
+    }
+
+    @Override
+    public void onMessageLeave(final Response response) {
+        publish(target -> target.onMessageLeave(response));
+    }
+
+    @Override
+    public void onUnexpectedMessage(final Request request) {
+        publish(target -> target.onUnexpectedMessage(request));
+    }
+
+    @Override
+    public boolean isQuiet() {
+        return monitor.isQuiet();
+    }
+
+    private void publish(final Consumer<MocoMonitor> event) {
+        Worker current = worker();
+        if (current == null) {
+            return;
+        }
+
+        while (!events.offer(event)) {
+            if (policy == OverflowPolicy.DROP) {
+                dropped.incrementAndGet();
+                return;
+            }
+
+            LockSupport.unpark(current.thread);
+            LockSupport.parkNanos(this, FULL_NANOS);
+            if (closed) {
+                return;
+            }
+        }
+
+        if (current.sleeping) {
+            LockSupport.unpark(current.thread);
+        }
+    }
+
+    private Worker worker() {
+        Worker current = this.worker;
+        if (current != null || closed) {
+            return current;
+        }
+
+        synchronized (lifecycle) {
+            if (closed) {
+                return null;
+            }
+
+            if (this.worker == null) {
+                Worker started = new Worker();
+                started.thread.start();
+                this.worker = started;
+            }
+
+            return this.worker;
+        }
+    }
+
+    @Override
+    public void close() {
+        Worker current;
+        synchronized (lifecycle) {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            current = this.worker;
+        }
+
+        if (current == null) {
+            Monitors.close(monitor);
+            return;
+        }
+
+        current.running = false;
+        LockSupport.unpark(current.thread);
+        try {
+            current.thread.join(CLOSE_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (current.thread.isAlive()) {
+            logger.warn("Monitor events are still being handled after {} milliseconds", CLOSE_TIMEOUT);
+        }
+    }
+
+    private final class Worker implements Runnable {
+        private final Thread thread;
+        private volatile boolean running = true;
+        private volatile boolean sleeping;
+
+        private Worker() {
+            this.thread = new Thread(this, "moco-monitor");
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (running || !events.isEmpty()) {
+                Consumer<MocoMonitor> event = events.poll();
+                if (event == null) {
+                    idle();
+                    continue;
+                }
+
+                try {
+                    event.accept(monitor);
+                } catch (Exception e) {
+                    logger.error("Fail to handle monitor event", e);
+                }
+            }
+
+            Monitors.close(monitor);
+        }
+
+        private void idle() {
+            long count = dropped.getAndSet(0);
+            if (count > 0) {
+                logger.warn("{} monitor events dropped because monitor queue is full", count);
+            }
+
+            sleeping = true;
+            if (running && events.isEmpty()) {
+                LockSupport.parkNanos(this, IDLE_NANOS);
+            }
+            sleeping = false;
+        }
+    }
+}
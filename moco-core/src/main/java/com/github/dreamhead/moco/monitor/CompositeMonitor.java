@@ -4,7 +4,7 @@ import com.github.dreamhead.moco.MocoMonitor;
 import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.Response;
 
-public final class CompositeMonitor implements MocoMonitor {
+public final class CompositeMonitor implements MocoMonitor, AutoCloseable {
     private final Iterable<MocoMonitor> monitors;
 
     public CompositeMonitor(final Iterable<MocoMonitor> monitors) {
@@ -49,4 +49,11 @@ public final class CompositeMonitor implements MocoMonitor {
 
         return true;
     }
+
+    @Override
+    public void close() {
+        for (MocoMonitor monitor : monitors) {
+            Monitors.close(monitor);
+        }
+    }
 }
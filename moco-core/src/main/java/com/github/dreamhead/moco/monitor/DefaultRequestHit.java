@@ -7,23 +7,37 @@ import com.github.dreamhead.moco.UnexpectedRequestMatcher;
 import com.github.dreamhead.moco.VerificationData;
 import com.github.dreamhead.moco.VerificationMode;
 
-import java.util.List;
-
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.collect.Lists.newArrayList;
 
-public final class DefaultRequestHit extends AbstractMonitor implements RequestHit {
-    private List<Request> unexpectedRequests = newArrayList();
-    private List<Request> requests = newArrayList();
+public final class DefaultRequestHit extends AbstractMonitor implements RequestHit, AutoCloseable {
+    private final RequestJournal unexpectedRequests;
+    private final RequestJournal requests;
+
+    public DefaultRequestHit() {
+        this(JournalConfig.DEFAULT_CONFIG);
+    }
+
+    public DefaultRequestHit(final JournalConfig config) {
+        this.requests = new RequestJournal(config.getCapacity(), config.getRetention(),
+                config.getSpill().orElse(null));
+        this.unexpectedRequests = new RequestJournal(config.getCapacity(), config.getRetention(),
+                config.getSpill().map(spill -> spill + ".unexpected").orElse(null));
+    }
 
     @Override
     public void onMessageArrived(final Request request) {
-        this.requests.add(request);
+        this.requests.append(request);
     }
 
     @Override
     public void onUnexpectedMessage(final Request request) {
-        this.unexpectedRequests.add(request);
+        this.unexpectedRequests.append(request);
+    }
+
+    @Override
+    public void close() {
+        this.requests.close();
+        this.unexpectedRequests.close();
     }
 
     @Override
@@ -34,15 +48,16 @@ public final class DefaultRequestHit extends AbstractMonitor implements RequestH
     @Override
     public void verify(final UnexpectedRequestMatcher matcher, final VerificationMode mode) {
         checkNotNull(mode, "Verification mode should not be null")
-                .verify(new VerificationData(unexpectedRequests,
+                .verify(new VerificationData(unexpectedRequests.candidates(matcher),
                         checkNotNull(matcher, "Matcher should not be null"),
                         "expect unexpected request hit %s times but %d times"));
     }
 
     @Override
     public void verify(final RequestMatcher matcher, final VerificationMode mode) {
-        checkNotNull(mode, "Verification mode should not be null").verify(new VerificationData(requests,
-                checkNotNull(matcher, "Matcher should not be null"),
-                "expect request hit %s times but %d times"));
+        checkNotNull(mode, "Verification mode should not be null")
+                .verify(new VerificationData(requests.candidates(checkNotNull(matcher, "Matcher should not be null")),
+                        matcher,
+                        "expect request hit %s times but %d times"));
     }
 }
@@ -1,19 +1,48 @@
 package com.github.dreamhead.moco.monitor;
 
 import com.github.dreamhead.moco.MocoException;
-import com.google.common.io.FileWriteMode;
-import com.google.common.io.Files;
+import com.github.dreamhead.moco.util.MocoExecutors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
 
-public final class FileLogWriter implements LogWriter {
-    private final File file;
+public final class FileLogWriter implements LogWriter, AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(FileLogWriter.class);
+    private static final DateTimeFormatter SEGMENT_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path path;
     private final Charset charset;
+    private final LogConfig config;
+    private final ByteBuffer buffer;
+    private FileChannel channel;
+    private ScheduledFuture<?> flushTask;
+    private long segmentSize;
+    private long segmentStart;
 
     public FileLogWriter(final String filename, final Charset charset) {
-        this.file = new File(filename);
+        this(filename, charset, LogConfig.DEFAULT_CONFIG);
+    }
+
+    public FileLogWriter(final String filename, final Charset charset, final LogConfig config) {
+        this.path = Paths.get(filename);
         this.charset = asCharset(charset);
+        this.config = config;
+        this.buffer = config.isBuffered() ? ByteBuffer.allocateDirect(config.getBufferSize()) : null;
     }
 
     private Charset asCharset(final Charset charset) {
@@ -25,11 +54,176 @@ public final class FileLogWriter implements LogWriter {
     }
 
     @Override
-    public void write(final String content) {
+    public synchronized void write(final String content) {
+        byte[] bytes = content.getBytes(charset);
         try {
-            Files.asCharSink(file, charset, FileWriteMode.APPEND).write(content);
-        } catch (Exception e) {
+            ensureOpen();
+            ensureFlushing();
+            if (shouldRotate(bytes.length)) {
+                rotate();
+            }
+
+            append(bytes);
+        } catch (IOException e) {
             throw new MocoException(e);
         }
     }
+
+    public synchronized void flush() {
+        if (channel == null || buffer == null || buffer.position() == 0) {
+            return;
+        }
+
+        try {
+            flushBuffer();
+        } catch (IOException e) {
+            logger.warn("Fail to flush log into {}", path, e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+
+        if (channel == null) {
+            return;
+        }
+
+        try {
+            if (buffer != null && buffer.position() > 0) {
+                flushBuffer();
+            }
+
+            channel.close();
+        } catch (IOException e) {
+            logger.warn("Fail to close log {}", path, e);
+        } finally {
+            channel = null;
+        }
+    }
+
+    private void ensureFlushing() {
+        if (buffer == null || flushTask != null) {
+            return;
+        }
+
+        try {
+            flushTask = MocoExecutors.scheduler().scheduleWithFixedDelay(this::flushInBackground,
+                    config.getFlushInterval(), config.getFlushInterval(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Fail to schedule flushing log {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void flushInBackground() {
+        try {
+            MocoExecutors.io().execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            flush();
+        }
+    }
+
+    private void append(final byte[] bytes) throws IOException {
+        if (buffer == null) {
+            writeFully(ByteBuffer.wrap(bytes));
+        } else {
+            if (bytes.length > buffer.remaining()) {
+                flushBuffer();
+            }
+
+            if (bytes.length > buffer.capacity()) {
+                writeFully(ByteBuffer.wrap(bytes));
+            } else {
+                buffer.put(bytes);
+            }
+        }
+
+        segmentSize += bytes.length;
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(final ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (channel != null) {
+            return;
+        }
+
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        segmentSize = channel.size();
+        segmentStart = System.currentTimeMillis();
+    }
+
+    private boolean shouldRotate(final int length) {
+        if (segmentSize == 0) {
+            return false;
+        }
+
+        if (config.getMaxSize() > 0 && segmentSize + length > config.getMaxSize()) {
+            return true;
+        }
+
+        return config.getRotationInterval() > 0
+                && System.currentTimeMillis() - segmentStart >= config.getRotationInterval();
+    }
+
+    private void rotate() throws IOException {
+        if (buffer != null && buffer.position() > 0) {
+            flushBuffer();
+        }
+
+        channel.close();
+        channel = null;
+
+        Path segment = segmentPath();
+        Files.move(path, segment);
+        if (config.isGzip()) {
+            try {
+                MocoExecutors.io().execute(() -> gzip(segment));
+            } catch (RejectedExecutionException e) {
+                logger.warn("Fail to compress log segment {}: {}", segment, e.getMessage());
+            }
+        }
+
+        ensureOpen();
+    }
+
+    private Path segmentPath() {
+        String name = path.getFileName() + "." + SEGMENT_FORMAT.format(LocalDateTime.now());
+        Path segment = path.resolveSibling(name);
+        for (int i = 1; Files.exists(segment) || Files.exists(gzipPath(segment)); i++) {
+            segment = path.resolveSibling(name + "." + i);
+        }
+
+        return segment;
+    }
+
+    private static Path gzipPath(final Path segment) {
+        return segment.resolveSibling(segment.getFileName() + ".gz");
+    }
+
+    private void gzip(final Path segment) {
+        try {
+            try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(gzipPath(segment)))) {
+                Files.copy(segment, output);
+            }
+
+            Files.delete(segment);
+        } catch (IOException e) {
+            logger.warn("Fail to compress log segment {}", segment, e);
+        }
+    }
 }
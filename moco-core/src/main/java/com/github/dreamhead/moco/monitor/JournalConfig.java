@@ -0,0 +1,99 @@
+package com.github.dreamhead.moco.monitor;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public final class JournalConfig {
+    public static final JournalConfig DEFAULT_CONFIG = builder().build();
+
+    private static final int UNBOUNDED = 0;
+
+    private final int capacity;
+    private final long retention;
+    private final String spill;
+
+    private JournalConfig(final int capacity, final long retention, final String spill) {
+        this.capacity = capacity;
+        this.retention = retention;
+        this.spill = spill;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getRetention() {
+        return retention;
+    }
+
+    public Optional<String> getSpill() {
+        return Optional.ofNullable(spill);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof JournalConfig)) {
+            return false;
+        }
+
+        JournalConfig that = (JournalConfig) o;
+        return capacity == that.capacity
+                && retention == that.retention
+                && Objects.equals(spill, that.spill);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(capacity, retention, spill);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .omitNullValues()
+                .add("capacity", capacity)
+                .add("retention", retention)
+                .add("spill", spill)
+                .toString();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private int capacity = UNBOUNDED;
+        private long retention;
+        private String spill;
+
+        public Builder withCapacity(final int capacity) {
+            checkArgument(capacity > 0, "Capacity must be greater than zero");
+            this.capacity = capacity;
+            return this;
+        }
+
+        public Builder withRetention(final long retention) {
+            checkArgument(retention >= 0, "Retention must not be negative");
+            this.retention = retention;
+            return this;
+        }
+
+        public Builder withSpill(final String spill) {
+            this.spill = checkNotNull(spill, "Spill file should not be null");
+            return this;
+        }
+
+        public JournalConfig build() {
+            return new JournalConfig(capacity, retention, spill);
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.github.dreamhead.moco.monitor;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.MocoException;
+import com.github.dreamhead.moco.Request;
+import com.github.dreamhead.moco.internal.RequestRoute;
+import com.github.dreamhead.moco.util.Jsons;
+import com.github.dreamhead.moco.util.MocoExecutors;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Evicted requests are appended to a single file as binary records:
+ * time (long), method and uri (length prefixed utf-8) and the request as length prefixed json.
+ * Records are grouped into segments whose time range, uris and methods are kept in memory,
+ * so a verification only opens the segments and decodes the records it may match.
+ * Matching records are decoded one by one while the verification iterates them.
+ */
+final class JournalSpill {
+    private static final Logger logger = LoggerFactory.getLogger(JournalSpill.class);
+    private static final int SEGMENT_RECORDS = 4096;
+    private static final int SEGMENT_KEYS = 256;
+    private static final int NULL_STRING = -1;
+
+    private final Path path;
+    private final Queue<Record> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final List<Segment> segments = new ArrayList<>();
+    private DataOutputStream output;
+    private long position;
+
+    JournalSpill(final String filename) {
+        this.path = Paths.get(filename);
+    }
+
+    public void write(final long time, final HttpRequest request) {
+        pending.add(new Record(time, request));
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                MocoExecutors.io().execute(this::writeInBackground);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                logger.warn("IO executor is saturated, journal spill {} is written on next verification", path);
+            }
+        }
+    }
+
+    public Iterable<Request> read(final RequestRoute route, final long since) {
+        ImmutableList<Span> spans = spans(route, since);
+        if (spans.isEmpty()) {
+            return ImmutableList.of();
+        }
+
+        return () -> new SpillIterator(spans, route, since);
+    }
+
+    public synchronized void close() {
+        if (output == null) {
+            return;
+        }
+
+        try {
+            writePending();
+            output.close();
+        } catch (IOException e) {
+            logger.warn("Fail to close journal spill {}", path, e);
+        } finally {
+            output = null;
+        }
+    }
+
+    private synchronized ImmutableList<Span> spans(final RequestRoute route, final long since) {
+        try {
+            writePending();
+            if (output != null) {
+                output.flush();
+            }
+        } catch (IOException e) {
+            throw new MocoException(e);
+        }
+
+        return segments.stream()
+                .filter(segment -> segment.mayContain(route, since))
+                .map(segment -> new Span(segment.start, segment.end, segment.records))
+                .collect(ImmutableList.toImmutableList());
+    }
+
+    private void writeInBackground() {
+        scheduled.set(false);
+        synchronized (this) {
+            try {
+                writePending();
+            } catch (IOException e) {
+                logger.error("Failed to write journal spill {}", path, e);
+            }
+        }
+    }
+
+    private void writePending() throws IOException {
+        Record record;
+        while ((record = pending.poll()) != null) {
+            append(record);
+        }
+    }
+
+    private void append(final Record record) throws IOException {
+        if (output == null) {
+            StandardOpenOption mode = segments.isEmpty()
+                    ? StandardOpenOption.TRUNCATE_EXISTING : StandardOpenOption.APPEND;
+            output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)));
+        }
+
+        Segment segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (segment == null || segment.records >= SEGMENT_RECORDS) {
+            segment = new Segment(position);
+            segments.add(segment);
+        }
+
+        HttpRequest request = record.request;
+        String method = request.getMethod() == null ? null : request.getMethod().name();
+        byte[] payload = Jsons.toJson(request).getBytes(UTF_8);
+        output.writeLong(record.time);
+        long length = Long.BYTES + writeString(method) + writeString(request.getUri()) + Integer.BYTES + payload.length;
+        output.writeInt(payload.length);
+        output.write(payload);
+
+        position += length;
+        segment.add(record.time, method, request.getUri(), position);
+    }
+
+    private int writeString(final String value) throws IOException {
+        if (value == null) {
+            output.writeInt(NULL_STRING);
+            return Integer.BYTES;
+        }
+
+        byte[] bytes = value.getBytes(UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+        return Integer.BYTES + bytes.length;
+    }
+
+    private static String readString(final DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length == NULL_STRING) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static boolean matches(final Optional<String> expected, final String actual) {
+        return !expected.isPresent() || expected.get().equals(actual);
+    }
+
+    private final class SpillIterator extends AbstractIterator<Request> {
+        private final Iterator<Span> spans;
+        private final RequestRoute route;
+        private final long since;
+        private FileChannel channel;
+        private DataInputStream input;
+        private int remaining;
+
+        private SpillIterator(final ImmutableList<Span> spans, final RequestRoute route, final long since) {
+            this.spans = spans.iterator();
+            this.route = route;
+            this.since = since;
+        }
+
+        @Override
+        protected Request computeNext() {
+            try {
+                while (true) {
+                    if (remaining == 0 && !nextSpan()) {
+                        close();
+                        return endOfData();
+                    }
+
+                    remaining--;
+                    Optional<HttpRequest> request = readRecord();
+                    if (request.isPresent()) {
+                        return request.get();
+                    }
+                }
+            } catch (IOException e) {
+                closeQuietly();
+                throw new MocoException(e);
+            }
+        }
+
+        private boolean nextSpan() throws IOException {
+            if (!spans.hasNext()) {
+                return false;
+            }
+
+            if (channel == null) {
+                channel = FileChannel.open(path, StandardOpenOption.READ);
+            }
+
+            Span span = spans.next();
+            channel.position(span.start);
+            input = new DataInputStream(new BufferedInputStream(
+                    ByteStreams.limit(Channels.newInputStream(channel), span.end - span.start)));
+            remaining = span.records;
+            return true;
+        }
+
+        private Optional<HttpRequest> readRecord() throws IOException {
+            long time = input.readLong();
+            String method = readString(input);
+            String uri = readString(input);
+            int length = input.readInt();
+            if (time < since || !matches(route.getMethod(), method) || !matches(route.getUri(), uri)) {
+                ByteStreams.skipFully(input, length);
+                return Optional.empty();
+            }
+
+            byte[] payload = new byte[length];
+            input.readFully(payload);
+            HttpRequest request = Jsons.toObject(new ByteArrayInputStream(payload), HttpRequest.class);
+            return route.accepts(request) ? Optional.of(request) : Optional.empty();
+        }
+
+        private void close() throws IOException {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+        }
+
+        private void closeQuietly() {
+            try {
+                close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static final class Span {
+        private final long start;
+        private final long end;
+        private final int records;
+
+        private Span(final long start, final long end, final int records) {
+            this.start = start;
+            this.end = end;
+            this.records = records;
+        }
+    }
+
+    private static final class Record {
+        private final long time;
+        private final HttpRequest request;
+
+        private Record(final long time, final HttpRequest request) {
+            this.time = time;
+            this.request = request;
+        }
+    }
+
+    private static final class Segment {
+        private final long start;
+        private long end;
+        private int records;
+        private long maxTime = Long.MIN_VALUE;
+        private Set<String> methods = new HashSet<>();
+        private Set<String> uris = new HashSet<>();
+
+        private Segment(final long start) {
+            this.start = start;
+            this.end = start;
+        }
+
+        private void add(final long time, final String method, final String uri, final long end) {
+            this.records++;
+            this.end = end;
+            this.maxTime = Math.max(maxTime, time);
+            this.methods = track(methods, method);
+            this.uris = track(uris, uri);
+        }
+
+        private boolean mayContain(final RequestRoute route, final long since) {
+            return maxTime >= since && mayContain(methods, route.getMethod()) && mayContain(uris, route.getUri());
+        }
+
+        private static boolean mayContain(final Set<String> keys, final Optional<String> key) {
+            return keys == null || !key.isPresent() || keys.contains(key.get());
+        }
+
+        private static Set<String> track(final Set<String> keys, final String key) {
+            if (keys == null || key == null) {
+                return keys;
+            }
+
+            keys.add(key);
+            return keys.size() > SEGMENT_KEYS ? null : keys;
+        }
+    }
+}
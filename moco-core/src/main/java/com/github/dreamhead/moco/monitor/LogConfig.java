@@ -0,0 +1,135 @@
+package com.github.dreamhead.moco.monitor;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+public final class LogConfig {
+    public static final LogConfig DEFAULT_CONFIG = builder().build();
+
+    private static final long DEFAULT_FLUSH_INTERVAL = 1_000;
+
+    private final int bufferSize;
+    private final long flushInterval;
+    private final long maxSize;
+    private final long rotationInterval;
+    private final boolean gzip;
+
+    private LogConfig(final int bufferSize, final long flushInterval, final long maxSize,
+                      final long rotationInterval, final boolean gzip) {
+        this.bufferSize = bufferSize;
+        this.flushInterval = flushInterval;
+        this.maxSize = maxSize;
+        this.rotationInterval = rotationInterval;
+        this.gzip = gzip;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public long getRotationInterval() {
+        return rotationInterval;
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    public boolean isBuffered() {
+        return bufferSize > 0;
+    }
+
+    public boolean isRotated() {
+        return maxSize > 0 || rotationInterval > 0;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof LogConfig)) {
+            return false;
+        }
+
+        LogConfig that = (LogConfig) o;
+        return bufferSize == that.bufferSize
+                && flushInterval == that.flushInterval
+                && maxSize == that.maxSize
+                && rotationInterval == that.rotationInterval
+                && gzip == that.gzip;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(bufferSize, flushInterval, maxSize, rotationInterval, gzip);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("bufferSize", bufferSize)
+                .add("flushInterval", flushInterval)
+                .add("maxSize", maxSize)
+                .add("rotationInterval", rotationInterval)
+                .add("gzip", gzip)
+                .toString();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private int bufferSize;
+        private long flushInterval = DEFAULT_FLUSH_INTERVAL;
+        private long maxSize;
+        private long rotationInterval;
+        private boolean gzip;
+
+        public Builder withBufferSize(final int bufferSize) {
+            checkArgument(bufferSize >= 0, "Buffer size must not be negative");
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        public Builder withFlushInterval(final long flushInterval) {
+            checkArgument(flushInterval > 0, "Flush interval must be greater than zero");
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        public Builder withMaxSize(final long maxSize) {
+            checkArgument(maxSize >= 0, "Max size must not be negative");
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        public Builder withRotationInterval(final long rotationInterval) {
+            checkArgument(rotationInterval >= 0, "Rotation interval must not be negative");
+            this.rotationInterval = rotationInterval;
+            return this;
+        }
+
+        public Builder withGzip(final boolean gzip) {
+            this.gzip = gzip;
+            return this;
+        }
+
+        public LogConfig build() {
+            return new LogConfig(bufferSize, flushInterval, maxSize, rotationInterval, gzip);
+        }
+    }
+}
@@ -3,7 +3,7 @@ package com.github.dreamhead.moco.monitor;
 import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.Response;
 
-public final class LogMonitor extends AbstractMonitor {
+public final class LogMonitor extends AbstractMonitor implements AutoCloseable {
     private final LogWriter writer;
     private final LogFormatter formatter;
 
@@ -31,4 +31,11 @@ public final class LogMonitor extends AbstractMonitor {
     public boolean isQuiet() {
         return false;
     }
+
+    @Override
+    public void close() throws Exception {
+        if (writer instanceof AutoCloseable) {
+            ((AutoCloseable) writer).close();
+        }
+    }
 }
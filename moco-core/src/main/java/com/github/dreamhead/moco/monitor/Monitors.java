@@ -0,0 +1,24 @@
+package com.github.dreamhead.moco.monitor;
+
+import com.github.dreamhead.moco.MocoMonitor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class Monitors {
+    private static final Logger logger = LoggerFactory.getLogger(Monitors.class);
+
+    public static void close(final MocoMonitor monitor) {
+        if (!(monitor instanceof AutoCloseable)) {
+            return;
+        }
+
+        try {
+            ((AutoCloseable) monitor).close();
+        } catch (Exception e) {
+            logger.warn("Fail to close monitor", e);
+        }
+    }
+
+    private Monitors() {
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.dreamhead.moco.monitor;
+
+public enum OverflowPolicy {
+    DROP,
+    /**
+     * Waits for the monitor queue when it is full. Request handling threads, including
+     * the server event loop, are parked meanwhile, so a slow monitor slows down every request.
+     */
+    BLOCK
+}
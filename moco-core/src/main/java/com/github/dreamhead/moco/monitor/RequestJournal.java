@@ -0,0 +1,303 @@
+package com.github.dreamhead.moco.monitor;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.Request;
+import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.VerificationException;
+import com.github.dreamhead.moco.internal.RequestRoute;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.LongStream;
+
+final class RequestJournal {
+    private static final int SWEEP_INTERVAL = 4096;
+    private static final int MAX_DROPPED_KEYS = 4096;
+
+    private final long retention;
+    private final Slots slots;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong lastDropped = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicLong lastDroppedUntracked = new AtomicLong(Long.MIN_VALUE);
+    private final ConcurrentMap<String, Long> droppedUris = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> droppedMethods = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Deque<Long>> uris = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Deque<Long>> methods = new ConcurrentHashMap<>();
+    private final JournalSpill spill;
+
+    RequestJournal(final int capacity, final long retention, final String spill) {
+        this.retention = retention;
+        this.slots = capacity > 0 ? new RingSlots(capacity) : new GrowingSlots(retention);
+        this.spill = spill == null ? null : new JournalSpill(spill);
+    }
+
+    public void append(final Request request) {
+        long sequence = this.sequence.getAndIncrement();
+        Entry evicted = slots.put(new Entry(sequence, System.currentTimeMillis(), journaled(request)));
+        if (evicted != null) {
+            evict(evicted);
+        }
+
+        if (request instanceof HttpRequest) {
+            HttpRequest httpRequest = (HttpRequest) request;
+            index(uris, httpRequest.getUri(), sequence);
+            if (httpRequest.getMethod() != null) {
+                index(methods, httpRequest.getMethod().name(), sequence);
+            }
+        }
+
+        if (sequence > 0 && sequence % SWEEP_INTERVAL == 0) {
+            sweep(uris, sequence);
+            sweep(methods, sequence);
+        }
+    }
+
+    private static Request journaled(final Request request) {
+        if (request instanceof DefaultHttpRequest) {
+            return ((DefaultHttpRequest) request).withoutCache();
+        }
+
+        return request;
+    }
+
+    public Iterable<Request> candidates(final RequestMatcher matcher) {
+        long head = sequence.get();
+        long since = retention > 0 ? System.currentTimeMillis() - retention : 0;
+        RequestRoute route = matcher.route();
+        if (lastDropped(route) >= since) {
+            throw new VerificationException("Request journal has dropped requests which should be verified, "
+                    + "please configure a larger capacity or a spill file");
+        }
+
+        ImmutableList.Builder<Request> builder = ImmutableList.builder();
+
+        sequences(route, head).forEach(sequence -> {
+            Entry entry = slots.get(sequence);
+            if (entry != null && entry.sequence == sequence && entry.time >= since) {
+                builder.add(entry.request);
+            }
+        });
+
+        if (spill != null) {
+            return Iterables.concat(builder.build(), spill.read(route, since));
+        }
+
+        return builder.build();
+    }
+
+    public void close() {
+        if (spill != null) {
+            spill.close();
+        }
+    }
+
+    private void evict(final Entry entry) {
+        if (spill != null && entry.request instanceof HttpRequest) {
+            spill.write(entry.time, (HttpRequest) entry.request);
+            return;
+        }
+
+        lastDropped.accumulateAndGet(entry.time, Math::max);
+        if (!(entry.request instanceof HttpRequest)) {
+            lastDroppedUntracked.accumulateAndGet(entry.time, Math::max);
+            return;
+        }
+
+        HttpRequest request = (HttpRequest) entry.request;
+        dropped(droppedUris, request.getUri(), entry.time);
+        dropped(droppedMethods, request.getMethod() == null ? null : request.getMethod().name(), entry.time);
+    }
+
+    private void dropped(final ConcurrentMap<String, Long> dropped, final String key, final long time) {
+        if (key == null || (dropped.size() >= MAX_DROPPED_KEYS && !dropped.containsKey(key))) {
+            lastDroppedUntracked.accumulateAndGet(time, Math::max);
+            return;
+        }
+
+        dropped.merge(key, time, Math::max);
+    }
+
+    private long lastDropped(final RequestRoute route) {
+        Optional<String> uri = route.getUri();
+        if (uri.isPresent()) {
+            return Math.max(lastDroppedUntracked.get(), droppedUris.getOrDefault(uri.get(), Long.MIN_VALUE));
+        }
+
+        Optional<String> method = route.getMethod();
+        if (method.isPresent()) {
+            return Math.max(lastDroppedUntracked.get(), droppedMethods.getOrDefault(method.get(), Long.MIN_VALUE));
+        }
+
+        return lastDropped.get();
+    }
+
+    private LongStream sequences(final RequestRoute route, final long head) {
+        Optional<Deque<Long>> indexed = indexOf(route);
+        if (indexed.isPresent()) {
+            return indexed.get().stream().mapToLong(Long::longValue).filter(sequence -> sequence < head).sorted();
+        }
+
+        return LongStream.range(slots.floor(head), head);
+    }
+
+    private Optional<Deque<Long>> indexOf(final RequestRoute route) {
+        Optional<String> uri = route.getUri();
+        if (uri.isPresent()) {
+            return Optional.of(uris.getOrDefault(uri.get(), new ConcurrentLinkedDeque<>()));
+        }
+
+        return route.getMethod().map(method -> methods.getOrDefault(method, new ConcurrentLinkedDeque<>()));
+    }
+
+    private void index(final ConcurrentMap<String, Deque<Long>> index, final String key, final long sequence) {
+        if (key == null) {
+            return;
+        }
+
+        Deque<Long> sequences = index.compute(key, (name, current) -> {
+            Deque<Long> target = current == null ? new ConcurrentLinkedDeque<>() : current;
+            target.addLast(sequence);
+            return target;
+        });
+        trim(sequences, sequence);
+    }
+
+    private void sweep(final ConcurrentMap<String, Deque<Long>> index, final long sequence) {
+        for (String key : index.keySet()) {
+            index.computeIfPresent(key, (name, sequences) -> {
+                trim(sequences, sequence);
+                return sequences.isEmpty() ? null : sequences;
+            });
+        }
+    }
+
+    private void trim(final Deque<Long> sequences, final long sequence) {
+        long floor = slots.floor(sequence + 1);
+        Long first;
+        while ((first = sequences.peekFirst()) != null && first < floor) {
+            sequences.remove(first);
+        }
+    }
+
+    private interface Slots {
+        Entry put(Entry entry);
+
+        Entry get(long sequence);
+
+        long floor(long head);
+    }
+
+    private static final class RingSlots implements Slots {
+        private final int capacity;
+        private final AtomicReferenceArray<Entry> slots;
+
+        private RingSlots(final int capacity) {
+            this.capacity = capacity;
+            this.slots = new AtomicReferenceArray<>(capacity);
+        }
+
+        @Override
+        public Entry put(final Entry entry) {
+            int slot = slotOf(entry.sequence);
+            while (true) {
+                Entry current = slots.get(slot);
+                if (current != null && current.sequence > entry.sequence) {
+                    return entry;
+                }
+
+                if (slots.compareAndSet(slot, current, entry)) {
+                    return current;
+                }
+            }
+        }
+
+        @Override
+        public Entry get(final long sequence) {
+            return slots.get(slotOf(sequence));
+        }
+
+        @Override
+        public long floor(final long head) {
+            return Math.max(0, head - capacity);
+        }
+
+        private int slotOf(final long sequence) {
+            return (int) (sequence % capacity);
+        }
+    }
+
+    private static final class GrowingSlots implements Slots {
+        private static final int CHUNK_BITS = 12;
+        private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+        private final long retention;
+        private final ConcurrentMap<Long, AtomicReferenceArray<Entry>> chunks = new ConcurrentHashMap<>();
+        private final AtomicLong firstChunk = new AtomicLong();
+
+        private GrowingSlots(final long retention) {
+            this.retention = retention;
+        }
+
+        @Override
+        public Entry put(final Entry entry) {
+            long chunk = entry.sequence >>> CHUNK_BITS;
+            int offset = (int) (entry.sequence & (CHUNK_SIZE - 1));
+            chunks.computeIfAbsent(chunk, key -> new AtomicReferenceArray<>(CHUNK_SIZE)).set(offset, entry);
+            if (offset == 0 && retention > 0) {
+                expire(chunk, entry.time - retention);
+            }
+
+            return null;
+        }
+
+        @Override
+        public Entry get(final long sequence) {
+            AtomicReferenceArray<Entry> chunk = chunks.get(sequence >>> CHUNK_BITS);
+            if (chunk == null) {
+                return null;
+            }
+
+            return chunk.get((int) (sequence & (CHUNK_SIZE - 1)));
+        }
+
+        @Override
+        public long floor(final long head) {
+            return firstChunk.get() << CHUNK_BITS;
+        }
+
+        private void expire(final long current, final long since) {
+            long first;
+            while ((first = firstChunk.get()) < current) {
+                AtomicReferenceArray<Entry> chunk = chunks.get(first);
+                Entry last = chunk == null ? null : chunk.get(CHUNK_SIZE - 1);
+                if (last == null || last.time >= since) {
+                    return;
+                }
+
+                if (firstChunk.compareAndSet(first, first + 1)) {
+                    chunks.remove(first);
+                }
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final long sequence;
+        private final long time;
+        private final Request request;
+
+        private Entry(final long sequence, final long time, final Request request) {
+            this.sequence = sequence;
+            this.time = time;
+            this.request = request;
+        }
+    }
+}
@@ -9,7 +9,7 @@ import java.util.concurrent.locks.ReentrantLock;
 
 import static com.github.dreamhead.moco.util.Locks.withLock;
 
-public final class ThreadSafeMonitor implements MocoMonitor {
+public final class ThreadSafeMonitor implements MocoMonitor, AutoCloseable {
     private final MocoMonitor monitor;
     private final Lock lock = new ReentrantLock();
 
@@ -41,4 +41,9 @@ public final class ThreadSafeMonitor implements MocoMonitor {
     public boolean isQuiet() {
         return monitor.isQuiet();
     }
+
+    @Override
+    public void close() {
+        Monitors.close(monitor);
+    }
 }
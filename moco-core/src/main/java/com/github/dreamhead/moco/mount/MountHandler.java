@@ -6,16 +6,13 @@ import com.github.dreamhead.moco.ResponseHandler;
 import com.github.dreamhead.moco.handler.AbstractContentResponseHandler;
 import com.github.dreamhead.moco.internal.SessionContext;
 import com.github.dreamhead.moco.model.MessageContent;
-import com.github.dreamhead.moco.resource.Resource;
-import com.github.dreamhead.moco.resource.reader.FileResourceReader;
+import com.github.dreamhead.moco.resource.reader.FileContents;
 import com.github.dreamhead.moco.util.FileContentType;
 import com.google.common.net.MediaType;
 
 import java.io.File;
 import java.util.Optional;
 
-import static com.github.dreamhead.moco.Moco.text;
-
 public final class MountHandler extends AbstractContentResponseHandler {
     private final MountPathExtractor extractor;
 
@@ -30,12 +27,8 @@ public final class MountHandler extends AbstractContentResponseHandler {
 
     @Override
     protected MessageContent responseContent(final SessionContext context) {
-        FileResourceReader reader = new FileResourceReader(asResource((HttpRequest) context.getRequest()));
-        return reader.readFor(context);
-    }
-
-    private Resource asResource(final HttpRequest httpRequest) {
-        return text(targetFile(httpRequest).getPath());
+        File file = targetFile((HttpRequest) context.getRequest());
+        return FileContents.read(file.toPath()).toMessageContent();
     }
 
     private File targetFile(final HttpRequest request) {
@@ -1,6 +1,7 @@
 package com.github.dreamhead.moco.procedure;
 
 import com.github.dreamhead.moco.MocoProcedure;
+import com.github.dreamhead.moco.internal.SessionContext;
 import com.github.dreamhead.moco.util.Idles;
 
 import java.util.concurrent.TimeUnit;
@@ -14,8 +15,21 @@ public final class LatencyProcedure implements MocoProcedure {
         this.unit = unit;
     }
 
+    public long getDuration() {
+        return duration;
+    }
+
+    public TimeUnit getUnit() {
+        return unit;
+    }
+
     @Override
     public void execute() {
         Idles.idle(duration, unit);
     }
+
+    @Override
+    public void execute(final SessionContext context) {
+        context.delay(duration, unit);
+    }
 }
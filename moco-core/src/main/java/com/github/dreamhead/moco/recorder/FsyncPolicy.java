@@ -0,0 +1,6 @@
+package com.github.dreamhead.moco.recorder;
+
+public enum FsyncPolicy {
+    NEVER,
+    ALWAYS
+}
@@ -1,47 +1,28 @@
 package com.github.dreamhead.moco.recorder;
 
 import com.github.dreamhead.moco.HttpRequest;
-import com.github.dreamhead.moco.MocoException;
-import com.github.dreamhead.moco.util.Jsons;
-
-import java.io.BufferedReader;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.NoSuchFileException;
-import java.nio.file.Path;
+
 import java.nio.file.Paths;
 
 public class RecorderTape implements RecorderConfig {
-    private final Path path;
+    private final TapeLog log;
+    private final FsyncPolicy policy;
 
     public RecorderTape(final String path) {
-        this.path = Paths.get(path);
+        this(path, FsyncPolicy.NEVER);
     }
 
-    public final void write(final String name, final HttpRequest httpRequest) {
-        TapeContent content = getTapeContent();
-        content.addRequest(name, httpRequest);
-        Jsons.writeToFile(path, content);
+    public RecorderTape(final String path, final FsyncPolicy policy) {
+        this.log = TapeLog.of(Paths.get(path));
+        this.policy = policy;
     }
 
-    private TapeContent getTapeContent() {
-        try {
-            BufferedReader reader = Files.newBufferedReader(path);
-            if (reader.ready()) {
-                return Jsons.toObject(reader, TapeContent.class);
-            }
-
-            return new TapeContent();
-        } catch (FileNotFoundException | NoSuchFileException e) {
-            return new TapeContent();
-        } catch (IOException e) {
-            throw new MocoException(e);
-        }
+    public final void write(final String name, final HttpRequest httpRequest) {
+        log.append(name, httpRequest, policy);
     }
 
     public final HttpRequest read(final String name) {
-        return getTapeContent().getRequest(name);
+        return log.read(name);
     }
 
     @Override
@@ -25,6 +25,10 @@ public class TapeContent {
         content.put(name, request);
     }
 
+    public final Map<String, HttpRequest> getContent() {
+        return content;
+    }
+
     public final HttpRequest getRequest(final String name) {
         return content.get(name);
     }
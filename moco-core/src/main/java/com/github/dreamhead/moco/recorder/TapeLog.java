@@ -0,0 +1,295 @@
+package com.github.dreamhead.moco.recorder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.MocoException;
+import com.github.dreamhead.moco.util.Jsons;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+final class TapeLog {
+    private static final Logger logger = LoggerFactory.getLogger(TapeLog.class);
+    private static final ConcurrentMap<Path, TapeLog> LOGS = new ConcurrentHashMap<>();
+    private static final JsonFactory FACTORY = new JsonFactory();
+    private static final byte LINE_SEPARATOR = '\n';
+    private static final String RECORD_HEAD = "{\"name\"";
+    private static final long COMPACTION_THRESHOLD = 64 * 1024;
+
+    private final Path path;
+    private final Map<String, Entry> index = new LinkedHashMap<>();
+    private final Map<String, HttpRequest> legacy = new LinkedHashMap<>();
+    private boolean loaded;
+    private long size;
+    private long liveBytes;
+    private long lastModified;
+    private long fileSize;
+
+    private TapeLog(final Path path) {
+        this.path = path;
+    }
+
+    public static TapeLog of(final Path path) {
+        return LOGS.computeIfAbsent(path.toAbsolutePath().normalize(), TapeLog::new);
+    }
+
+    public synchronized void append(final String name, final HttpRequest request, final FsyncPolicy policy) {
+        ensureLoaded();
+        byte[] record = toRecord(name, request);
+        try {
+            if (!legacy.isEmpty()) {
+                compact(policy);
+            }
+
+            Entry previous = index.get(name);
+            if (previous != null && previous.isSameAs(record)) {
+                return;
+            }
+
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                if (channel.size() > size) {
+                    channel.truncate(size);
+                }
+
+                writeFully(channel, ByteBuffer.wrap(record), size);
+                if (policy == FsyncPolicy.ALWAYS) {
+                    channel.force(false);
+                }
+            }
+
+            index.put(name, new Entry(size, record.length));
+            size += record.length;
+            liveBytes += record.length - (previous == null ? 0 : previous.length);
+            stamp();
+
+            if (shouldCompact()) {
+                compact(policy);
+            }
+        } catch (IOException e) {
+            throw new MocoException(e);
+        }
+    }
+
+    public synchronized HttpRequest read(final String name) {
+        ensureLoaded();
+        Entry entry = index.get(name);
+        if (entry == null) {
+            return legacy.get(name);
+        }
+
+        try {
+            return Jsons.toObject(new String(entry.read(), UTF_8), TapeRecord.class).getRequest();
+        } catch (IOException e) {
+            throw new MocoException(e);
+        }
+    }
+
+    private static byte[] toRecord(final String name, final HttpRequest request) {
+        return (Jsons.toJson(new TapeRecord(name, request)) + (char) LINE_SEPARATOR).getBytes(UTF_8);
+    }
+
+    private boolean shouldCompact() {
+        long garbage = size - liveBytes;
+        return garbage > COMPACTION_THRESHOLD && garbage > liveBytes;
+    }
+
+    private void compact(final FsyncPolicy policy) throws IOException {
+        Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+        try {
+            Map<String, Entry> compacted = new LinkedHashMap<>();
+            long position = 0;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                for (Map.Entry<String, HttpRequest> request : legacy.entrySet()) {
+                    byte[] record = toRecord(request.getKey(), request.getValue());
+                    writeFully(channel, ByteBuffer.wrap(record), position);
+                    compacted.put(request.getKey(), new Entry(position, record.length));
+                    position += record.length;
+                }
+
+                for (Map.Entry<String, Entry> entry : index.entrySet()) {
+                    byte[] record = entry.getValue().read();
+                    writeFully(channel, ByteBuffer.wrap(record), position);
+                    compacted.put(entry.getKey(), new Entry(position, record.length));
+                    position += record.length;
+                }
+
+                channel.force(policy == FsyncPolicy.ALWAYS);
+            }
+
+            move(temp);
+            index.clear();
+            index.putAll(compacted);
+            legacy.clear();
+            size = position;
+            liveBytes = position;
+            stamp();
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void move(final Path temp) throws IOException {
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer,
+                                   final long position) throws IOException {
+        long current = position;
+        while (buffer.hasRemaining()) {
+            current += channel.write(buffer, current);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded && !isModifiedOutside()) {
+            return;
+        }
+
+        index.clear();
+        legacy.clear();
+        size = 0;
+        liveBytes = 0;
+
+        try {
+            if (Files.exists(path)) {
+                load();
+            }
+        } catch (IOException e) {
+            throw new MocoException(e);
+        }
+
+        loaded = true;
+        stamp();
+    }
+
+    private void load() throws IOException {
+        try (InputStream stream = new BufferedInputStream(Files.newInputStream(path))) {
+            stream.mark(1);
+            int first = stream.read();
+            stream.reset();
+            if (first == '{' && !isRecordLine(stream)) {
+                loadLegacy();
+                return;
+            }
+
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int current;
+            while ((current = stream.read()) != -1) {
+                line.write(current);
+                if (current == LINE_SEPARATOR) {
+                    addEntry(line.toByteArray());
+                    line.reset();
+                }
+            }
+
+            if (line.size() > 0) {
+                logger.warn("Incomplete record found at the end of tape {}, it will be discarded", path);
+            }
+        }
+    }
+
+    private static boolean isRecordLine(final InputStream stream) throws IOException {
+        byte[] head = RECORD_HEAD.getBytes(UTF_8);
+        byte[] actual = new byte[head.length];
+        stream.mark(head.length);
+        int length = stream.read(actual);
+        stream.reset();
+        return length == head.length && Arrays.equals(head, actual);
+    }
+
+    private void loadLegacy() throws IOException {
+        try (Reader reader = Files.newBufferedReader(path)) {
+            TapeContent content = Jsons.toObject(reader, TapeContent.class);
+            legacy.putAll(content.getContent());
+        }
+    }
+
+    private void addEntry(final byte[] line) throws IOException {
+        String name = nameOf(line);
+        if (name == null) {
+            logger.warn("Unknown record found in tape {}, it will be discarded", path);
+        } else {
+            Entry previous = index.put(name, new Entry(size, line.length));
+            liveBytes += line.length - (previous == null ? 0 : previous.length);
+        }
+
+        size += line.length;
+    }
+
+    private static String nameOf(final byte[] line) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(line)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT
+                    && parser.nextToken() == JsonToken.FIELD_NAME
+                    && "name".equals(parser.getCurrentName())
+                    && parser.nextToken() == JsonToken.VALUE_STRING) {
+                return parser.getText();
+            }
+
+            return null;
+        } catch (JsonParseException e) {
+            return null;
+        }
+    }
+
+    private boolean isModifiedOutside() {
+        return path.toFile().lastModified() != lastModified || path.toFile().length() != fileSize;
+    }
+
+    private void stamp() {
+        this.lastModified = path.toFile().lastModified();
+        this.fileSize = path.toFile().length();
+    }
+
+    private final class Entry {
+        private final long offset;
+        private final int length;
+
+        private Entry(final long offset, final int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+
+        private byte[] read() throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, offset + buffer.position()) < 0) {
+                        throw new IOException("Unexpected end of tape " + path);
+                    }
+                }
+            }
+
+            return buffer.array();
+        }
+
+        private boolean isSameAs(final byte[] record) throws IOException {
+            return length == record.length && Arrays.equals(read(), record);
+        }
+    }
+}
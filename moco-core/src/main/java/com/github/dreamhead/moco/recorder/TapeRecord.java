@@ -0,0 +1,29 @@
+package com.github.dreamhead.moco.recorder;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.github.dreamhead.moco.HttpRequest;
+
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+@JsonPropertyOrder({"name", "request"})
+final class TapeRecord {
+    private final String name;
+    private final HttpRequest request;
+
+    @JsonCreator
+    TapeRecord(@JsonProperty("name") final String name,
+               @JsonProperty("request") final HttpRequest request) {
+        this.name = name;
+        this.request = request;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public HttpRequest getRequest() {
+        return request;
+    }
+}
@@ -46,6 +46,11 @@ public class Resource implements Identifiable, ConfigApplier<Resource>,
         return reader.readFor(context);
     }
 
+    @Override
+    public final boolean isStatic() {
+        return reader.isStatic();
+    }
+
     @Override
     public final Transformer<byte[]> transform(final Function<byte[], byte[]> transformer) {
         checkNotNull(transformer, "Transformer should not be null");
@@ -34,6 +34,26 @@ import static com.github.dreamhead.moco.util.Functions.checkApply;
 import static com.google.common.net.MediaType.APPLICATION_BINARY;
 
 public final class ResourceFactory {
+    public static ContentResource textResource(final String text) {
+        final MessageContent content = content(text);
+        return contentResource(id("text"), DO_NOTHING_APPLIER, new ContentResourceReader() {
+            @Override
+            public MediaType getContentType(final HttpRequest request) {
+                return FileContentType.DEFAULT_CONTENT_TYPE_WITH_CHARSET;
+            }
+
+            @Override
+            public MessageContent readFor(final Request request) {
+                return content;
+            }
+
+            @Override
+            public boolean isStatic() {
+                return true;
+            }
+        });
+    }
+
     public static ContentResource textResource(final Function<Request, String> function) {
         return contentResource(id("text"), DO_NOTHING_APPLIER, new ContentResourceReader() {
             @Override
@@ -103,6 +123,11 @@ public final class ResourceFactory {
                 new JsonResourceReader(function));
     }
 
+    public static ContentResource jsonResource(final Object value) {
+        return contentResource(id("json"), DO_NOTHING_APPLIER,
+                JsonResourceReader.constant(value));
+    }
+
     public static Resource methodResource(final String method) {
         return resource(id("method"), DO_NOTHING_APPLIER, request -> content(method.toUpperCase()));
     }
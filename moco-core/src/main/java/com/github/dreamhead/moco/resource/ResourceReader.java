@@ -13,4 +13,8 @@ public interface ResourceReader {
         }
         return this.readFor(context.getRequest());
     }
+
+    default boolean isStatic() {
+        return false;
+    }
 }
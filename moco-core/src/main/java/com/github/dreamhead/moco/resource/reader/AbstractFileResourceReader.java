@@ -9,11 +9,9 @@ import com.google.common.net.MediaType;
 
 import java.nio.charset.Charset;
 
-import static com.github.dreamhead.moco.model.MessageContent.content;
-
 public abstract class AbstractFileResourceReader implements ContentResourceReader {
 
-    protected abstract byte[] doReadFor(Request request);
+    protected abstract FileContent doReadFor(Request request);
 
     private final Resource filename;
     private final Charset charset;
@@ -25,16 +23,7 @@ public abstract class AbstractFileResourceReader implements ContentResourceReade
 
     @Override
     public final MessageContent readFor(final Request request) {
-        return asMessageContent(doReadFor(request));
-    }
-
-    private MessageContent asMessageContent(final byte[] content) {
-        MessageContent.Builder builder = content().withContent(content);
-        if (charset != null) {
-            builder.withCharset(charset);
-        }
-
-        return builder.build();
+        return doReadFor(request).toMessageContent(charset);
     }
 
     @Override
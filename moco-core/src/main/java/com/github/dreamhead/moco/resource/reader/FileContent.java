@@ -0,0 +1,32 @@
+package com.github.dreamhead.moco.resource.reader;
+
+import com.github.dreamhead.moco.model.MessageContent;
+
+import java.nio.charset.Charset;
+
+import static com.github.dreamhead.moco.model.MessageContent.content;
+
+public final class FileContent {
+    private final byte[] content;
+
+    FileContent(final byte[] content) {
+        this.content = content;
+    }
+
+    public int size() {
+        return content.length;
+    }
+
+    public MessageContent toMessageContent() {
+        return toMessageContent(null);
+    }
+
+    public MessageContent toMessageContent(final Charset charset) {
+        MessageContent.Builder builder = content().withContent(content);
+        if (charset != null) {
+            builder.withCharset(charset);
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.github.dreamhead.moco.resource.reader;
+
+import com.github.dreamhead.moco.MocoException;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.io.Resources;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+import static com.google.common.io.ByteStreams.toByteArray;
+import static java.lang.String.format;
+
+public final class FileContents {
+    private static final long MAX_CACHED_BYTES = 64 * 1024 * 1024;
+    private static final int MAX_CACHED_RESOURCES = 1024;
+    private static final long TIMESTAMP_PRECISION_MILLIS = 2000;
+
+    private static final Cache<Object, Entry> CONTENTS = CacheBuilder.newBuilder()
+            .maximumWeight(MAX_CACHED_BYTES)
+            .weigher((Object key, Entry entry) -> entry.content.size())
+            .build();
+    private static final Cache<String, URL> RESOURCES = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_RESOURCES)
+            .build();
+
+    /**
+     * Cached content is reused while the file key, modification time and size stay the same. Content read
+     * within the file system timestamp precision of its modification time is not trusted, since a rewrite of
+     * the same length could keep all of them; such files are read again until their modification time is old
+     * enough. Changes which keep all of them and happen later, or clocks far behind the file system, are not
+     * detected.
+     */
+    public static FileContent read(final Path path) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            CONTENTS.invalidate(path);
+            throw new IllegalArgumentException(format("%s does not exist", path.getFileName().toString()));
+        } catch (IOException e) {
+            throw new MocoException(e);
+        }
+
+        Entry entry = CONTENTS.getIfPresent(path);
+        if (entry != null && entry.isSame(attributes)) {
+            return entry.content;
+        }
+
+        try {
+            long readAt = System.currentTimeMillis();
+            FileContent content = new FileContent(Files.readAllBytes(path));
+            CONTENTS.put(path, new Entry(content, attributes, readAt));
+            return content;
+        } catch (IOException e) {
+            throw new MocoException(e);
+        }
+    }
+
+    public static FileContent readClasspath(final String filename) {
+        URL resource = resource(filename);
+        if ("file".equals(resource.getProtocol())) {
+            try {
+                return read(Paths.get(resource.toURI()));
+            } catch (URISyntaxException e) {
+                throw new MocoException(e);
+            }
+        }
+
+        String key = resource.toExternalForm();
+        Entry entry = CONTENTS.getIfPresent(key);
+        if (entry != null) {
+            return entry.content;
+        }
+
+        try (InputStream stream = resource.openStream()) {
+            FileContent content = new FileContent(toByteArray(stream));
+            CONTENTS.put(key, new Entry(content, null, 0));
+            return content;
+        } catch (IOException e) {
+            throw new MocoException(e);
+        }
+    }
+
+    private static URL resource(final String filename) {
+        try {
+            return RESOURCES.get(filename, () -> Resources.getResource(filename));
+        } catch (UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        } catch (ExecutionException e) {
+            throw new MocoException(e.getCause());
+        }
+    }
+
+    private static final class Entry {
+        private final FileContent content;
+        private final BasicFileAttributes attributes;
+        private final boolean stable;
+
+        private Entry(final FileContent content, final BasicFileAttributes attributes, final long readAt) {
+            this.content = content;
+            this.attributes = attributes;
+            this.stable = attributes != null
+                    && readAt - attributes.lastModifiedTime().toMillis() >= TIMESTAMP_PRECISION_MILLIS;
+        }
+
+        private boolean isSame(final BasicFileAttributes current) {
+            return stable
+                    && Objects.equals(current.fileKey(), attributes.fileKey())
+                    && current.lastModifiedTime().equals(attributes.lastModifiedTime())
+                    && current.size() == attributes.size();
+        }
+    }
+
+    private FileContents() {
+    }
+}
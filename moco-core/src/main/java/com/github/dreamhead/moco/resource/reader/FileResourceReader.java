@@ -1,18 +1,12 @@
 package com.github.dreamhead.moco.resource.reader;
 
 import com.github.dreamhead.moco.MocoConfig;
-import com.github.dreamhead.moco.MocoException;
 import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.resource.Resource;
 
-import java.io.IOException;
 import java.nio.charset.Charset;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
 
-import static java.lang.String.format;
-
 public final class FileResourceReader extends AbstractFileResourceReader {
     private final MocoConfig config;
 
@@ -26,19 +20,8 @@ public final class FileResourceReader extends AbstractFileResourceReader {
     }
 
     @Override
-    protected byte[] doReadFor(final Request request) {
-        String pathname = targetFileName(request);
-        Path path = Paths.get(pathname);
-
-        if (!Files.exists(path)) {
-            throw new IllegalArgumentException(format("%s does not exist", path.getFileName().toString()));
-        }
-
-        try {
-            return Files.readAllBytes(path);
-        } catch (IOException e) {
-            throw new MocoException(e);
-        }
+    protected FileContent doReadFor(final Request request) {
+        return FileContents.read(Paths.get(targetFileName(request)));
     }
 
     @SuppressWarnings("unchecked")
@@ -3,28 +3,67 @@ package com.github.dreamhead.moco.resource.reader;
 import com.github.dreamhead.moco.HttpRequest;
 import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.model.MessageContent;
+import com.github.dreamhead.moco.resource.Resource;
 import com.google.common.net.MediaType;
 
+import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.function.Function;
 
 import static com.github.dreamhead.moco.util.Jsons.toJson;
 
 public final class JsonResourceReader implements ContentResourceReader, FunctionResourceReader {
+    private static final MediaType JSON_TYPE = MediaType.create("application", "json")
+            .withCharset(Charset.defaultCharset());
+
     private final Function<Request, Object> function;
+    private final boolean constant;
+    private volatile MessageContent content;
 
     public JsonResourceReader(final Function<Request, Object> function) {
+        this(function, false);
+    }
+
+    private JsonResourceReader(final Function<Request, Object> function, final boolean constant) {
         this.function = function;
+        this.constant = constant;
+    }
+
+    public static JsonResourceReader constant(final Object value) {
+        return new JsonResourceReader(request -> value, isStatic(value));
+    }
+
+    private static boolean isStatic(final Object value) {
+        if (value instanceof Resource) {
+            return ((Resource) value).isStatic();
+        }
+
+        return !(value instanceof InputStream);
     }
 
     @Override
     public MediaType getContentType(final HttpRequest request) {
-        return MediaType.create("application", "json").withCharset(Charset.defaultCharset());
+        return JSON_TYPE;
     }
 
     @Override
     public MessageContent readFor(final Request request) {
-        return read(this.function, request);
+        if (!constant) {
+            return read(this.function, request);
+        }
+
+        MessageContent current = this.content;
+        if (current == null) {
+            current = read(this.function, request);
+            this.content = current;
+        }
+
+        return current;
+    }
+
+    @Override
+    public boolean isStatic() {
+        return constant;
     }
 
     public Object getPojo() {
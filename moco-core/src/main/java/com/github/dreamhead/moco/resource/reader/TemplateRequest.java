@@ -7,6 +7,7 @@ import com.github.dreamhead.moco.internal.ContextKey;
 import com.github.dreamhead.moco.internal.SessionContext;
 import com.github.dreamhead.moco.model.DefaultHttpRequest;
 import com.github.dreamhead.moco.model.MessageContent;
+import com.github.dreamhead.moco.model.RequestCache;
 import com.github.dreamhead.moco.resource.Resource;
 import com.github.dreamhead.moco.util.AntPathMatcher;
 import com.github.dreamhead.moco.util.Jsons;
@@ -19,6 +20,9 @@ import static com.github.dreamhead.moco.util.Maps.arrayValueToSimple;
 import static com.google.common.collect.ImmutableMap.toImmutableMap;
 
 public final class TemplateRequest {
+    private static final Object JSON_CONTENT = new Object();
+    private static final Object XML_CONTENT = new Object();
+
     private final Request request;
     private final SessionContext context;
 
@@ -91,19 +95,23 @@ public final class TemplateRequest {
     }
 
     public Object getJson() {
-        try {
-            return Jsons.toObject(this.request.getContent().toString(), Object.class);
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Json content is expected", e);
-        }
+        return RequestCache.cached(this.request, JSON_CONTENT, () -> {
+            try {
+                return Jsons.toObject(this.request.getContent().toString(), Object.class);
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Json content is expected", e);
+            }
+        });
     }
 
     public Object getXml() {
-        try {
-            return Xmls.toObject(this.request.getContent().toString(), Object.class);
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Xml content is expected", e);
-        }
+        return RequestCache.cached(this.request, XML_CONTENT, () -> {
+            try {
+                return Xmls.toObject(this.request.getContent().toString(), Object.class);
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Xml content is expected", e);
+            }
+        });
     }
 
     public Map<String, String> getPath() {
@@ -6,12 +6,12 @@ import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.internal.SessionContext;
 import com.github.dreamhead.moco.model.MessageContent;
 import com.github.dreamhead.moco.resource.ContentResource;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import com.google.common.net.MediaType;
-import freemarker.cache.StringTemplateLoader;
-import freemarker.cache.TemplateLoader;
 import freemarker.core.ParseException;
 import freemarker.template.Configuration;
 import freemarker.template.DefaultObjectWrapperBuilder;
@@ -27,6 +27,7 @@ import org.slf4j.LoggerFactory;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.StringReader;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.text.DecimalFormat;
@@ -46,6 +47,8 @@ public class TemplateResourceReader implements ContentResourceReader {
     private static final Version CURRENT_VERSION = Configuration.VERSION_2_3_31;
     private static final String TEMPLATE_NAME = "template";
     private static final List<String> RESERVED_NAME = ImmutableList.of("req", "now", "random");
+    private static final int MAX_CACHED_TEMPLATES = 1024;
+    private static final int MAX_POOLED_BUFFER = 64 * 1024;
 
     private static Logger logger = LoggerFactory.getLogger(TemplateResourceReader.class);
 
@@ -54,6 +57,12 @@ public class TemplateResourceReader implements ContentResourceReader {
                 freemarker.log.Logger.LIBRARY_NAME_NONE);
     }
 
+    private static final Configuration CONFIGURATION = createConfiguration();
+    private static final Cache<MessageContent, Template> TEMPLATES = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_TEMPLATES)
+            .build();
+    private static final ThreadLocal<RenderBuffer> BUFFERS = ThreadLocal.withInitial(RenderBuffer::new);
+
     private final ContentResource template;
     private final ImmutableMap<String, ? extends Variable> variables;
 
@@ -91,11 +100,8 @@ public class TemplateResourceReader implements ContentResourceReader {
         MessageContent content = this.template.readFor(context.getRequest());
 
         try {
-            Template targetTemplate = createTemplate(content);
-            ByteArrayOutputStream stream = new ByteArrayOutputStream();
-            Writer writer = new OutputStreamWriter(stream);
-            targetTemplate.process(variables(context), writer);
-            return content().withContent(stream.toByteArray()).build();
+            Template targetTemplate = getTemplate(content);
+            return content().withContent(render(targetTemplate, context)).build();
         } catch (ParseException e) {
             logger.warn("Fail to parse template: {}", content.toString());
             throw new MocoException(e);
@@ -104,23 +110,36 @@ public class TemplateResourceReader implements ContentResourceReader {
         }
     }
 
-    private Template createTemplate(final MessageContent messageContent) throws IOException {
-        TemplateLoader templateLoader = createTemplateLoader(messageContent);
-        Configuration cfg = createConfiguration(templateLoader, messageContent.getCharset());
-        return cfg.getTemplate(TEMPLATE_NAME);
+    private byte[] render(final Template targetTemplate, final SessionContext context)
+            throws IOException, TemplateException {
+        RenderBuffer buffer = BUFFERS.get();
+        BUFFERS.remove();
+        buffer.reset();
+        targetTemplate.process(variables(context), buffer.writer);
+        buffer.writer.flush();
+        byte[] rendered = buffer.toByteArray();
+        if (buffer.capacity() <= MAX_POOLED_BUFFER) {
+            BUFFERS.set(buffer);
+        }
+
+        return rendered;
     }
 
-    private StringTemplateLoader createTemplateLoader(final MessageContent messageContent) {
-        StringTemplateLoader templateLoader = new StringTemplateLoader();
-        templateLoader.putTemplate(TEMPLATE_NAME, messageContent.toString());
-        return templateLoader;
+    private Template getTemplate(final MessageContent content) throws IOException {
+        Template cached = TEMPLATES.getIfPresent(content);
+        if (cached != null) {
+            return cached;
+        }
+
+        Template parsed = new Template(TEMPLATE_NAME, TEMPLATE_NAME,
+                new StringReader(content.toString()), CONFIGURATION, content.getCharset().name());
+        TEMPLATES.put(content, parsed);
+        return parsed;
     }
 
-    private Configuration createConfiguration(final TemplateLoader templateLoader, final Charset charset) {
+    private static Configuration createConfiguration() {
         Configuration cfg = new Configuration(CURRENT_VERSION);
         cfg.setObjectWrapper(new DefaultObjectWrapperBuilder(CURRENT_VERSION).build());
-        cfg.setDefaultEncoding(charset.name());
-        cfg.setTemplateLoader(templateLoader);
         return cfg;
     }
 
@@ -146,6 +165,14 @@ public class TemplateResourceReader implements ContentResourceReader {
         return template.getContentType(request);
     }
 
+    private static final class RenderBuffer extends ByteArrayOutputStream {
+        private final Writer writer = new OutputStreamWriter(this, Charset.defaultCharset());
+
+        private int capacity() {
+            return buf.length;
+        }
+    }
+
     private static class NowMethod implements TemplateMethodModelEx {
         @Override
         public Object exec(final List arguments) {
@@ -0,0 +1,115 @@
+package com.github.dreamhead.moco.server;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+public final class Http2Config {
+    public static final Http2Config DEFAULT_CONFIG = builder().build();
+    public static final Http2Config DISABLED = builder().withEnabled(false).build();
+
+    private static final long DEFAULT_MAX_CONCURRENT_STREAMS = 1000;
+    private static final int DEFAULT_WINDOW_SIZE = 65535;
+
+    private final boolean enabled;
+    private final long maxConcurrentStreams;
+    private final int initialWindowSize;
+    private final int connectionWindowSize;
+
+    private Http2Config(final boolean enabled, final long maxConcurrentStreams,
+                        final int initialWindowSize, final int connectionWindowSize) {
+        this.enabled = enabled;
+        this.maxConcurrentStreams = maxConcurrentStreams;
+        this.initialWindowSize = initialWindowSize;
+        this.connectionWindowSize = connectionWindowSize;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getMaxConcurrentStreams() {
+        return maxConcurrentStreams;
+    }
+
+    public int getInitialWindowSize() {
+        return initialWindowSize;
+    }
+
+    public int getConnectionWindowSize() {
+        return connectionWindowSize;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof Http2Config)) {
+            return false;
+        }
+
+        Http2Config that = (Http2Config) o;
+        return enabled == that.enabled
+                && maxConcurrentStreams == that.maxConcurrentStreams
+                && initialWindowSize == that.initialWindowSize
+                && connectionWindowSize == that.connectionWindowSize;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxConcurrentStreams, initialWindowSize, connectionWindowSize);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("enabled", enabled)
+                .add("maxConcurrentStreams", maxConcurrentStreams)
+                .add("initialWindowSize", initialWindowSize)
+                .add("connectionWindowSize", connectionWindowSize)
+                .toString();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private boolean enabled = true;
+        private long maxConcurrentStreams = DEFAULT_MAX_CONCURRENT_STREAMS;
+        private int initialWindowSize = DEFAULT_WINDOW_SIZE;
+        private int connectionWindowSize = DEFAULT_WINDOW_SIZE;
+
+        public Builder withEnabled(final boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        public Builder withMaxConcurrentStreams(final long maxConcurrentStreams) {
+            checkArgument(maxConcurrentStreams > 0, "Max concurrent streams must be greater than zero");
+            this.maxConcurrentStreams = maxConcurrentStreams;
+            return this;
+        }
+
+        public Builder withInitialWindowSize(final int initialWindowSize) {
+            checkArgument(initialWindowSize > 0, "Initial window size must be greater than zero");
+            this.initialWindowSize = initialWindowSize;
+            return this;
+        }
+
+        public Builder withConnectionWindowSize(final int connectionWindowSize) {
+            checkArgument(connectionWindowSize >= DEFAULT_WINDOW_SIZE,
+                    "Connection window size must not be less than %s", DEFAULT_WINDOW_SIZE);
+            this.connectionWindowSize = connectionWindowSize;
+            return this;
+        }
+
+        public Http2Config build() {
+            return new Http2Config(enabled, maxConcurrentStreams, initialWindowSize, connectionWindowSize);
+        }
+    }
+}
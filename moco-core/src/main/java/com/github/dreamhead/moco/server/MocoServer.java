@@ -4,49 +4,118 @@ import com.github.dreamhead.moco.MocoException;
 import com.github.dreamhead.moco.util.MocoExecutors;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
-import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollMode;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Future;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
-import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 public final class MocoServer {
+    private static final Logger logger = LoggerFactory.getLogger(MocoServer.class);
+
+    private final TransportConfig config;
+    private final List<Channel> channels = new ArrayList<>();
     private EventLoopGroup group;
-    private ChannelFuture future;
 
     public MocoServer() {
-        group = new NioEventLoopGroup(0, MocoExecutors.executor());
+        this(TransportConfig.DEFAULT_CONFIG);
+    }
+
+    public MocoServer(final TransportConfig config) {
+        this.config = config;
+        this.group = Transports.newEventLoopGroup(config.getTransport(),
+                MocoExecutors.eventLoopThreads(), MocoExecutors.eventLoop());
     }
 
     public int start(final int port, final ChannelInitializer<? extends Channel> pipelineFactory) {
         ServerBootstrap bootstrap = new ServerBootstrap();
         bootstrap.group(group)
-                .channel(NioServerSocketChannel.class)
+                .channel(Transports.serverChannelClass(group))
                 .childHandler(pipelineFactory);
+        configure(bootstrap);
 
         try {
-            future = bootstrap.bind(port).sync();
-            SocketAddress socketAddress = future.channel().localAddress();
-            return ((InetSocketAddress) socketAddress).getPort();
+            Channel channel = bootstrap.bind(port).sync().channel();
+            channels.add(channel);
+            int actualPort = ((InetSocketAddress) channel.localAddress()).getPort();
+            for (int i = 1; i < listeners(); i++) {
+                channels.add(bootstrap.bind(actualPort).sync().channel());
+            }
+
+            return actualPort;
         } catch (InterruptedException e) {
             throw new MocoException(e);
         }
     }
 
+    private void configure(final ServerBootstrap bootstrap) {
+        if (config.getBacklog() > 0) {
+            bootstrap.option(ChannelOption.SO_BACKLOG, config.getBacklog());
+        }
+
+        bootstrap.childOption(ChannelOption.TCP_NODELAY, config.isTcpNoDelay());
+        if (config.getReceiveBufferSize() > 0) {
+            bootstrap.childOption(ChannelOption.SO_RCVBUF, config.getReceiveBufferSize());
+        }
+
+        if (config.getSendBufferSize() > 0) {
+            bootstrap.childOption(ChannelOption.SO_SNDBUF, config.getSendBufferSize());
+        }
+
+        if (Transports.isEpoll(group)) {
+            EpollMode mode = config.isEdgeTriggered() ? EpollMode.EDGE_TRIGGERED : EpollMode.LEVEL_TRIGGERED;
+            bootstrap.option(EpollChannelOption.EPOLL_MODE, mode)
+                    .childOption(EpollChannelOption.EPOLL_MODE, mode);
+            if (config.getListeners() > 1) {
+                bootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+            }
+        }
+    }
+
+    private int listeners() {
+        if (config.getListeners() > 1 && !Transports.isEpoll(group)) {
+            logger.warn("Multiple listeners require epoll transport, only one listener will be bound");
+            return 1;
+        }
+
+        return config.getListeners();
+    }
+
+    EventLoopGroup group() {
+        return group;
+    }
+
+    public void awaitPendingTasks() {
+        if (group == null) {
+            return;
+        }
+
+        for (EventExecutor executor : group) {
+            if (!executor.inEventLoop()) {
+                executor.submit(() -> {
+                }).syncUninterruptibly();
+            }
+        }
+    }
+
     public void stop() {
         doStop();
     }
 
     private void doStop() {
-        if (future != null) {
-            future.channel().close().syncUninterruptibly();
-            future = null;
+        for (Channel channel : channels) {
+            channel.close().syncUninterruptibly();
         }
+        channels.clear();
 
         if (group != null) {
             Future<?> groupFuture = group.shutdownGracefully(0, 0, TimeUnit.SECONDS);
@@ -6,4 +6,8 @@ import io.netty.channel.ChannelInitializer;
 public interface ServerConfiguration {
     ServerSetting serverSetting();
     ChannelInitializer<? extends Channel> channelInitializer();
+
+    default TransportConfig transportConfig() {
+        return TransportConfig.DEFAULT_CONFIG;
+    }
 }
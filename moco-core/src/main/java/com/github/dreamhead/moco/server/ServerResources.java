@@ -0,0 +1,45 @@
+package com.github.dreamhead.moco.server;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ServerResources {
+    private static final Logger logger = LoggerFactory.getLogger(ServerResources.class);
+    private static final List<AutoCloseable> RESOURCES = new ArrayList<>();
+    private static int running;
+
+    public static synchronized void register(final AutoCloseable resource) {
+        RESOURCES.add(resource);
+    }
+
+    static synchronized void acquire() {
+        running++;
+    }
+
+    static void release() {
+        List<AutoCloseable> resources;
+        synchronized (ServerResources.class) {
+            running = Math.max(0, running - 1);
+            if (running > 0 || RESOURCES.isEmpty()) {
+                return;
+            }
+
+            resources = new ArrayList<>(RESOURCES);
+            RESOURCES.clear();
+        }
+
+        for (AutoCloseable resource : resources) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                logger.warn("Fail to close server resource", e);
+            }
+        }
+    }
+
+    private ServerResources() {
+    }
+}
@@ -1,25 +1,48 @@
 package com.github.dreamhead.moco.server;
 
 import com.github.dreamhead.moco.Runner;
+import com.github.dreamhead.moco.action.WebhookDispatcher;
+import com.github.dreamhead.moco.handler.failover.FailoverStore;
+import com.github.dreamhead.moco.metrics.MocoMetrics;
+
+import java.util.concurrent.TimeUnit;
 
 public final class ServerRunner extends Runner {
+    private static final long WEBHOOK_DRAIN_SECONDS = 5;
+
     private final ServerConfiguration configuration;
 
-    private final MocoServer server = new MocoServer();
+    private final MocoServer server;
+    private int port;
+    private boolean running;
 
     public ServerRunner(final ServerConfiguration configuration) {
         this.configuration = configuration;
+        this.server = new MocoServer(configuration.transportConfig());
     }
 
     @Override
     public void start() {
         ServerSetting setting = configuration.serverSetting();
-        int port = this.server.start(setting.getPort().orElse(0), configuration.channelInitializer());
+        setting.freeze();
+        this.port = this.server.start(setting.getPort().orElse(0), configuration.channelInitializer());
         setting.setPort(port);
+        MocoMetrics.register(port, setting.getMetrics());
+        ServerResources.acquire();
+        running = true;
     }
 
     @Override
     public void stop() {
+        server.awaitPendingTasks();
+        FailoverStore.flushAll();
+        WebhookDispatcher.drain(server.group(), WEBHOOK_DRAIN_SECONDS, TimeUnit.SECONDS);
+        MocoMetrics.unregister(port);
         server.stop();
+        configuration.serverSetting().release();
+        if (running) {
+            running = false;
+            ServerResources.release();
+        }
     }
 }
@@ -1,9 +1,17 @@
 package com.github.dreamhead.moco.server;
 
+import com.github.dreamhead.moco.metrics.ServerMetrics;
+
 import java.util.Optional;
 
 public interface ServerSetting {
     Optional<Integer> getPort();
 
     void setPort(int port);
+
+    void freeze();
+
+    void release();
+
+    ServerMetrics getMetrics();
 }
@@ -0,0 +1,161 @@
+package com.github.dreamhead.moco.server;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public final class TransportConfig {
+    public static final TransportConfig DEFAULT_CONFIG = builder().build();
+
+    private final Transport transport;
+    private final int listeners;
+    private final int backlog;
+    private final boolean tcpNoDelay;
+    private final int receiveBufferSize;
+    private final int sendBufferSize;
+    private final boolean edgeTriggered;
+
+    private TransportConfig(final Transport transport, final int listeners, final int backlog,
+                            final boolean tcpNoDelay, final int receiveBufferSize, final int sendBufferSize,
+                            final boolean edgeTriggered) {
+        this.transport = transport;
+        this.listeners = listeners;
+        this.backlog = backlog;
+        this.tcpNoDelay = tcpNoDelay;
+        this.receiveBufferSize = receiveBufferSize;
+        this.sendBufferSize = sendBufferSize;
+        this.edgeTriggered = edgeTriggered;
+    }
+
+    public Transport getTransport() {
+        return transport;
+    }
+
+    public int getListeners() {
+        return listeners;
+    }
+
+    public int getBacklog() {
+        return backlog;
+    }
+
+    public boolean isTcpNoDelay() {
+        return tcpNoDelay;
+    }
+
+    public int getReceiveBufferSize() {
+        return receiveBufferSize;
+    }
+
+    public int getSendBufferSize() {
+        return sendBufferSize;
+    }
+
+    public boolean isEdgeTriggered() {
+        return edgeTriggered;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof TransportConfig)) {
+            return false;
+        }
+
+        TransportConfig that = (TransportConfig) o;
+        return transport == that.transport
+                && listeners == that.listeners
+                && backlog == that.backlog
+                && tcpNoDelay == that.tcpNoDelay
+                && receiveBufferSize == that.receiveBufferSize
+                && sendBufferSize == that.sendBufferSize
+                && edgeTriggered == that.edgeTriggered;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(transport, listeners, backlog, tcpNoDelay, receiveBufferSize, sendBufferSize,
+                edgeTriggered);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("transport", transport)
+                .add("listeners", listeners)
+                .add("backlog", backlog)
+                .add("tcpNoDelay", tcpNoDelay)
+                .add("receiveBufferSize", receiveBufferSize)
+                .add("sendBufferSize", sendBufferSize)
+                .add("edgeTriggered", edgeTriggered)
+                .toString();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public enum Transport {
+        AUTO, NIO, EPOLL
+    }
+
+    public static final class Builder {
+        private Transport transport = Transport.AUTO;
+        private int listeners = 1;
+        private int backlog;
+        private boolean tcpNoDelay = true;
+        private int receiveBufferSize;
+        private int sendBufferSize;
+        private boolean edgeTriggered = true;
+
+        public Builder withTransport(final Transport transport) {
+            this.transport = checkNotNull(transport, "Transport should not be null");
+            return this;
+        }
+
+        public Builder withListeners(final int listeners) {
+            checkArgument(listeners > 0, "Listeners must be greater than zero");
+            this.listeners = listeners;
+            return this;
+        }
+
+        public Builder withBacklog(final int backlog) {
+            checkArgument(backlog >= 0, "Backlog must not be negative");
+            this.backlog = backlog;
+            return this;
+        }
+
+        public Builder withTcpNoDelay(final boolean tcpNoDelay) {
+            this.tcpNoDelay = tcpNoDelay;
+            return this;
+        }
+
+        public Builder withReceiveBufferSize(final int receiveBufferSize) {
+            checkArgument(receiveBufferSize >= 0, "Receive buffer size must not be negative");
+            this.receiveBufferSize = receiveBufferSize;
+            return this;
+        }
+
+        public Builder withSendBufferSize(final int sendBufferSize) {
+            checkArgument(sendBufferSize >= 0, "Send buffer size must not be negative");
+            this.sendBufferSize = sendBufferSize;
+            return this;
+        }
+
+        public Builder withEdgeTriggered(final boolean edgeTriggered) {
+            this.edgeTriggered = edgeTriggered;
+            return this;
+        }
+
+        public TransportConfig build() {
+            return new TransportConfig(transport, listeners, backlog, tcpNoDelay,
+                    receiveBufferSize, sendBufferSize, edgeTriggered);
+        }
+    }
+}
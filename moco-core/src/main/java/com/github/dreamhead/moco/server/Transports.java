@@ -0,0 +1,70 @@
+package com.github.dreamhead.moco.server;
+
+import com.github.dreamhead.moco.MocoException;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+
+import java.util.concurrent.Executor;
+
+public final class Transports {
+    public static EventLoopGroup newEventLoopGroup(final TransportConfig.Transport transport) {
+        return newEventLoopGroup(transport, 0, null);
+    }
+
+    public static EventLoopGroup newEventLoopGroup(final TransportConfig.Transport transport,
+                                                   final int threads, final Executor executor) {
+        if (useEpoll(transport)) {
+            return new EpollEventLoopGroup(threads, executor);
+        }
+
+        return new NioEventLoopGroup(threads, executor);
+    }
+
+    public static boolean isEpoll(final EventLoopGroup group) {
+        EventLoopGroup owner = group instanceof EventLoop ? ((EventLoop) group).parent() : group;
+        return owner instanceof EpollEventLoopGroup;
+    }
+
+    public static Class<? extends ServerChannel> serverChannelClass(final EventLoopGroup group) {
+        if (isEpoll(group)) {
+            return EpollServerSocketChannel.class;
+        }
+
+        return NioServerSocketChannel.class;
+    }
+
+    public static Class<? extends SocketChannel> socketChannelClass(final EventLoopGroup group) {
+        if (isEpoll(group)) {
+            return EpollSocketChannel.class;
+        }
+
+        return NioSocketChannel.class;
+    }
+
+    private static boolean useEpoll(final TransportConfig.Transport transport) {
+        switch (transport) {
+            case NIO:
+                return false;
+            case EPOLL:
+                if (!Epoll.isAvailable()) {
+                    throw new MocoException("Epoll transport is not available", Epoll.unavailabilityCause());
+                }
+
+                return true;
+            default:
+                return Epoll.isAvailable();
+        }
+    }
+
+    private Transports() {
+    }
+}
@@ -4,16 +4,24 @@ import com.github.dreamhead.moco.MocoConfig;
 import com.github.dreamhead.moco.MocoEvent;
 import com.github.dreamhead.moco.Request;
 import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.ResponseHandler;
 import com.github.dreamhead.moco.ResponseSetting;
 import com.github.dreamhead.moco.internal.BaseResponseSettingConfiguration;
+import com.github.dreamhead.moco.internal.RequestRoute;
 import com.github.dreamhead.moco.internal.SessionContext;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.github.dreamhead.moco.handler.StaticResponseHandler.staticHandler;
 import static com.github.dreamhead.moco.util.Configs.configItem;
 import static com.github.dreamhead.moco.util.Configs.configItems;
 
 public abstract class BaseSetting<T extends ResponseSetting<T>>
         extends BaseResponseSettingConfiguration<T> implements Setting<T> {
     private final RequestMatcher matcher;
+    private volatile ResponseHandler targetHandler;
+    private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
 
     protected abstract BaseSetting<T> createSetting(RequestMatcher matcher);
 
@@ -28,17 +36,43 @@ public abstract class BaseSetting<T extends ResponseSetting<T>>
         return this.matcher.match(request) && this.handler != null;
     }
 
+    @Override
+    public final RequestRoute route() {
+        return this.matcher.route();
+    }
+
     @Override
     public final void writeToResponse(final SessionContext context) {
         this.matcher.attach(context);
-        this.handler.writeToResponse(context);
-        this.fireCompleteEvent(context.getRequest());
+        targetHandler().writeToResponse(context);
+        context.onWritten(() -> this.fireCompleteEvent(context));
+    }
+
+    @Override
+    public final void onChange(final Runnable listener) {
+        this.changeListeners.add(listener);
+    }
+
+    @Override
+    protected final void invalidate() {
+        this.targetHandler = null;
+        this.changeListeners.forEach(Runnable::run);
+    }
+
+    private ResponseHandler targetHandler() {
+        ResponseHandler current = this.targetHandler;
+        if (current == null) {
+            current = staticHandler(this.handler);
+            this.targetHandler = current;
+        }
+
+        return current;
     }
 
-    private void fireCompleteEvent(final Request request) {
+    private void fireCompleteEvent(final SessionContext context) {
         eventTriggers.stream()
                 .filter(trigger -> trigger.isFor(MocoEvent.COMPLETE))
-                .forEach(trigger -> trigger.fireEvent(request));
+                .forEach(trigger -> trigger.fireEvent(context));
     }
 
     @Override
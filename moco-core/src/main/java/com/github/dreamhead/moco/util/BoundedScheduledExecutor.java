@@ -0,0 +1,168 @@
+package com.github.dreamhead.moco.util;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+final class BoundedScheduledExecutor extends ScheduledThreadPoolExecutor {
+    private final Semaphore permits;
+
+    BoundedScheduledExecutor(final int threads, final ThreadFactory factory, final int queueLimit) {
+        super(threads, factory);
+        this.permits = new Semaphore(queueLimit);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+        acquire(command);
+        try {
+            return super.schedule(command, delay, unit);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(final Callable<V> callable, final long delay, final TimeUnit unit) {
+        acquire(new FutureTask<>(callable));
+        try {
+            return super.schedule(callable, delay, unit);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(final Runnable command, final long initialDelay,
+                                                  final long period, final TimeUnit unit) {
+        acquire(command);
+        try {
+            return super.scheduleAtFixedRate(command, initialDelay, period, unit);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(final Runnable command, final long initialDelay,
+                                                     final long delay, final TimeUnit unit) {
+        acquire(command);
+        try {
+            return super.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(final Runnable runnable,
+                                                          final RunnableScheduledFuture<V> task) {
+        return new BoundedTask<>(task);
+    }
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(final Callable<V> callable,
+                                                          final RunnableScheduledFuture<V> task) {
+        return new BoundedTask<>(task);
+    }
+
+    private void acquire(final Runnable task) {
+        if (!permits.tryAcquire()) {
+            getRejectedExecutionHandler().rejectedExecution(task, this);
+            throw new RejectedExecutionException("Task is rejected since queue is full");
+        }
+    }
+
+    private final class BoundedTask<V> implements RunnableScheduledFuture<V> {
+        private final RunnableScheduledFuture<V> task;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private BoundedTask(final RunnableScheduledFuture<V> task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            try {
+                task.run();
+            } finally {
+                if (task.isDone()) {
+                    release();
+                }
+            }
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            boolean cancelled = task.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                release();
+                if (getRemoveOnCancelPolicy()) {
+                    remove(this);
+                }
+            }
+
+            return cancelled;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return task.isPeriodic();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return task.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return task.isDone();
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            return task.get();
+        }
+
+        @Override
+        public V get(final long timeout, final TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            return task.get(timeout, unit);
+        }
+
+        @Override
+        public long getDelay(final TimeUnit unit) {
+            return task.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(final Delayed other) {
+            if (other instanceof BoundedTask) {
+                return task.compareTo(((BoundedTask<?>) other).task);
+            }
+
+            return task.compareTo(other);
+        }
+    }
+}
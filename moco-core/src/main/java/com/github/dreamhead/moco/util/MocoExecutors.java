@@ -1,13 +1,132 @@
 package com.github.dreamhead.moco.util;
 
+import com.github.dreamhead.moco.metrics.ExecutorMetrics;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
 
 public final class MocoExecutors {
-    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool();
+    private static final int PROCESSORS = Runtime.getRuntime().availableProcessors();
+    private static final long KEEP_ALIVE_SECONDS = 60;
 
+    /**
+     * @deprecated use {@link #io()} for blocking side effects or {@link #scheduler()} for delayed tasks.
+     */
+    @Deprecated
     public static ExecutorService executor() {
-        return EXECUTOR;
+        return io();
+    }
+
+    public static ExecutorService io() {
+        return IoHolder.EXECUTOR;
+    }
+
+    public static ScheduledExecutorService scheduler() {
+        return SchedulerHolder.EXECUTOR;
+    }
+
+    public static ExecutorService handler() {
+        return HandlerHolder.EXECUTOR;
+    }
+
+    public static ExecutorService watcher() {
+        return WatcherHolder.EXECUTOR;
+    }
+
+    public static Executor eventLoop() {
+        return EventLoopHolder.EXECUTOR;
+    }
+
+    public static int eventLoopThreads() {
+        return property("moco.executor.event-loop.threads", 0);
+    }
+
+    private static ThreadPoolExecutor newIoExecutor() {
+        return newBoundedExecutor("io", Math.max(8, PROCESSORS * 2), 10_000);
+    }
+
+    private static ThreadPoolExecutor newHandlerExecutor() {
+        return newBoundedExecutor("handler", Math.max(16, PROCESSORS * 8), 10_000);
+    }
+
+    private static ThreadPoolExecutor newBoundedExecutor(final String name, final int defaultThreads,
+                                                         final int defaultQueueLimit) {
+        int threads = positive("moco.executor." + name + ".threads", defaultThreads);
+        int queueLimit = positive("moco.executor." + name + ".queue", defaultQueueLimit);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(queueLimit),
+                threadFactory("moco-" + name + "-%d", true));
+        executor.allowCoreThreadTimeOut(true);
+        ExecutorMetrics.observe(name, executor);
+        return executor;
+    }
+
+    private static ThreadPoolExecutor newWatcherExecutor() {
+        int threads = positive("moco.executor.watcher.threads", 4);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(0, threads,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                threadFactory("moco-watcher-%d", true));
+        ExecutorMetrics.observe("watcher", executor);
+        return executor;
+    }
+
+    private static Executor newEventLoopExecutor() {
+        ThreadFactory factory = threadFactory("moco-event-loop-%d", false);
+        return task -> factory.newThread(task).start();
+    }
+
+    private static ScheduledThreadPoolExecutor newScheduler() {
+        int threads = positive("moco.executor.scheduler.threads", 2);
+        int queueLimit = positive("moco.executor.scheduler.queue", 100_000);
+        ScheduledThreadPoolExecutor executor = new BoundedScheduledExecutor(threads,
+                threadFactory("moco-scheduler-%d", true), queueLimit);
+        executor.setRemoveOnCancelPolicy(true);
+        ExecutorMetrics.observe("scheduler", executor);
+        return executor;
+    }
+
+    private static ThreadFactory threadFactory(final String nameFormat, final boolean daemon) {
+        return new ThreadFactoryBuilder().setNameFormat(nameFormat).setDaemon(daemon).build();
+    }
+
+    private static int positive(final String name, final int defaultValue) {
+        int value = property(name, defaultValue);
+        checkArgument(value > 0, "%s must be greater than zero", name);
+        return value;
+    }
+
+    private static int property(final String name, final int defaultValue) {
+        return Integer.getInteger(name, defaultValue);
+    }
+
+    private static final class IoHolder {
+        private static final ThreadPoolExecutor EXECUTOR = newIoExecutor();
+    }
+
+    private static final class HandlerHolder {
+        private static final ThreadPoolExecutor EXECUTOR = newHandlerExecutor();
+    }
+
+    private static final class WatcherHolder {
+        private static final ThreadPoolExecutor EXECUTOR = newWatcherExecutor();
+    }
+
+    private static final class EventLoopHolder {
+        private static final Executor EXECUTOR = newEventLoopExecutor();
+    }
+
+    private static final class SchedulerHolder {
+        private static final ScheduledThreadPoolExecutor EXECUTOR = newScheduler();
     }
 
     private MocoExecutors() {
@@ -0,0 +1,28 @@
+package com.github.dreamhead.moco.util;
+
+public final class Patterns {
+    private static final String META_CHARACTERS = "\\^$.|?*+()[]{}";
+    private static final String OPTIONAL_QUANTIFIERS = "?*{";
+
+    public static String literalPrefix(final String regex) {
+        if (regex.indexOf('|') >= 0) {
+            return "";
+        }
+
+        for (int i = 0; i < regex.length(); i++) {
+            char current = regex.charAt(i);
+            if (META_CHARACTERS.indexOf(current) >= 0) {
+                if (OPTIONAL_QUANTIFIERS.indexOf(current) >= 0 && i > 0) {
+                    return regex.substring(0, i - 1);
+                }
+
+                return regex.substring(0, i);
+            }
+        }
+
+        return regex;
+    }
+
+    private Patterns() {
+    }
+}
@@ -66,4 +66,15 @@ public class MocoContextTest {
 
         running(server, () -> helper.get(root()));
     }
+
+    @Test
+    public void should_see_response_configured_after_request_arrived() throws Exception {
+        running(server, () -> {
+            HttpResponseSetting setting = server.get(by(uri("/foo")));
+            assertThat(helper.getForStatus(remoteUrl("/context/foo")), is(400));
+
+            setting.response("foo");
+            assertThat(helper.get(remoteUrl("/context/foo")), is("foo"));
+        });
+    }
 }
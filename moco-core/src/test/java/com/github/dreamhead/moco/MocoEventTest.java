@@ -1,13 +1,19 @@
 package com.github.dreamhead.moco;
 
+import com.github.dreamhead.moco.handler.AbstractResponseHandler;
 import com.github.dreamhead.moco.internal.SessionContext;
 import com.github.dreamhead.moco.util.Idles;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMultimap;
 import org.junit.Test;
 import org.mockito.Mockito;
 
 import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.github.dreamhead.moco.Moco.and;
 import static com.github.dreamhead.moco.Moco.async;
@@ -20,13 +26,17 @@ import static com.github.dreamhead.moco.Moco.fileRoot;
 import static com.github.dreamhead.moco.Moco.get;
 import static com.github.dreamhead.moco.Moco.header;
 import static com.github.dreamhead.moco.Moco.httpServer;
+import static com.github.dreamhead.moco.Moco.httpsServer;
 import static com.github.dreamhead.moco.Moco.latency;
 import static com.github.dreamhead.moco.Moco.pathResource;
 import static com.github.dreamhead.moco.Moco.post;
 import static com.github.dreamhead.moco.Moco.template;
 import static com.github.dreamhead.moco.Moco.text;
 import static com.github.dreamhead.moco.Moco.uri;
+import static com.github.dreamhead.moco.HttpsCertificate.certificate;
+import static com.github.dreamhead.moco.MocoRequestHit.requestHit;
 import static com.github.dreamhead.moco.Runner.running;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.httpsRoot;
 import static com.github.dreamhead.moco.helper.RemoteTestUtils.port;
 import static com.github.dreamhead.moco.helper.RemoteTestUtils.remoteUrl;
 import static com.github.dreamhead.moco.helper.RemoteTestUtils.root;
@@ -305,4 +315,87 @@ public class MocoEventTest extends AbstractMocoHttpTest {
 
         verify(handler).writeToResponse(any(SessionContext.class));
     }
+
+    @Test
+    public void should_retry_request_to_target_on_server_error() throws Exception {
+        AtomicInteger hits = new AtomicInteger();
+        server.request(by(uri("/target"))).response(new AbstractResponseHandler() {
+            @Override
+            public void writeToResponse(final SessionContext context) {
+                if (hits.incrementAndGet() == 1) {
+                    ((MutableHttpResponse) context.getResponse()).setStatus(500);
+                }
+            }
+        });
+        server.request(by(uri("/event"))).response("event").on(complete(get(remoteUrl("/target"))));
+
+        running(server, () -> assertThat(helper.get(remoteUrl("/event")), is("event")));
+
+        assertThat(hits.get(), is(2));
+    }
+
+    @Test
+    public void should_not_retry_post_request_to_target_on_server_error() throws Exception {
+        AtomicInteger hits = new AtomicInteger();
+        server.request(by(uri("/target"))).response(new AbstractResponseHandler() {
+            @Override
+            public void writeToResponse(final SessionContext context) {
+                hits.incrementAndGet();
+                ((MutableHttpResponse) context.getResponse()).setStatus(500);
+            }
+        });
+        server.request(by(uri("/event"))).response("event").on(complete(post(remoteUrl("/target"), "content")));
+
+        running(server, () -> assertThat(helper.get(remoteUrl("/event")), is("event")));
+
+        assertThat(hits.get(), is(1));
+    }
+
+    @Test
+    public void should_not_wait_for_slow_target_on_complete() throws Exception {
+        ResponseHandler handler = mock(ResponseHandler.class);
+        server.request(by(uri("/target"))).response(handler, latency(1, TimeUnit.SECONDS));
+        server.request(by(uri("/event"))).response("event").on(complete(get(remoteUrl("/target"))));
+
+        running(server, () -> {
+            long start = System.nanoTime();
+            assertThat(helper.get(remoteUrl("/event")), is("event"));
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000, is(true));
+        });
+
+        verify(handler).writeToResponse(any(SessionContext.class));
+    }
+
+    @Test
+    public void should_replace_default_header_with_event_header() throws Exception {
+        List<String> hosts = new CopyOnWriteArrayList<>();
+        server.request(by(uri("/target"))).response(new AbstractResponseHandler() {
+            @Override
+            public void writeToResponse(final SessionContext context) {
+                ((HttpRequest) context.getRequest()).getHeaders().entrySet().stream()
+                        .filter(entry -> entry.getKey().equalsIgnoreCase("Host"))
+                        .forEach(entry -> hosts.addAll(Arrays.asList(entry.getValue())));
+            }
+        });
+        server.request(by(uri("/event"))).response("event")
+                .on(complete(get(text(remoteUrl("/target")), header("Host", text("example.com")))));
+
+        running(server, () -> assertThat(helper.get(remoteUrl("/event")), is("event")));
+
+        assertThat(hosts, is(ImmutableList.of("example.com")));
+    }
+
+    @Test
+    public void should_not_send_request_to_untrusted_https_target() throws Exception {
+        RequestHit hit = requestHit();
+        HttpsServer target = httpsServer(port() + 1, certificate(pathResource("cert.jks"), "mocohttps", "mocohttps"),
+                hit);
+        target.response("target");
+        server.request(by(uri("/event"))).response("event")
+                .on(complete(get(httpsRoot(port() + 1))));
+
+        running(target, () -> running(server, () -> assertThat(helper.get(remoteUrl("/event")), is("event"))));
+
+        hit.verify(by(uri("/")), MocoRequestHit.never());
+    }
 }
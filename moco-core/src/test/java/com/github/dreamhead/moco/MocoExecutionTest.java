@@ -0,0 +1,151 @@
+package com.github.dreamhead.moco;
+
+import com.github.dreamhead.moco.handler.AbstractResponseHandler;
+import com.github.dreamhead.moco.internal.SessionContext;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
+import com.github.dreamhead.moco.model.DefaultMutableHttpResponse;
+import com.google.common.net.HttpHeaders;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.github.dreamhead.moco.ExecutionPolicy.inline;
+import static com.github.dreamhead.moco.ExecutionPolicy.pool;
+import static com.github.dreamhead.moco.ExecutionPolicy.virtual;
+import static com.github.dreamhead.moco.Moco.by;
+import static com.github.dreamhead.moco.Moco.execute;
+import static com.github.dreamhead.moco.Moco.execution;
+import static com.github.dreamhead.moco.Moco.httpServer;
+import static com.github.dreamhead.moco.Moco.latency;
+import static com.github.dreamhead.moco.Moco.text;
+import static com.github.dreamhead.moco.Moco.uri;
+import static com.github.dreamhead.moco.Runner.running;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.port;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.remoteUrl;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.root;
+import static com.github.dreamhead.moco.model.MessageContent.content;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MocoExecutionTest extends AbstractMocoHttpTest {
+    @Test
+    public void should_run_handler_in_pool() throws Exception {
+        server.get(by(uri("/pool"))).response(execute(pool(2, 16), threadName()));
+        server.get(by(uri("/inline"))).response(threadName());
+
+        running(server, () -> {
+            assertThat(helper.get(remoteUrl("/pool")), startsWith("moco-handler"));
+            assertThat(helper.get(remoteUrl("/inline")), not(startsWith("moco-handler")));
+        });
+    }
+
+    @Test
+    public void should_run_all_handlers_with_server_execution_policy() throws Exception {
+        HttpServer server = httpServer(port(), execution(pool(2, 16)));
+        server.get(by(uri("/pool"))).response(threadName());
+        server.get(by(uri("/inline"))).response(execute(inline(), threadName()));
+        server.get(by(uri("/latency"))).response(text("foo"), latency(100, TimeUnit.MILLISECONDS));
+
+        running(server, () -> {
+            assertThat(helper.get(remoteUrl("/pool")), startsWith("moco-handler"));
+            assertThat(helper.get(remoteUrl("/inline")), not(startsWith("moco-handler")));
+            assertThat(helper.get(remoteUrl("/latency")), is("foo"));
+        });
+    }
+
+    @Test
+    public void should_shutdown_pool_when_server_stops() throws Exception {
+        AtomicReference<Thread> worker = new AtomicReference<>();
+        server.response(execute(pool(1, 16), new AbstractResponseHandler() {
+            @Override
+            public void writeToResponse(final SessionContext context) {
+                worker.set(Thread.currentThread());
+                MutableHttpResponse response = (MutableHttpResponse) context.getResponse();
+                response.addHeader(HttpHeaders.CONTENT_TYPE, "text/plain");
+                response.setContent(content("foo"));
+            }
+        }));
+
+        running(server, () -> assertThat(helper.get(root()), is("foo")));
+        Thread first = worker.get();
+        first.join(TimeUnit.SECONDS.toMillis(5));
+        assertThat(first.isAlive(), is(false));
+
+        running(server, () -> assertThat(helper.get(root()), is("foo")));
+        assertThat(worker.get(), not(sameInstance(first)));
+    }
+
+    @Test
+    public void should_run_handler_in_virtual_thread() throws Exception {
+        server.get(by(uri("/virtual"))).response(execute(virtual(), text("foo")));
+
+        running(server, () -> assertThat(helper.get(remoteUrl("/virtual")), is("foo")));
+    }
+
+    @Test
+    public void should_return_service_unavailable_when_pool_is_full() throws Exception {
+        ExecutionPolicy policy = pool(1, 1);
+        CountDownLatch latch = new CountDownLatch(1);
+        EventLoop eventLoop = new DefaultEventLoop();
+        try {
+            fill(policy, latch);
+
+            HttpRequest request = DefaultHttpRequest.builder()
+                    .withVersion(HttpProtocolVersion.VERSION_1_1)
+                    .build();
+            SessionContext context = new SessionContext(request, DefaultMutableHttpResponse.newResponse(request, 200));
+            context.deferOn(eventLoop);
+            execute(policy, text("foo")).writeToResponse(context);
+
+            assertThat(context.whenReady().isDone(), is(true));
+            assertThat(((HttpResponse) context.getResponse()).getStatus(), is(503));
+        } finally {
+            latch.countDown();
+            eventLoop.shutdownGracefully();
+        }
+    }
+
+    private void fill(final ExecutionPolicy policy, final CountDownLatch latch) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        policy.execute(() -> {
+            started.countDown();
+            await(latch);
+        });
+        started.await();
+
+        try {
+            while (true) {
+                policy.execute(() -> await(latch));
+            }
+        } catch (RejectedExecutionException e) {
+            return;
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ResponseHandler threadName() {
+        return new AbstractResponseHandler() {
+            @Override
+            public void writeToResponse(final SessionContext context) {
+                MutableHttpResponse response = (MutableHttpResponse) context.getResponse();
+                response.addHeader(HttpHeaders.CONTENT_TYPE, "text/plain");
+                response.setContent(content(Thread.currentThread().getName()));
+            }
+        };
+    }
+}
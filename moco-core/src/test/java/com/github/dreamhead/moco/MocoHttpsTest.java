@@ -1,9 +1,15 @@
 package com.github.dreamhead.moco;
 
 import com.github.dreamhead.moco.helper.MocoTestHelper;
+import com.github.dreamhead.moco.model.MessageContent;
+import com.github.dreamhead.moco.resource.ContentResource;
+import com.github.dreamhead.moco.resource.reader.ContentResourceReader;
+import com.google.common.net.MediaType;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static com.github.dreamhead.moco.HttpsCertificate.certificate;
 import static com.github.dreamhead.moco.Moco.by;
 import static com.github.dreamhead.moco.Moco.context;
@@ -83,4 +89,41 @@ public class MocoHttpsTest {
             assertThat(helper.get(remoteHttpsUrl("/foo/bar")), is("foo"));
         });
     }
+
+    @Test
+    public void should_load_key_store_once_for_all_connections() throws Exception {
+        ContentResource keyStore = pathResource("cert.jks");
+        AtomicInteger loads = new AtomicInteger();
+        ContentResource counting = new ContentResource(keyStore, (config, resource) -> resource,
+                new ContentResourceReader() {
+                    @Override
+                    public MessageContent readFor(final Request request) {
+                        loads.incrementAndGet();
+                        return keyStore.readFor(request);
+                    }
+
+                    @Override
+                    public MediaType getContentType(final HttpRequest request) {
+                        return keyStore.getContentType(request);
+                    }
+                });
+        HttpsServer server = httpsServer(port(), certificate(counting, "mocohttps", "mocohttps"));
+        server.response("foo");
+
+        running(server, () -> {
+            assertThat(helper.get(httpsRoot()), is("foo"));
+            assertThat(new MocoTestHelper().get(httpsRoot()), is("foo"));
+        });
+
+        assertThat(loads.get(), is(1));
+    }
+
+    @Test
+    public void should_configure_session_cache() {
+        HttpsCertificate certificate = certificate(pathResource("cert.jks"), "mocohttps", "mocohttps",
+                TlsSessionConfig.builder().withCacheSize(128).withTimeout(60).build());
+
+        assertThat(certificate.getSslContext().sessionCacheSize(), is(128L));
+        assertThat(certificate.getSslContext().sessionTimeout(), is(60L));
+    }
 }
@@ -0,0 +1,80 @@
+package com.github.dreamhead.moco;
+
+import com.github.dreamhead.moco.metrics.MetricsFormat;
+import org.junit.Test;
+
+import static com.github.dreamhead.moco.Moco.and;
+import static com.github.dreamhead.moco.Moco.by;
+import static com.github.dreamhead.moco.Moco.eq;
+import static com.github.dreamhead.moco.Moco.httpServer;
+import static com.github.dreamhead.moco.Moco.metrics;
+import static com.github.dreamhead.moco.Moco.query;
+import static com.github.dreamhead.moco.Moco.uri;
+import static com.github.dreamhead.moco.Runner.running;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.remoteUrl;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.root;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MocoMetricsTest extends AbstractMocoHttpTest {
+    @Test
+    public void should_count_setting_hits() throws Exception {
+        server.get(by(uri("/foo"))).response("foo");
+        server.get(by(uri("/metrics"))).response(metrics());
+
+        running(server, () -> {
+            assertThat(helper.get(remoteUrl("/foo")), is("foo"));
+            assertThat(helper.get(remoteUrl("/foo")), is("foo"));
+            assertThat(helper.getForStatus(remoteUrl("/bar")), is(400));
+
+            String metrics = helper.get(remoteUrl("/metrics"));
+            assertThat(metrics, containsString("\"requests\":4"));
+            assertThat(metrics, containsString("\"unexpected\":1"));
+            assertThat(metrics, containsString("\"GET /foo\":{\"route\":\"GET /foo\",\"hits\":2,\"bytes\":6"));
+        });
+    }
+
+    @Test
+    public void should_name_settings_with_same_route_apart() throws Exception {
+        server.get(and(by(uri("/foo")), eq(query("v"), "1"))).response("one");
+        server.get(by(uri("/foo"))).response("foo");
+        server.get(by(uri("/metrics"))).response(metrics());
+
+        running(server, () -> {
+            assertThat(helper.get(remoteUrl("/foo")), is("foo"));
+            assertThat(helper.get(remoteUrl("/foo?v=1")), is("one"));
+
+            String metrics = helper.get(remoteUrl("/metrics"));
+            assertThat(metrics, containsString("\"GET /foo\":{\"route\":\"GET /foo\",\"hits\":1,\"bytes\":3"));
+            assertThat(metrics, containsString("\"GET /foo #2\":{\"route\":\"GET /foo\",\"hits\":1,\"bytes\":3"));
+        });
+    }
+
+    @Test
+    public void should_expose_metrics_in_prometheus_format() throws Exception {
+        server.get(by(uri("/foo"))).response("foo");
+        server.get(by(uri("/metrics"))).response(metrics(MetricsFormat.PROMETHEUS));
+
+        running(server, () -> {
+            assertThat(helper.get(remoteUrl("/foo")), is("foo"));
+
+            String metrics = helper.get(remoteUrl("/metrics"));
+            assertThat(metrics, containsString("# TYPE moco_setting_hits_total counter"));
+            assertThat(metrics, containsString("moco_setting_hits_total{server=\"" + server.port()
+                    + "\",setting=\"GET /foo\",route=\"GET /foo\"} 1"));
+            assertThat(metrics, containsString("moco_match_seconds_count{server=\"" + server.port() + "\"} 2"));
+        });
+    }
+
+    @Test
+    public void should_remove_metrics_after_server_stopped() throws Exception {
+        HttpServer other = httpServer();
+        other.response("other");
+        running(other, () -> assertThat(helper.get(root(other.port())), is("other")));
+
+        server.response(metrics());
+        running(server, () ->
+                assertThat(helper.get(remoteUrl("/")).contains("\"" + other.port() + "\""), is(false)));
+    }
+}
@@ -1,9 +1,14 @@
 package com.github.dreamhead.moco;
 
+import com.github.dreamhead.moco.handler.failover.Failover;
+import com.github.dreamhead.moco.handler.failover.FailoverStore;
+import com.github.dreamhead.moco.handler.proxy.ProxyClientConfig;
+import com.github.dreamhead.moco.handler.proxy.ProxyClients;
 import com.google.common.io.ByteStreams;
 import com.google.common.io.Resources;
 import org.apache.hc.client5.http.HttpResponseException;
 import org.apache.hc.client5.http.fluent.Request;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.HttpVersion;
@@ -13,14 +18,18 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.github.dreamhead.moco.HttpProtocolVersion.VERSION_0_9;
 import static com.github.dreamhead.moco.HttpProtocolVersion.VERSION_1_0;
 import static com.github.dreamhead.moco.HttpProtocolVersion.VERSION_1_1;
 import static com.github.dreamhead.moco.Moco.and;
+import static com.github.dreamhead.moco.Moco.binary;
 import static com.github.dreamhead.moco.Moco.by;
 import static com.github.dreamhead.moco.Moco.context;
 import static com.github.dreamhead.moco.Moco.eq;
@@ -46,6 +55,7 @@ import static com.github.dreamhead.moco.Moco.version;
 import static com.github.dreamhead.moco.Moco.with;
 import static com.github.dreamhead.moco.MocoRequestHit.once;
 import static com.github.dreamhead.moco.MocoRequestHit.requestHit;
+import static com.github.dreamhead.moco.MocoRequestHit.times;
 import static com.github.dreamhead.moco.Runner.running;
 import static com.github.dreamhead.moco.helper.RemoteTestUtils.port;
 import static com.github.dreamhead.moco.helper.RemoteTestUtils.remoteUrl;
@@ -54,7 +64,9 @@ import static com.google.common.collect.ImmutableMultimap.of;
 import static com.google.common.io.Files.asCharSource;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public class MocoProxyTest extends AbstractMocoHttpTest {
@@ -73,6 +85,136 @@ public class MocoProxyTest extends AbstractMocoHttpTest {
 //        });
 //    }
 
+    @Test
+    public void should_proxy_with_client_config() throws Exception {
+        server.get(by(uri("/target"))).response("get_proxy");
+        server.get(by(uri("/proxy"))).response(proxy(text(remoteUrl("/target")), Failover.DEFAULT_FAILOVER,
+                ProxyClientConfig.builder().withMaxPerRoute(1).withResponseTimeout(5000).build()));
+
+        running(server, () -> {
+            assertThat(helper.get(remoteUrl("/proxy")), is("get_proxy"));
+            assertThat(helper.get(remoteUrl("/proxy")), is("get_proxy"));
+        });
+    }
+
+    @Test
+    public void should_release_proxy_client_after_server_stopped() throws Exception {
+        ProxyClientConfig config = ProxyClientConfig.builder().withMaxPerRoute(2).build();
+        server.get(by(uri("/target"))).response("get_proxy");
+        server.get(by(uri("/proxy"))).response(proxy(text(remoteUrl("/target")), Failover.DEFAULT_FAILOVER, config));
+        AtomicReference<CloseableHttpClient> client = new AtomicReference<>();
+
+        running(server, () -> {
+            assertThat(helper.get(remoteUrl("/proxy")), is("get_proxy"));
+            client.set(ProxyClients.client(config));
+            assertThat(ProxyClients.client(config), sameInstance(client.get()));
+        });
+
+        assertThat(ProxyClients.client(config), not(sameInstance(client.get())));
+    }
+
+    @Test
+    public void should_proxy_asynchronously() throws Exception {
+        server.get(by(uri("/target"))).response("get_proxy");
+        server.post(and(by(uri("/target")), by("proxy"))).response("post_proxy");
+        server.request(by(uri("/proxy"))).response(proxy(text(remoteUrl("/target")), Failover.DEFAULT_FAILOVER,
+                ProxyClientConfig.builder().withAsync(true).build()));
+
+        running(server, () -> {
+            assertThat(helper.get(remoteUrl("/proxy")), is("get_proxy"));
+            assertThat(helper.postContent(remoteUrl("/proxy"), "proxy"), is("post_proxy"));
+            assertThat(helper.get(remoteUrl("/proxy")), is("get_proxy"));
+        });
+    }
+
+    @Test
+    public void should_apply_handlers_after_asynchronous_proxy() throws Exception {
+        server.get(by(uri("/target"))).response("get_proxy");
+        server.get(by(uri("/proxy"))).response(and(proxy(text(remoteUrl("/target")), Failover.DEFAULT_FAILOVER,
+                ProxyClientConfig.builder().withAsync(true).build()), header("foo", "bar"), status(201)));
+
+        running(server, () -> {
+            HttpResponse response = helper.execute(Request.get(remoteUrl("/proxy")));
+            assertThat(response.getFirstHeader("foo").getValue(), is("bar"));
+            assertThat(response.getCode(), is(201));
+            assertThat(helper.get(remoteUrl("/proxy")), is("get_proxy"));
+        });
+    }
+
+    @Test
+    public void should_batch_proxy_asynchronously() throws Exception {
+        server.get(by(uri("/target/1"))).response("target_1");
+        server.get(by(uri("/target/2"))).response("target_2");
+        server.get(match(uri("/proxy/.*"))).response(proxy(from("/proxy").to(remoteUrl("/target")),
+                Failover.DEFAULT_FAILOVER, ProxyClientConfig.builder().withAsync(true).build()));
+
+        running(server, () -> {
+            assertThat(helper.get(remoteUrl("/proxy/1")), is("target_1"));
+            assertThat(helper.get(remoteUrl("/proxy/2")), is("target_2"));
+        });
+    }
+
+    @Test
+    public void should_failover_asynchronously_for_specified_status() throws Exception {
+        server.request(by(uri("/target"))).response(seq(status(500), status(400)));
+        server.request(by(uri("/proxy"))).response(proxy(text(remoteUrl("/target")),
+                failover("src/test/resources/failover.response", 500, 400),
+                ProxyClientConfig.builder().withAsync(true).build()));
+
+        running(server, () -> {
+            assertThat(helper.postContent(remoteUrl("/proxy"), "proxy"), is("proxy"));
+            assertThat(helper.postContent(remoteUrl("/proxy"), "proxy"), is("proxy"));
+        });
+    }
+
+    @Test
+    public void should_failover_asynchronously_for_unreachable_remote_server() throws Exception {
+        server.request(by(uri("/proxy"))).response(proxy(text("http://localhost:12305/target"),
+                failover("src/test/resources/failover.response"),
+                ProxyClientConfig.builder().withAsync(true).build()));
+
+        running(server, () -> assertThat(helper.postContent(remoteUrl("/proxy"), "proxy"), is("proxy")));
+    }
+
+    @Test
+    public void should_stream_proxy() throws Exception {
+        byte[] content = new byte[2 * 1024 * 1024];
+        Arrays.fill(content, (byte) 'a');
+        server.get(by(uri("/target/file"))).response(binary(content));
+        server.post(and(by(uri("/target/post")), by("proxy"))).response("post_proxy");
+        server.streamProxy(from("/stream").to(remoteUrl("/target")));
+
+        running(server, () -> {
+            assertThat(helper.getAsBytes(remoteUrl("/stream/file")), is(content));
+            assertThat(helper.postStream(remoteUrl("/stream/post"),
+                    new ByteArrayInputStream("proxy".getBytes())), is("post_proxy"));
+            assertThat(helper.getAsBytes(remoteUrl("/stream/file")), is(content));
+        });
+    }
+
+    @Test
+    public void should_monitor_stream_proxy() throws Exception {
+        RequestHit hit = requestHit();
+        server = httpServer(port(), hit);
+        server.get(by(uri("/target/file"))).response("stream");
+        server.streamProxy(from("/stream").to(remoteUrl("/target")));
+
+        running(server, () -> {
+            assertThat(helper.get(remoteUrl("/stream/file")), is("stream"));
+            assertThat(helper.get(remoteUrl("/stream/file")), is("stream"));
+        });
+
+        hit.verify(by(uri("/stream/file")), times(2));
+        hit.verify(by(uri("/target/file")), times(2));
+    }
+
+    @Test
+    public void should_return_bad_gateway_for_unreachable_stream_proxy() throws Exception {
+        server.streamProxy(from("/stream").to("http://localhost:12305/target"));
+
+        running(server, () -> assertThat(helper.getForStatus(remoteUrl("/stream/file")), is(502)));
+    }
+
     @Test
     public void should_proxy_with_request_method() throws Exception {
         server.get(by(uri("/target"))).response("get_proxy");
@@ -181,10 +323,25 @@ public class MocoProxyTest extends AbstractMocoHttpTest {
         final File tempFile = tempFolder.newFile();
         server.request(by(uri("/proxy"))).response(proxy(remoteUrl("/target"), failover(tempFile.getAbsolutePath())));
 
+        running(server, () -> assertThat(helper.postContent(remoteUrl("/proxy"), "proxy"), is("proxy")));
+
+        assertThat(asCharSource(tempFile, Charset.defaultCharset()).read(), containsString("proxy"));
+    }
+
+    @Test
+    public void should_release_failover_store_after_server_stopped() throws Exception {
+        server.post(and(by(uri("/target")), by("proxy"))).response("proxy");
+        final File tempFile = tempFolder.newFile();
+        server.request(by(uri("/proxy"))).response(proxy(remoteUrl("/target"), failover(tempFile.getAbsolutePath())));
+        AtomicReference<FailoverStore> store = new AtomicReference<>();
+
         running(server, () -> {
             assertThat(helper.postContent(remoteUrl("/proxy"), "proxy"), is("proxy"));
-            assertThat(asCharSource(tempFile, Charset.defaultCharset()).read(), containsString("proxy"));
+            store.set(FailoverStore.of(tempFile));
         });
+
+        assertThat(FailoverStore.of(tempFile), not(sameInstance(store.get())));
+        assertThat(asCharSource(tempFile, Charset.defaultCharset()).read(), containsString("proxy"));
     }
 
     @Test
@@ -198,10 +355,11 @@ public class MocoProxyTest extends AbstractMocoHttpTest {
         running(server, () -> {
             assertThat(helper.get(remoteUrl("/proxy")), is("get_proxy"));
             assertThat(helper.postContent(remoteUrl("/proxy"), "proxy"), is("post_proxy"));
-            String failoverContent = asCharSource(tempFile, Charset.defaultCharset()).read();
-            assertThat(failoverContent, containsString("get_proxy"));
-            assertThat(failoverContent, containsString("post_proxy"));
         });
+
+        String failoverContent = asCharSource(tempFile, Charset.defaultCharset()).read();
+        assertThat(failoverContent, containsString("get_proxy"));
+        assertThat(failoverContent, containsString("post_proxy"));
     }
 
     @Test
@@ -214,8 +372,9 @@ public class MocoProxyTest extends AbstractMocoHttpTest {
         running(server, () -> {
             assertThat(helper.postContent(remoteUrl("/proxy"), "proxy"), is("0XCAFEBABE"));
             assertThat(helper.postContent(remoteUrl("/proxy"), "proxy"), is("0XCAFEBABE"));
-            assertThat(asCharSource(tempFile, Charset.defaultCharset()).read(), countString("/proxy", 1));
         });
+
+        assertThat(asCharSource(tempFile, Charset.defaultCharset()).read(), countString("/proxy", 1));
     }
 
     private Matcher<String> countString(final String substring, final int targetCount) {
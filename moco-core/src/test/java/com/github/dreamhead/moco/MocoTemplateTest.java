@@ -14,6 +14,7 @@ import org.apache.hc.core5.http.ProtocolVersion;
 import org.apache.hc.core5.http.message.BasicNameValuePair;
 import org.junit.Test;
 
+import java.io.File;
 import java.io.InputStream;
 import java.net.URL;
 import java.nio.charset.Charset;
@@ -104,6 +105,20 @@ public class MocoTemplateTest extends AbstractMocoHttpTest {
         running(server, () -> assertThat(helper.get(remoteUrl("/template")), is("GET")));
     }
 
+    @Test
+    public void should_generate_response_from_changed_file() throws Exception {
+        File templateFile = File.createTempFile("moco", ".template");
+        templateFile.deleteOnExit();
+        Files.write(templateFile.toPath(), "${req.method}".getBytes());
+        server.request(by(uri("/template"))).response(template(file(templateFile.getPath())));
+
+        running(server, () -> {
+            assertThat(helper.get(remoteUrl("/template")), is("GET"));
+            Files.write(templateFile.toPath(), "${req.uri}".getBytes());
+            assertThat(helper.get(remoteUrl("/template")), is("/template"));
+        });
+    }
+
     @Test
     public void should_generate_response_version() throws Exception {
         server.request(by(uri("/template"))).response(version(template("${req.version}")));
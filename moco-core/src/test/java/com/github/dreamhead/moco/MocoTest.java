@@ -1,5 +1,7 @@
 package com.github.dreamhead.moco;
 
+import com.github.dreamhead.moco.handler.AbstractResponseHandler;
+import com.github.dreamhead.moco.internal.SessionContext;
 import com.google.common.io.Resources;
 import com.google.common.net.HttpHeaders;
 import org.apache.hc.client5.http.HttpResponseException;
@@ -17,6 +19,8 @@ import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import static com.github.dreamhead.moco.HttpProtocolVersion.VERSION_1_0;
@@ -53,6 +57,8 @@ import static com.google.common.collect.ImmutableMultimap.of;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
 
 public class MocoTest extends AbstractMocoHttpTest {
     @Test
@@ -596,6 +602,44 @@ public class MocoTest extends AbstractMocoHttpTest {
         });
     }
 
+    @Test
+    public void should_not_block_other_request_while_waiting() throws Exception {
+        final CountDownLatch waiting = new CountDownLatch(1);
+        server.get(by(uri("/slow"))).response(new AbstractResponseHandler() {
+            @Override
+            public void writeToResponse(final SessionContext context) {
+                waiting.countDown();
+            }
+        }, latency(2, TimeUnit.SECONDS), with("slow"));
+        server.get(by(uri("/fast"))).response("fast");
+
+        System.setProperty("moco.executor.event-loop.threads", "1");
+        try {
+            running(server, () -> {
+                long start = System.currentTimeMillis();
+                CompletableFuture<String> slow = CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return helper.get(remoteUrl("/slow"));
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+                assertThat(waiting.await(1, TimeUnit.SECONDS), is(true));
+
+                for (int i = 0; i < 4; i++) {
+                    assertThat(helper.get(remoteUrl("/fast")), is("fast"));
+                }
+
+                assertThat(slow.isDone(), is(false));
+                assertThat(System.currentTimeMillis() - start, lessThan(TimeUnit.SECONDS.toMillis(2)));
+                assertThat(slow.get(), is("slow"));
+                assertThat(System.currentTimeMillis() - start, greaterThanOrEqualTo(TimeUnit.SECONDS.toMillis(2)));
+            });
+        } finally {
+            System.clearProperty("moco.executor.event-loop.threads");
+        }
+    }
+
     @Test
     public void should_return_same_http_version_without_specified_version() throws Exception {
         server.response("foobar");
@@ -39,4 +39,16 @@ public class JsonPathRequestExtractorTest {
         String[] texts = (String[]) result.get();
         assertThat(texts[0], is("100"));
     }
+
+    @Test
+    public void should_extract_once_for_same_request() {
+        JsonPathRequestExtractor unitUnderTest = new JsonPathRequestExtractor("$.book[*].price");
+        HttpRequest request = DefaultHttpRequest.builder()
+                .withStringContent("{\"book\":[{\"price\":1},{\"price\":2}]}")
+                .build();
+        Optional<Object> first = unitUnderTest.extract(request);
+        Optional<Object> second = unitUnderTest.extract(request);
+        assertThat(first.get() == second.get(), is(true));
+        assertThat(new JsonPathRequestExtractor("$.book[1].price").extract(request).get(), is("2"));
+    }
 }
@@ -0,0 +1,87 @@
+package com.github.dreamhead.moco.handler;
+
+import com.github.dreamhead.moco.HttpMethod;
+import com.github.dreamhead.moco.HttpProtocolVersion;
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.ResponseHandler;
+import com.github.dreamhead.moco.internal.SessionContext;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
+import com.github.dreamhead.moco.model.DefaultMutableHttpResponse;
+import com.google.common.collect.ImmutableMap;
+import io.netty.handler.codec.http.FullHttpResponse;
+import org.junit.Test;
+
+import static com.github.dreamhead.moco.Moco.header;
+import static com.github.dreamhead.moco.Moco.json;
+import static com.github.dreamhead.moco.Moco.status;
+import static com.github.dreamhead.moco.Moco.template;
+import static com.github.dreamhead.moco.Moco.text;
+import static com.github.dreamhead.moco.Moco.with;
+import static com.github.dreamhead.moco.handler.AndResponseHandler.and;
+import static com.github.dreamhead.moco.handler.StaticResponseHandler.staticHandler;
+import static com.github.dreamhead.moco.model.DefaultMutableHttpResponse.newResponse;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class StaticResponseHandlerTest {
+    private final HttpRequest request = DefaultHttpRequest.builder()
+            .withVersion(HttpProtocolVersion.VERSION_1_1)
+            .withMethod(HttpMethod.GET)
+            .withUri("/static")
+            .build();
+
+    @Test
+    public void should_detect_static_handler() {
+        assertThat(and(status(201), with(header("foo", "bar")), with(text("foo"))).isStatic(), is(true));
+        assertThat(with(json(ImmutableMap.of("foo", "bar"))).isStatic(), is(true));
+        assertThat(with(template("${req.uri}")).isStatic(), is(false));
+        assertThat(with(text(request -> "foo")).isStatic(), is(false));
+        assertThat(staticHandler(with(template("${req.uri}"))), not(instanceOf(StaticResponseHandler.class)));
+    }
+
+    @Test
+    public void should_write_encoded_response_for_every_request() {
+        ResponseHandler handler = staticHandler(and(status(201), with(header("foo", "bar")),
+                with(json(ImmutableMap.of("foo", "bar")))));
+
+        DefaultMutableHttpResponse first = write(handler);
+        DefaultMutableHttpResponse second = write(handler);
+        assertThat(first.getStatus(), is(201));
+        assertThat(first.getHeader("foo"), is("bar"));
+        assertThat(second.getContent(), sameInstance(first.getContent()));
+
+        FullHttpResponse firstResponse = first.toFullResponse();
+        FullHttpResponse secondResponse = second.toFullResponse();
+        assertThat(firstResponse.content().toString(UTF_8), is("{\"foo\":\"bar\"}"));
+        assertThat(firstResponse.content().isReadable(), is(true));
+        firstResponse.content().skipBytes(firstResponse.content().readableBytes());
+        assertThat(secondResponse.content().toString(UTF_8), is("{\"foo\":\"bar\"}"));
+        assertThat(secondResponse.status().code(), is(201));
+        assertThat(secondResponse.headers().get("foo"), is("bar"));
+        assertThat(secondResponse.headers().getInt("Content-Length"), is(13));
+        firstResponse.release();
+        secondResponse.release();
+    }
+
+    @Test
+    public void should_fall_back_when_response_is_changed_later() {
+        ResponseHandler handler = staticHandler(with(text("foo")));
+        DefaultMutableHttpResponse response = write(handler);
+        response.addHeader("bar", "blah");
+
+        FullHttpResponse fullResponse = response.toFullResponse();
+        assertThat(fullResponse.headers().get("bar"), is("blah"));
+        assertThat(fullResponse.content().toString(UTF_8), is("foo"));
+        fullResponse.release();
+    }
+
+    private DefaultMutableHttpResponse write(final ResponseHandler handler) {
+        DefaultMutableHttpResponse response = newResponse(request, 200);
+        handler.writeToResponse(new SessionContext(request, response));
+        return response;
+    }
+}
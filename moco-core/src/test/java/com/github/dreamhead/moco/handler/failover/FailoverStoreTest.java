@@ -0,0 +1,149 @@
+package com.github.dreamhead.moco.handler.failover;
+
+import com.github.dreamhead.moco.HttpMethod;
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
+import com.github.dreamhead.moco.model.DefaultHttpResponse;
+import com.github.dreamhead.moco.model.Session;
+import com.github.dreamhead.moco.util.Jsons;
+import com.google.common.collect.ImmutableList;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class FailoverStoreTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void should_find_session_by_method_and_uri() throws IOException {
+        File file = folder.newFile();
+        FailoverStore store = FailoverStore.of(file);
+        store.record(session(HttpMethod.GET, "/foo", "foo")).join();
+        store.record(session(HttpMethod.POST, "/foo", "post")).join();
+        store.record(session(HttpMethod.GET, "/bar", "bar")).join();
+
+        assertThat(content(store, request(HttpMethod.GET, "/foo")), is("foo"));
+        assertThat(content(store, request(HttpMethod.POST, "/foo")), is("post"));
+        assertThat(content(store, request(HttpMethod.GET, "/bar")), is("bar"));
+        assertThat(store.find(request(HttpMethod.GET, "/blah")).isPresent(), is(false));
+    }
+
+    @Test
+    public void should_keep_declaration_order_for_session_without_uri() throws IOException {
+        File file = folder.newFile();
+        Jsons.writeToFile(file, ImmutableList.of(
+                session(null, null, "any"),
+                session(HttpMethod.GET, "/foo", "foo")));
+
+        FailoverStore store = FailoverStore.of(file);
+        assertThat(content(store, request(HttpMethod.GET, "/foo")), is("any"));
+    }
+
+    @Test
+    public void should_replace_session_for_same_request() throws IOException {
+        File file = folder.newFile();
+        FailoverStore store = FailoverStore.of(file);
+        store.record(session(HttpMethod.GET, "/foo", "first")).join();
+        store.record(session(HttpMethod.GET, "/foo", "second")).join();
+
+        assertThat(content(store, request(HttpMethod.GET, "/foo")), is("second"));
+        assertThat(restore(file).size(), is(1));
+    }
+
+    @Test
+    public void should_persist_concurrent_sessions() throws IOException {
+        File file = folder.newFile();
+        FailoverStore store = FailoverStore.of(file);
+        CompletableFuture<?>[] futures = IntStream.range(0, 100)
+                .parallel()
+                .mapToObj(index -> store.record(session(HttpMethod.GET, "/foo/" + index, "foo")))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+
+        assertThat(restore(file).size(), is(100));
+    }
+
+    @Test
+    public void should_write_sessions_recorded_together_in_one_flush() throws IOException {
+        File file = folder.newFile();
+        FailoverStore store = FailoverStore.of(file);
+        CompletableFuture<Void> first = store.record(session(HttpMethod.GET, "/foo", "foo"));
+        CompletableFuture<Void> second = store.record(session(HttpMethod.GET, "/bar", "bar"));
+
+        assertThat(second, sameInstance(first));
+        second.join();
+        assertThat(restore(file).size(), is(2));
+    }
+
+    @Test
+    public void should_write_pending_sessions_when_flushed() throws IOException {
+        File file = folder.newFile();
+        FailoverStore store = FailoverStore.of(file);
+        CompletableFuture<Void> flushed = store.record(session(HttpMethod.GET, "/foo", "foo"));
+
+        FailoverStore.flushAll();
+
+        assertThat(flushed.isDone(), is(true));
+        assertThat(restore(file).size(), is(1));
+    }
+
+    @Test
+    public void should_append_sessions_recorded_in_later_flushes() throws IOException {
+        File file = folder.newFile();
+        FailoverStore store = FailoverStore.of(file);
+        store.record(session(HttpMethod.GET, "/foo", "foo")).join();
+        store.record(session(HttpMethod.GET, "/bar", "bar")).join();
+        store.record(session(HttpMethod.GET, "/blah", "blah")).join();
+
+        ImmutableList<Session> sessions = restore(file);
+        assertThat(sessions.size(), is(3));
+        assertThat(sessions.get(2).getResponse().getContent().toString(), is("blah"));
+    }
+
+    @Test
+    public void should_reload_file_changed_outside() throws IOException {
+        File file = folder.newFile();
+        FailoverStore store = FailoverStore.of(file);
+        store.record(session(HttpMethod.GET, "/foo", "foo")).join();
+
+        Jsons.writeToFile(file, ImmutableList.of(session(HttpMethod.GET, "/foo", "changed outside")));
+
+        assertThat(content(store, request(HttpMethod.GET, "/foo")), is("changed outside"));
+    }
+
+    private String content(final FailoverStore store, final HttpRequest request) {
+        return store.find(request).get().getResponse().getContent().toString();
+    }
+
+    private ImmutableList<Session> restore(final File file) throws IOException {
+        try (InputStream stream = new FileInputStream(file)) {
+            return Jsons.toObjects(stream, Session.class);
+        }
+    }
+
+    private HttpRequest request(final HttpMethod method, final String uri) {
+        return DefaultHttpRequest.builder()
+                .withMethod(method)
+                .withUri(uri)
+                .build();
+    }
+
+    private Session session(final HttpMethod method, final String uri, final String content) {
+        return Session.newSession(request(method, uri), DefaultHttpResponse.builder()
+                .withStatus(200)
+                .withStringContent(content)
+                .build());
+    }
+}
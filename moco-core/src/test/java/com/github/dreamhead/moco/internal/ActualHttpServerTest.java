@@ -15,6 +15,7 @@ import static com.github.dreamhead.moco.Moco.fileRoot;
 import static com.github.dreamhead.moco.Moco.httpServer;
 import static com.github.dreamhead.moco.Moco.httpsServer;
 import static com.github.dreamhead.moco.Moco.pathResource;
+import static com.github.dreamhead.moco.Moco.seq;
 import static com.github.dreamhead.moco.Moco.uri;
 import static com.github.dreamhead.moco.Runner.running;
 import static com.github.dreamhead.moco.helper.RemoteTestUtils.remoteHttpsUrl;
@@ -146,4 +147,22 @@ public class ActualHttpServerTest extends AbstractMocoHttpTest {
         final ActualHttpServer mergedServer = ((ActualHttpServer) anotherServer).mergeServer((ActualHttpServer) httpServer);
         assertThat(mergedServer.getPort().isPresent(), is(false));
     }
+
+    @Test
+    public void should_keep_configured_settings_while_running() throws Exception {
+        httpServer.request(by(uri("/seq"))).response(seq("first", "second"));
+        running(httpServer, () -> {
+            assertThat(helper.get(remoteUrl("/foo/seq")), is("first"));
+            assertThat(helper.get(remoteUrl("/foo/seq")), is("second"));
+        });
+    }
+
+    @Test
+    public void should_serve_setting_added_while_running() throws Exception {
+        running(httpServer, () -> {
+            assertThat(helper.get(remoteUrl("/foo/bar")), is("foo"));
+            httpServer.request(by(uri("/bar"))).response("bar");
+            assertThat(helper.get(remoteUrl("/foo/bar")), is("bar"));
+        });
+    }
 }
@@ -0,0 +1,144 @@
+package com.github.dreamhead.moco.internal;
+
+import com.github.dreamhead.moco.HttpsCertificate;
+import com.github.dreamhead.moco.helper.AnyCertificateAcceptingTrustManagerFactory;
+import com.github.dreamhead.moco.helper.MocoTestHelper;
+import com.github.dreamhead.moco.monitor.QuietMonitor;
+import com.github.dreamhead.moco.server.Http2Config;
+import com.github.dreamhead.moco.server.TransportConfig;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpVersion;
+import org.apache.hc.core5.io.CloseMode;
+import org.junit.Test;
+
+import javax.net.ssl.SSLContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.dreamhead.moco.HttpsCertificate.certificate;
+import static com.github.dreamhead.moco.Moco.by;
+import static com.github.dreamhead.moco.Moco.exist;
+import static com.github.dreamhead.moco.Moco.header;
+import static com.github.dreamhead.moco.Moco.pathResource;
+import static com.github.dreamhead.moco.Runner.running;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.httpsRoot;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.port;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.remoteUrl;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.root;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MocoHttp2Test {
+    private static final HttpsCertificate CERTIFICATE = certificate(pathResource("cert.jks"), "mocohttps", "mocohttps");
+    private static final ServerConfig HTTP2 = new ServerConfig(TransportConfig.DEFAULT_CONFIG,
+            Http2Config.DEFAULT_CONFIG);
+
+    @Test
+    public void should_serve_h2c_with_prior_knowledge() throws Exception {
+        ActualHttpServer setting = ActualHttpServer.createHttpServerWithMonitor(port(), new QuietMonitor(), HTTP2);
+        setting.response("foo");
+
+        running(setting, () -> {
+            try (CloseableHttpAsyncClient client = HttpAsyncClients.createHttp2Default()) {
+                client.start();
+                SimpleHttpResponse response = get(client, root());
+                assertThat(response.getVersion(), is(HttpVersion.HTTP_2));
+                assertThat(response.getBodyText(), is("foo"));
+            }
+        });
+    }
+
+    @Test
+    public void should_serve_http1_on_h2c_server() throws Exception {
+        ActualHttpServer setting = ActualHttpServer.createHttpServerWithMonitor(port(), new QuietMonitor(), HTTP2);
+        setting.response("foo");
+
+        running(setting, () -> assertThat(new MocoTestHelper().get(root()), is("foo")));
+    }
+
+    @Test
+    public void should_not_expose_http2_extension_headers() throws Exception {
+        ActualHttpServer setting = ActualHttpServer.createHttpServerWithMonitor(port(), new QuietMonitor(), HTTP2);
+        setting.request(exist(header("x-http2-stream-id"))).response("bar");
+        setting.response("foo");
+
+        running(setting, () -> {
+            try (CloseableHttpAsyncClient client = HttpAsyncClients.createHttp2Default()) {
+                client.start();
+                assertThat(get(client, root()).getBodyText(), is("foo"));
+            }
+        });
+    }
+
+    @Test
+    public void should_serve_concurrent_streams_on_one_connection() throws Exception {
+        ActualHttpServer setting = ActualHttpServer.createHttpServerWithMonitor(port(), new QuietMonitor(), HTTP2);
+        setting.post(by("bar")).response("foo");
+        setting.response("blah");
+
+        running(setting, () -> {
+            try (CloseableHttpAsyncClient client = HttpAsyncClients.createHttp2Default()) {
+                client.start();
+                List<Future<SimpleHttpResponse>> responses = new ArrayList<>();
+                for (int i = 0; i < 16; i++) {
+                    SimpleHttpRequest request = SimpleHttpRequest.create("POST", remoteUrl("/post"));
+                    request.setBody("bar", ContentType.TEXT_PLAIN);
+                    responses.add(client.execute(request, null));
+                }
+
+                for (Future<SimpleHttpResponse> response : responses) {
+                    assertThat(response.get(5, TimeUnit.SECONDS).getBodyText(), is("foo"));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void should_negotiate_h2_over_https() throws Exception {
+        ActualHttpServer setting = ActualHttpServer.createHttpsServer(port(), CERTIFICATE, new QuietMonitor(), HTTP2);
+        setting.response("foo");
+
+        running(setting, () -> {
+            CloseableHttpAsyncClient client = HttpAsyncClients.customHttp2()
+                    .setTlsStrategy(ClientTlsStrategyBuilder.create()
+                            .setSslContext(clientContext())
+                            .setHostnameVerifier(NoopHostnameVerifier.INSTANCE)
+                            .build())
+                    .build();
+            client.start();
+            try {
+                SimpleHttpResponse response = get(client, httpsRoot());
+                assertThat(response.getVersion(), is(HttpVersion.HTTP_2));
+                assertThat(response.getBodyText(), is("foo"));
+            } finally {
+                client.close(CloseMode.IMMEDIATE);
+            }
+        });
+    }
+
+    @Test
+    public void should_fall_back_to_http1_over_https() throws Exception {
+        ActualHttpServer setting = ActualHttpServer.createHttpsServer(port(), CERTIFICATE, new QuietMonitor(), HTTP2);
+        setting.response("foo");
+
+        running(setting, () -> assertThat(new MocoTestHelper().get(httpsRoot()), is("foo")));
+    }
+
+    private SimpleHttpResponse get(final CloseableHttpAsyncClient client, final String uri) throws Exception {
+        return client.execute(SimpleHttpRequest.create("GET", uri), null).get(5, TimeUnit.SECONDS);
+    }
+
+    private SSLContext clientContext() throws Exception {
+        SSLContext context = SSLContext.getInstance("TLS");
+        context.init(null, AnyCertificateAcceptingTrustManagerFactory.getTrustManagers(), null);
+        return context;
+    }
+}
@@ -1,9 +1,17 @@
 package com.github.dreamhead.moco.internal;
 
+import com.github.dreamhead.moco.helper.MocoTestHelper;
+import com.github.dreamhead.moco.monitor.QuietMonitor;
 import com.github.dreamhead.moco.server.ServerRunner;
+import com.github.dreamhead.moco.server.TransportConfig;
 import org.junit.Test;
 
+import java.io.IOException;
+
 import static com.github.dreamhead.moco.helper.RemoteTestUtils.port;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.root;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 
 public class MocoHttpServerTest {
     @Test
@@ -20,4 +28,38 @@ public class MocoHttpServerTest {
         serverRunner.stop();
         serverRunner.stop();
     }
+
+    @Test
+    public void should_serve_with_nio_transport() throws IOException {
+        assertResponse(TransportConfig.builder()
+                .withTransport(TransportConfig.Transport.NIO)
+                .withBacklog(128)
+                .withReceiveBufferSize(64 * 1024)
+                .withSendBufferSize(64 * 1024)
+                .build());
+    }
+
+    @Test
+    public void should_serve_with_multiple_listeners() throws IOException {
+        assertResponse(TransportConfig.builder()
+                .withListeners(4)
+                .withEdgeTriggered(false)
+                .build());
+    }
+
+    private void assertResponse(final TransportConfig config) throws IOException {
+        ActualHttpServer setting = ActualHttpServer.createHttpServerWithMonitor(port(), new QuietMonitor(),
+                new ServerConfig(config));
+        setting.response("foo");
+        ServerRunner serverRunner = new ServerRunner(new MocoHttpServer(setting));
+        serverRunner.start();
+        try {
+            MocoTestHelper helper = new MocoTestHelper();
+            for (int i = 0; i < 8; i++) {
+                assertThat(helper.get(root()), is("foo"));
+            }
+        } finally {
+            serverRunner.stop();
+        }
+    }
 }
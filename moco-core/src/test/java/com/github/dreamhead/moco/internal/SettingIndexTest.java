@@ -0,0 +1,98 @@
+package com.github.dreamhead.moco.internal;
+
+import com.github.dreamhead.moco.HttpMethod;
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.HttpResponseSetting;
+import com.github.dreamhead.moco.RequestMatcher;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
+import com.github.dreamhead.moco.setting.HttpSetting;
+import com.github.dreamhead.moco.setting.Setting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static com.github.dreamhead.moco.Moco.and;
+import static com.github.dreamhead.moco.Moco.by;
+import static com.github.dreamhead.moco.Moco.eq;
+import static com.github.dreamhead.moco.Moco.exist;
+import static com.github.dreamhead.moco.Moco.header;
+import static com.github.dreamhead.moco.Moco.match;
+import static com.github.dreamhead.moco.Moco.method;
+import static com.github.dreamhead.moco.Moco.not;
+import static com.github.dreamhead.moco.Moco.uri;
+import static com.github.dreamhead.moco.Moco.with;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SettingIndexTest {
+    @Test
+    public void should_find_setting_by_exact_uri() {
+        Setting<HttpResponseSetting> foo = setting(by(uri("/foo")));
+        Setting<HttpResponseSetting> bar = setting(by(uri("/bar")));
+        SettingIndex<HttpResponseSetting> index = new SettingIndex<>(ImmutableList.of(foo, bar));
+
+        assertThat(index.findFirst(request(HttpMethod.GET, "/bar")), is(Optional.of(bar)));
+        assertThat(index.findFirst(request(HttpMethod.GET, "/baz")), is(Optional.empty()));
+    }
+
+    @Test
+    public void should_keep_declaration_order_between_indexed_and_unindexed_settings() {
+        Setting<HttpResponseSetting> any = setting(not(by(uri("/bar"))));
+        Setting<HttpResponseSetting> foo = setting(by(uri("/foo")));
+        Setting<HttpResponseSetting> pattern = setting(match(uri("/foo.*")));
+        SettingIndex<HttpResponseSetting> index = new SettingIndex<>(ImmutableList.of(foo, any, pattern));
+
+        assertThat(index.findFirst(request(HttpMethod.GET, "/foo")), is(Optional.of(foo)));
+        assertThat(index.findFirst(request(HttpMethod.GET, "/foo/bar")), is(Optional.of(any)));
+
+        SettingIndex<HttpResponseSetting> reversed = new SettingIndex<>(ImmutableList.of(any, foo));
+        assertThat(reversed.findFirst(request(HttpMethod.GET, "/foo")), is(Optional.of(any)));
+    }
+
+    @Test
+    public void should_route_by_method_and_header() {
+        Setting<HttpResponseSetting> post = setting(and(by(uri("/foo")), by(method(HttpMethod.POST))));
+        Setting<HttpResponseSetting> withHeader = setting(and(by(uri("/foo")), exist(header("X-Token"))));
+        Setting<HttpResponseSetting> withHeaderValue = setting(eq(header("foo"), "bar"));
+        SettingIndex<HttpResponseSetting> index = new SettingIndex<>(ImmutableList.of(post, withHeader, withHeaderValue));
+
+        assertThat(index.findFirst(request(HttpMethod.POST, "/foo")), is(Optional.of(post)));
+        assertThat(index.findFirst(request(HttpMethod.GET, "/foo")), is(Optional.empty()));
+        assertThat(index.findFirst(request(HttpMethod.GET, "/foo", "x-token", "any")), is(Optional.of(withHeader)));
+        assertThat(index.findFirst(request(HttpMethod.GET, "/other", "Foo", "bar")), is(Optional.of(withHeaderValue)));
+    }
+
+    @Test
+    public void should_route_by_context_prefix() {
+        Setting<HttpResponseSetting> context = setting(InternalApis.context("/ctx"));
+        SettingIndex<HttpResponseSetting> index = new SettingIndex<>(ImmutableList.of(context));
+
+        assertThat(context.route().accepts(request(HttpMethod.GET, "/other")), is(false));
+        assertThat(index.findFirst(request(HttpMethod.GET, "/ctx")), is(Optional.of(context)));
+        assertThat(index.findFirst(request(HttpMethod.GET, "/ctx/foo")), is(Optional.of(context)));
+        assertThat(index.findFirst(request(HttpMethod.GET, "/other")), is(Optional.empty()));
+    }
+
+    private Setting<HttpResponseSetting> setting(final RequestMatcher matcher) {
+        HttpSetting setting = new HttpSetting(matcher);
+        setting.response(with("foo"));
+        return setting;
+    }
+
+    private HttpRequest request(final HttpMethod method, final String uri) {
+        return DefaultHttpRequest.builder()
+                .withMethod(method)
+                .withUri(uri)
+                .build();
+    }
+
+    private HttpRequest request(final HttpMethod method, final String uri, final String name, final String value) {
+        return DefaultHttpRequest.builder()
+                .withMethod(method)
+                .withUri(uri)
+                .withHeaders(ImmutableMap.of(name, value))
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.dreamhead.moco.matcher;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.extractor.ContentRequestExtractor;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.github.dreamhead.moco.Moco.text;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class JsonRequestMatcherTest {
+    @Test
+    public void should_match_json_content_regardless_of_field_order() {
+        JsonRequestMatcher unitUnderTest = new JsonContentRequestMatcher(text("{\"foo\":1,\"bar\":[true,\"x\"]}"),
+                new ContentRequestExtractor());
+        assertThat(unitUnderTest.match(request("{\"bar\": [true, \"x\"], \"foo\": 1}")), is(true));
+        assertThat(unitUnderTest.match(request("{\"bar\": [true, \"y\"], \"foo\": 1}")), is(false));
+        assertThat(unitUnderTest.match(request("{\"bar\": [true], \"foo\": 1}")), is(false));
+    }
+
+    @Test
+    public void should_recompile_expected_json_when_content_changes() {
+        AtomicReference<String> source = new AtomicReference<>("{\"foo\":1}");
+        JsonRequestMatcher unitUnderTest = new JsonContentRequestMatcher(text(ignored -> source.get()),
+                new ContentRequestExtractor());
+        HttpRequest request = request("{\"foo\":1}");
+        assertThat(unitUnderTest.match(request), is(true));
+
+        source.set("{\"foo\":2}");
+        assertThat(unitUnderTest.match(request), is(false));
+    }
+
+    @Test
+    public void should_match_json_struct() {
+        JsonRequestMatcher unitUnderTest = new JsonStructRequestMatcher(text("{\"foo\":1,\"bar\":[{\"name\":\"x\"}]}"),
+                new ContentRequestExtractor());
+        assertThat(unitUnderTest.match(request("{\"foo\":2,\"bar\":[{\"name\":\"y\"},{\"name\":\"z\"}]}")), is(true));
+        assertThat(unitUnderTest.match(request("{\"foo\":2,\"bar\":[]}")), is(true));
+        assertThat(unitUnderTest.match(request("{\"foo\":\"2\",\"bar\":[]}")), is(false));
+        assertThat(unitUnderTest.match(request("{\"bar\":[]}")), is(false));
+    }
+
+    private HttpRequest request(final String content) {
+        return DefaultHttpRequest.builder().withStringContent(content).build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.dreamhead.moco.matcher;
+
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.RequestExtractor;
+import com.github.dreamhead.moco.resource.Resource;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.github.dreamhead.moco.Moco.text;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MatchMatcherTest {
+    private RequestExtractor<String> extractor;
+    private HttpRequest request;
+    private AtomicReference<String> source;
+    private Resource expected;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        extractor = (RequestExtractor<String>) mock(RequestExtractor.class);
+        request = mock(HttpRequest.class);
+        source = new AtomicReference<>();
+        expected = text(ignored -> source.get());
+        when(extractor.extract(request)).thenReturn(Optional.of("/foo/bar"));
+    }
+
+    @Test
+    public void should_recompile_regex_when_content_changes() {
+        MatchMatcher<String> matcher = new MatchMatcher<>(extractor, expected);
+        source.set("/foo/.*");
+        assertThat(matcher.match(request), is(true));
+
+        source.set("/bar/.*");
+        assertThat(matcher.match(request), is(false));
+    }
+
+    @Test
+    public void should_recompile_path_when_content_changes() {
+        PathMatcher<String> matcher = new PathMatcher<>(extractor, expected);
+        source.set("/foo/{id}");
+        assertThat(matcher.match(request), is(true));
+
+        source.set("/bar/{id}");
+        assertThat(matcher.match(request), is(false));
+    }
+}
@@ -5,6 +5,13 @@ import com.github.dreamhead.moco.extractor.ContentRequestExtractor;
 import com.github.dreamhead.moco.model.DefaultHttpRequest;
 import org.junit.Test;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static com.github.dreamhead.moco.Moco.text;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -16,4 +23,42 @@ public class XmlRequestMatcherTest {
         HttpRequest request = DefaultHttpRequest.builder().withStringContent("").build();
         assertThat(unitUnderTest.match(request), is(false));
     }
+
+    @Test
+    public void should_match_xml_content_regardless_of_attribute_order() {
+        XmlRequestMatcher unitUnderTest = new XmlContentRequestMatcher(text("<request a=\"1\" b=\"2\"><id>1</id></request>"),
+                new ContentRequestExtractor());
+        assertThat(unitUnderTest.match(request("<request b=\"2\" a=\"1\">\n  <id>1</id>\n</request>")), is(true));
+        assertThat(unitUnderTest.match(request("<request a=\"1\" b=\"2\"><id>2</id></request>")), is(false));
+        assertThat(unitUnderTest.match(request("<request a=\"1\"><id>1</id></request>")), is(false));
+    }
+
+    @Test
+    public void should_match_xml_struct() {
+        XmlRequestMatcher unitUnderTest = new XmlStructRequestMatcher(text("<request><id>1</id></request>"),
+                new ContentRequestExtractor());
+        assertThat(unitUnderTest.match(request("<request><id>2</id></request>")), is(true));
+        assertThat(unitUnderTest.match(request("<request><name>2</name></request>")), is(false));
+    }
+
+    @Test
+    public void should_match_xml_content_concurrently() throws Exception {
+        XmlRequestMatcher unitUnderTest = new XmlContentRequestMatcher(text("<request><id>1</id><name>foo</name></request>"),
+                new ContentRequestExtractor());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (Future<Boolean> matched : executor.invokeAll(IntStream.range(0, 200)
+                    .mapToObj(index -> (Callable<Boolean>) () -> unitUnderTest.match(
+                            request("<request><id>1</id><name>foo</name></request>")))
+                    .collect(Collectors.toList()))) {
+                assertThat(matched.get(), is(true));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private HttpRequest request(final String content) {
+        return DefaultHttpRequest.builder().withStringContent(content).build();
+    }
 }
@@ -0,0 +1,44 @@
+package com.github.dreamhead.moco.metrics;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class LatencyHistogramTest {
+    @Test
+    public void should_return_zero_without_record() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThat(histogram.count(), is(0L));
+        assertThat(histogram.percentile(99), is(0L));
+    }
+
+    @Test
+    public void should_keep_small_values_exactly() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+
+        assertThat(histogram.count(), is(10L));
+        assertThat(histogram.sum(), is(55L));
+        assertThat(histogram.percentile(50), is(5L));
+        assertThat(histogram.percentile(100), is(10L));
+    }
+
+    @Test
+    public void should_estimate_percentile_within_bucket_precision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000);
+        }
+
+        long p99 = histogram.percentile(99);
+        assertThat(p99, greaterThanOrEqualTo(990_000L));
+        assertThat(p99, lessThanOrEqualTo(990_000L + 990_000L / 16));
+        assertThat(histogram.percentile(100), is(1_000_000L));
+        assertThat(histogram.max(), is(1_000_000L));
+    }
+}
@@ -0,0 +1,108 @@
+package com.github.dreamhead.moco.monitor;
+
+import com.github.dreamhead.moco.HttpServer;
+import com.github.dreamhead.moco.Request;
+import com.github.dreamhead.moco.helper.MocoTestHelper;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.dreamhead.moco.Moco.async;
+import static com.github.dreamhead.moco.Moco.httpServer;
+import static com.github.dreamhead.moco.Runner.running;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.port;
+import static com.github.dreamhead.moco.helper.RemoteTestUtils.root;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AsyncMonitorTest {
+    @Test
+    public void should_deliver_events_in_order() {
+        RecordingMonitor target = new RecordingMonitor(new CountDownLatch(0));
+        AsyncMonitor monitor = new AsyncMonitor(target, 4, OverflowPolicy.BLOCK);
+        for (int i = 0; i < 100; i++) {
+            monitor.onMessageArrived(request(String.valueOf(i)));
+        }
+
+        monitor.close();
+        assertThat(target.contents.size(), is(100));
+        for (int i = 0; i < 100; i++) {
+            assertThat(target.contents.get(i), is(String.valueOf(i)));
+        }
+    }
+
+    @Test
+    public void should_drop_events_when_queue_is_full() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        RecordingMonitor target = new RecordingMonitor(latch);
+        AsyncMonitor monitor = new AsyncMonitor(target, 4, OverflowPolicy.DROP);
+        for (int i = 0; i < 100; i++) {
+            monitor.onMessageArrived(request(String.valueOf(i)));
+        }
+
+        latch.countDown();
+        monitor.close();
+        assertThat(target.contents.size() < 100, is(true));
+        assertThat(target.contents.get(0), is("0"));
+    }
+
+    @Test
+    public void should_ignore_events_after_closed() {
+        RecordingMonitor target = new RecordingMonitor(new CountDownLatch(0));
+        AsyncMonitor monitor = new AsyncMonitor(target, 4, OverflowPolicy.BLOCK);
+        monitor.onMessageArrived(request("0"));
+        monitor.close();
+        monitor.onMessageArrived(request("1"));
+        monitor.close();
+
+        assertThat(target.contents.size(), is(1));
+        assertThat(target.contents.get(0), is("0"));
+    }
+
+    @Test
+    public void should_stop_monitor_thread_when_server_stops() throws Exception {
+        RecordingMonitor target = new RecordingMonitor(new CountDownLatch(0));
+        HttpServer server = httpServer(port(), async(target));
+        server.response("foo");
+
+        running(server, () -> assertThat(new MocoTestHelper().get(root()), is("foo")));
+
+        assertThat(target.contents.size(), is(1));
+        assertThat(target.thread.isAlive(), is(false));
+    }
+
+    private Request request(final String content) {
+        return DefaultHttpRequest.builder().withStringContent(content).build();
+    }
+
+    private static class RecordingMonitor extends AbstractMonitor {
+        private final List<String> contents = new CopyOnWriteArrayList<>();
+        private final CountDownLatch latch;
+        private volatile Thread thread;
+
+        RecordingMonitor(final CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void onMessageArrived(final Request request) {
+            thread = Thread.currentThread();
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            contents.add(request.getContent().toString());
+        }
+
+        @Override
+        public boolean isQuiet() {
+            return false;
+        }
+    }
+}
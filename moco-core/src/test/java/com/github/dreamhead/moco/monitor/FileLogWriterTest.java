@@ -0,0 +1,72 @@
+package com.github.dreamhead.moco.monitor;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class FileLogWriterTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void should_write_log_through_without_buffer() throws IOException {
+        File file = folder.newFile();
+        FileLogWriter writer = new FileLogWriter(file.getPath(), StandardCharsets.UTF_8);
+        writer.write("foo");
+        writer.write("bar");
+
+        assertThat(read(file), is("foobar"));
+    }
+
+    @Test
+    public void should_keep_log_in_buffer_until_flush() throws IOException {
+        File file = folder.newFile();
+        FileLogWriter writer = new FileLogWriter(file.getPath(), StandardCharsets.UTF_8,
+                LogConfig.builder().withBufferSize(1024).withFlushInterval(60_000).build());
+        writer.write("foo");
+        assertThat(read(file), is(""));
+
+        writer.flush();
+        assertThat(read(file), is("foo"));
+    }
+
+    @Test
+    public void should_flush_log_when_closed_and_reopen_on_write() throws IOException {
+        File file = folder.newFile();
+        FileLogWriter writer = new FileLogWriter(file.getPath(), StandardCharsets.UTF_8,
+                LogConfig.builder().withBufferSize(1024).withFlushInterval(60_000).build());
+        writer.write("foo");
+        writer.close();
+        assertThat(read(file), is("foo"));
+
+        writer.write("bar");
+        writer.close();
+        assertThat(read(file), is("foobar"));
+    }
+
+    @Test
+    public void should_rotate_log_by_size() throws IOException {
+        File file = folder.newFile();
+        FileLogWriter writer = new FileLogWriter(file.getPath(), StandardCharsets.UTF_8,
+                LogConfig.builder().withMaxSize(4).build());
+        writer.write("foo");
+        writer.write("bar");
+        writer.write("baz");
+
+        assertThat(read(file), is("baz"));
+        File[] segments = folder.getRoot().listFiles((dir, name) -> !name.equals(file.getName()));
+        assertThat(segments.length, is(2));
+    }
+
+    private String read(final File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,147 @@
+package com.github.dreamhead.moco.monitor;
+
+import com.github.dreamhead.moco.HttpMethod;
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.Request;
+import com.github.dreamhead.moco.UnexpectedRequestMatcher;
+import com.github.dreamhead.moco.VerificationException;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
+import com.google.common.collect.ImmutableList;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.github.dreamhead.moco.Moco.and;
+import static com.github.dreamhead.moco.Moco.by;
+import static com.github.dreamhead.moco.Moco.method;
+import static com.github.dreamhead.moco.Moco.uri;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class RequestJournalTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void should_keep_all_requests_by_default() {
+        RequestJournal journal = new RequestJournal(0, 0, null);
+        for (int i = 0; i < 10000; i++) {
+            journal.append(request(HttpMethod.GET, i % 2 == 0 ? "/foo" : "/bar"));
+        }
+
+        assertThat(uris(journal.candidates(by(uri("/foo")))).size(), is(5000));
+        assertThat(uris(journal.candidates(new UnexpectedRequestMatcher())).size(), is(10000));
+    }
+
+    @Test(expected = VerificationException.class)
+    public void should_fail_to_verify_if_requests_were_dropped() {
+        RequestJournal journal = new RequestJournal(2, 0, null);
+        journal.append(request(HttpMethod.GET, "/foo"));
+        journal.append(request(HttpMethod.GET, "/bar"));
+        journal.append(request(HttpMethod.POST, "/foo"));
+
+        journal.candidates(by(uri("/foo")));
+    }
+
+    @Test
+    public void should_verify_requests_still_kept_after_others_were_dropped() {
+        RequestJournal journal = new RequestJournal(2, 0, null);
+        journal.append(request(HttpMethod.GET, "/foo"));
+        journal.append(request(HttpMethod.GET, "/bar"));
+        journal.append(request(HttpMethod.POST, "/blah"));
+
+        assertThat(uris(journal.candidates(by(uri("/bar")))), is(ImmutableList.of("/bar")));
+        assertThat(uris(journal.candidates(by(method("post")))), is(ImmutableList.of("/blah")));
+    }
+
+    @Test
+    public void should_only_return_candidates_from_index() {
+        RequestJournal journal = new RequestJournal(16, 0, null);
+        journal.append(request(HttpMethod.GET, "/foo"));
+        journal.append(request(HttpMethod.POST, "/bar"));
+        journal.append(request(HttpMethod.GET, "/foo"));
+
+        assertThat(uris(journal.candidates(by(uri("/foo")))), is(ImmutableList.of("/foo", "/foo")));
+        assertThat(uris(journal.candidates(by(method("post")))), is(ImmutableList.of("/bar")));
+        assertThat(uris(journal.candidates(by(uri("/blah")))), is(ImmutableList.of()));
+    }
+
+    @Test
+    public void should_spill_evicted_requests() throws IOException {
+        RequestJournal journal = new RequestJournal(1, 0, folder.newFile().getPath());
+        journal.append(request(HttpMethod.GET, "/foo"));
+        journal.append(request(HttpMethod.GET, "/bar"));
+        journal.append(request(HttpMethod.GET, "/foo"));
+
+        assertThat(uris(journal.candidates(by(uri("/foo")))), is(ImmutableList.of("/foo", "/foo")));
+        assertThat(uris(journal.candidates(new UnexpectedRequestMatcher())).size(), is(3));
+    }
+
+    @Test
+    public void should_read_spilled_requests_after_closed() throws IOException {
+        RequestJournal journal = new RequestJournal(1, 0, folder.newFile().getPath());
+        journal.append(request(HttpMethod.GET, "/foo"));
+        journal.append(request(HttpMethod.GET, "/bar"));
+        journal.close();
+        journal.append(request(HttpMethod.GET, "/foo"));
+
+        assertThat(uris(journal.candidates(by(uri("/foo")))), is(ImmutableList.of("/foo", "/foo")));
+    }
+
+    @Test
+    public void should_skip_spilled_segments_which_do_not_match() throws IOException {
+        RequestJournal journal = new RequestJournal(1, 0, folder.newFile().getPath());
+        for (int i = 0; i < 10000; i++) {
+            journal.append(request(HttpMethod.GET, i < 5000 ? "/foo" : "/bar"));
+        }
+        journal.append(request(HttpMethod.POST, "/foo"));
+
+        assertThat(uris(journal.candidates(by(uri("/foo")))).size(), is(5001));
+        assertThat(uris(journal.candidates(by(method("post")))), is(ImmutableList.of("/foo")));
+        assertThat(uris(journal.candidates(and(by(method("get")), by(uri("/bar"))))).size(), is(5000));
+    }
+
+    @Test
+    public void should_keep_concurrent_requests() throws Exception {
+        RequestJournal journal = new RequestJournal(64, 0, folder.newFile().getPath());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        journal.append(request(HttpMethod.GET, "/foo"));
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(uris(journal.candidates(by(uri("/foo")))).size(), is(8000));
+    }
+
+    private HttpRequest request(final HttpMethod method, final String uri) {
+        return DefaultHttpRequest.builder().withMethod(method).withUri(uri).build();
+    }
+
+    private ImmutableList<String> uris(final Iterable<Request> requests) {
+        ImmutableList.Builder<String> builder = ImmutableList.builder();
+        for (Request request : requests) {
+            builder.add(((HttpRequest) request).getUri());
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.dreamhead.moco.recorder;
+
+import com.github.dreamhead.moco.HttpMethod;
+import com.github.dreamhead.moco.HttpRequest;
+import com.github.dreamhead.moco.model.DefaultHttpRequest;
+import com.github.dreamhead.moco.util.Jsons;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+public class RecorderTapeTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void should_write_one_record_per_line() throws IOException {
+        File file = folder.newFile();
+        RecorderTape tape = new RecorderTape(file.getPath(), FsyncPolicy.ALWAYS);
+        tape.write("foo", request("foo"));
+        tape.write("bar", request("bar"));
+
+        List<String> lines = Files.readAllLines(file.toPath());
+        assertThat(lines.size(), is(2));
+        assertThat(tape.read("foo").getContent().toString(), is("foo"));
+        assertThat(tape.read("bar").getContent().toString(), is("bar"));
+        assertThat(tape.read("blah"), nullValue());
+    }
+
+    @Test
+    public void should_read_latest_record_after_reopen() throws IOException {
+        File file = folder.newFile();
+        RecorderTape tape = new RecorderTape(file.getPath());
+        tape.write("foo", request("first"));
+        tape.write("foo", request("second"));
+
+        Files.write(file.toPath(), "{\"name\":\"torn".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        RecorderTape reopened = new RecorderTape(file.getPath());
+        assertThat(reopened.read("foo").getContent().toString(), is("second"));
+
+        reopened.write("bar", request("bar"));
+        assertThat(Files.readAllLines(file.toPath()).size(), is(3));
+        assertThat(reopened.read("bar").getContent().toString(), is("bar"));
+    }
+
+    @Test
+    public void should_not_append_same_record() throws IOException {
+        File file = folder.newFile();
+        RecorderTape tape = new RecorderTape(file.getPath());
+        tape.write("foo", request("foo"));
+        tape.write("foo", request("foo"));
+
+        assertThat(Files.readAllLines(file.toPath()).size(), is(1));
+    }
+
+    @Test
+    public void should_compact_overwritten_records() throws IOException {
+        File file = folder.newFile();
+        RecorderTape tape = new RecorderTape(file.getPath());
+        for (int i = 0; i < 2000; i++) {
+            tape.write("foo", request("foo" + i));
+        }
+
+        assertThat(Files.readAllLines(file.toPath()).size(), lessThan(1000));
+        assertThat(tape.read("foo").getContent().toString(), is("foo1999"));
+    }
+
+    @Test
+    public void should_convert_legacy_tape() throws IOException {
+        File file = folder.newFile();
+        Jsons.writeToFile(file, new TapeContent(ImmutableMap.of("foo", request("foo"))));
+
+        RecorderTape tape = new RecorderTape(file.getPath());
+        assertThat(tape.read("foo").getContent().toString(), is("foo"));
+
+        tape.write("bar", request("bar"));
+        assertThat(Files.readAllLines(file.toPath()).size(), is(2));
+        assertThat(tape.read("foo").getContent().toString(), is("foo"));
+        assertThat(tape.read("bar").getContent().toString(), is("bar"));
+    }
+
+    private HttpRequest request(final String content) {
+        return DefaultHttpRequest.builder()
+                .withMethod(HttpMethod.POST)
+                .withUri("/record")
+                .withStringContent(content)
+                .build();
+    }
+}
@@ -1,15 +1,25 @@
 package com.github.dreamhead.moco.resource.reader;
 
 import com.github.dreamhead.moco.Request;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
 
 import static com.github.dreamhead.moco.Moco.text;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public class FileResourceReaderTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void should_return_class_path_file_content() {
         FileResourceReader reader = new FileResourceReader(text(new File("src/test/resources/foo.response").getPath()));
@@ -21,4 +31,45 @@ public class FileResourceReaderTest {
         FileResourceReader reader = new FileResourceReader(text(new File("src/test/resources/unknown.response").getPath()));
         reader.readFor((Request) null);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void should_reuse_cached_content() throws IOException {
+        File file = folder.newFile();
+        Files.write(file.toPath(), "foo".getBytes(UTF_8));
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(System.currentTimeMillis() - 10_000));
+
+        FileContent first = FileContents.read(file.toPath());
+        FileContent second = FileContents.read(file.toPath());
+        assertThat(second, sameInstance(first));
+        assertThat(second.toMessageContent().toString(), is("foo"));
+    }
+
+    @Test
+    public void should_read_file_rewritten_with_same_length_and_time() throws IOException {
+        File file = folder.newFile();
+        Files.write(file.toPath(), "foo".getBytes(UTF_8));
+        FileTime lastModified = Files.getLastModifiedTime(file.toPath());
+        FileResourceReader reader = new FileResourceReader(text(file.getPath()));
+        assertThat(reader.readFor((Request) null).toString(), is("foo"));
+
+        Files.write(file.toPath(), "bar".getBytes(UTF_8));
+        Files.setLastModifiedTime(file.toPath(), lastModified);
+        assertThat(reader.readFor((Request) null).toString(), is("bar"));
+    }
+
+    @Test
+    public void should_read_changed_file() throws IOException {
+        File file = folder.newFile();
+        Files.write(file.toPath(), "foo".getBytes(UTF_8));
+        FileResourceReader reader = new FileResourceReader(text(file.getPath()));
+        assertThat(reader.readFor((Request) null).toString(), is("foo"));
+
+        Files.write(file.toPath(), "foobar".getBytes(UTF_8));
+        assertThat(reader.readFor((Request) null).toString(), is("foobar"));
+
+        FileTime lastModified = Files.getLastModifiedTime(file.toPath());
+        Files.write(file.toPath(), "barfoo".getBytes(UTF_8));
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(lastModified.toMillis() + 1000));
+        assertThat(reader.readFor((Request) null).toString(), is("barfoo"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.dreamhead.moco.util;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class BoundedScheduledExecutorTest {
+    private BoundedScheduledExecutor executor;
+
+    @Before
+    public void setUp() {
+        executor = new BoundedScheduledExecutor(1, Executors.defaultThreadFactory(), 2);
+        executor.setRemoveOnCancelPolicy(true);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void should_reject_execute_beyond_queue_limit() {
+        executor.schedule(() -> { }, 1, TimeUnit.HOURS);
+        executor.schedule(() -> { }, 1, TimeUnit.HOURS);
+
+        executor.execute(() -> { });
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void should_reject_submit_beyond_queue_limit() {
+        executor.scheduleAtFixedRate(() -> { }, 1, 1, TimeUnit.HOURS);
+        executor.schedule(() -> "foo", 1, TimeUnit.HOURS);
+
+        executor.submit(() -> "bar");
+    }
+
+    @Test
+    public void should_accept_task_after_cancel() throws Exception {
+        ScheduledFuture<?> future = executor.schedule(() -> { }, 1, TimeUnit.HOURS);
+        executor.schedule(() -> { }, 1, TimeUnit.HOURS);
+
+        future.cancel(false);
+
+        assertThat(executor.submit(() -> "foo").get(1, TimeUnit.SECONDS), is("foo"));
+        assertThat(executor.getQueue().size(), is(1));
+    }
+
+    @Test
+    public void should_accept_task_after_completion() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertThat(executor.submit(() -> "foo").get(1, TimeUnit.SECONDS), is("foo"));
+        }
+    }
+}
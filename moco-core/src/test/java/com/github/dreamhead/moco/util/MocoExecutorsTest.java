@@ -0,0 +1,36 @@
+package com.github.dreamhead.moco.util;
+
+import com.github.dreamhead.moco.metrics.MocoMetrics;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MocoExecutorsTest {
+    @Test
+    public void should_run_io_task_in_named_thread() throws Exception {
+        String name = MocoExecutors.io().submit(() -> Thread.currentThread().getName()).get(1, TimeUnit.SECONDS);
+        assertThat(name, startsWith("moco-io-"));
+    }
+
+    @Test
+    public void should_run_delayed_task_in_scheduler() throws Exception {
+        String name = MocoExecutors.scheduler().schedule(() -> Thread.currentThread().getName(),
+                10, TimeUnit.MILLISECONDS).get(1, TimeUnit.SECONDS);
+        assertThat(name, startsWith("moco-scheduler-"));
+    }
+
+    @Test
+    public void should_expose_executor_metrics() {
+        MocoExecutors.io();
+        MocoExecutors.scheduler();
+
+        String metrics = MocoMetrics.toPrometheus();
+        assertThat(metrics, containsString("moco_executor_active_threads{executor=\"io\"}"));
+        assertThat(metrics, containsString("moco_executor_queued_tasks{executor=\"scheduler\"}"));
+        assertThat(metrics, containsString("moco_executor_rejected_total{executor=\"io\"} 0"));
+    }
+}
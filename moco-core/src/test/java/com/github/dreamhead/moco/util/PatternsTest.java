@@ -0,0 +1,19 @@
+package com.github.dreamhead.moco.util;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class PatternsTest {
+    @Test
+    public void should_get_literal_prefix() {
+        assertThat(Patterns.literalPrefix("/foo/.*"), is("/foo/"));
+        assertThat(Patterns.literalPrefix("/foo"), is("/foo"));
+        assertThat(Patterns.literalPrefix("/foo?"), is("/fo"));
+        assertThat(Patterns.literalPrefix("/foo+"), is("/foo"));
+        assertThat(Patterns.literalPrefix("/a{2}"), is("/"));
+        assertThat(Patterns.literalPrefix("(?i)/foo"), is(""));
+        assertThat(Patterns.literalPrefix("/foo|/bar"), is(""));
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.dreamhead.moco.bootstrap;
+
+import com.github.dreamhead.moco.Moco;
+import com.github.dreamhead.moco.MocoMonitor;
+import com.github.dreamhead.moco.monitor.LogConfig;
+import com.github.dreamhead.moco.util.Suppliers;
+
+import java.util.function.Supplier;
+
+public final class LogArg {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String filename;
+    private final long maxSize;
+    private final long rotationInterval;
+    private final boolean gzip;
+    private final Supplier<MocoMonitor> monitor = Suppliers.memoize(this::createMonitor);
+
+    public LogArg(final String filename, final long maxSize, final long rotationInterval, final boolean gzip) {
+        this.filename = filename;
+        this.maxSize = maxSize;
+        this.rotationInterval = rotationInterval;
+        this.gzip = gzip;
+    }
+
+    public MocoMonitor getMonitor() {
+        return monitor.get();
+    }
+
+    private MocoMonitor createMonitor() {
+        return Moco.log(filename, LogConfig.builder()
+                .withBufferSize(BUFFER_SIZE)
+                .withMaxSize(maxSize)
+                .withRotationInterval(rotationInterval)
+                .withGzip(gzip)
+                .build());
+    }
+}
@@ -1,12 +1,17 @@
 package com.github.dreamhead.moco.bootstrap.arg;
 
+import com.github.dreamhead.moco.bootstrap.LogArg;
 import com.github.dreamhead.moco.bootstrap.ServerType;
+import com.github.dreamhead.moco.server.Http2Config;
+import com.github.dreamhead.moco.server.TransportConfig;
 
 public final class HttpArgs extends StartArgs {
     private HttpArgs(final Integer port, final Integer shutdownPort,
                      final String configurationFile, final String globalSettings,
-                     final String env, boolean quiet) {
-        super(ServerType.HTTP, port, shutdownPort, configurationFile, globalSettings, env, quiet, null);
+                     final String env, final boolean quiet, final LogArg logArg,
+                     final TransportConfig transportConfig, final Http2Config http2Config) {
+        super(ServerType.HTTP, port, shutdownPort, configurationFile, globalSettings, env, quiet, null, logArg,
+                transportConfig, http2Config);
     }
 
     public static Builder httpArgs() {
@@ -20,6 +25,9 @@ public final class HttpArgs extends StartArgs {
         private String settings;
         private String env;
         private boolean quiet;
+        private LogArg logArg;
+        private TransportConfig transportConfig;
+        private Http2Config http2Config;
 
         public final Builder withPort(final Integer port) {
             this.port = port;
@@ -51,8 +59,24 @@ public final class HttpArgs extends StartArgs {
             return this;
         }
 
+        public final Builder withLogArg(final LogArg logArg) {
+            this.logArg = logArg;
+            return this;
+        }
+
+        public final Builder withTransportConfig(final TransportConfig transportConfig) {
+            this.transportConfig = transportConfig;
+            return this;
+        }
+
+        public final Builder withHttp2Config(final Http2Config http2Config) {
+            this.http2Config = http2Config;
+            return this;
+        }
+
         public final HttpArgs build() {
-            return new HttpArgs(port, shutdownPort, configurationFile, settings, env, quiet);
+            return new HttpArgs(port, shutdownPort, configurationFile, settings, env, quiet, logArg,
+                    transportConfig, http2Config);
         }
     }
 }
@@ -1,12 +1,17 @@
 package com.github.dreamhead.moco.bootstrap.arg;
 
 import com.github.dreamhead.moco.bootstrap.HttpsArg;
+import com.github.dreamhead.moco.bootstrap.LogArg;
 import com.github.dreamhead.moco.bootstrap.ServerType;
+import com.github.dreamhead.moco.server.Http2Config;
+import com.github.dreamhead.moco.server.TransportConfig;
 
 public final class HttpsArgs extends StartArgs {
     private HttpsArgs(final Integer port, final Integer shutdownPort, final String configurationFile,
-                        final String globalSettings, final String env, final boolean quiet, final HttpsArg httpsArg) {
-        super(ServerType.HTTPS, port, shutdownPort, configurationFile, globalSettings, env, quiet, httpsArg);
+                        final String globalSettings, final String env, final boolean quiet, final HttpsArg httpsArg,
+                        final LogArg logArg, final TransportConfig transportConfig, final Http2Config http2Config) {
+        super(ServerType.HTTPS, port, shutdownPort, configurationFile, globalSettings, env, quiet, httpsArg, logArg,
+                transportConfig, http2Config);
     }
 
     public static Builder httpsArgs() {
@@ -21,6 +26,9 @@ public final class HttpsArgs extends StartArgs {
         private String env;
         private HttpsArg httpsArg;
         private boolean quiet;
+        private LogArg logArg;
+        private TransportConfig transportConfig;
+        private Http2Config http2Config;
 
         public final Builder withPort(final Integer port) {
             this.port = port;
@@ -57,8 +65,24 @@ public final class HttpsArgs extends StartArgs {
             return this;
         }
 
+        public final Builder withLogArg(final LogArg logArg) {
+            this.logArg = logArg;
+            return this;
+        }
+
+        public final Builder withTransportConfig(final TransportConfig transportConfig) {
+            this.transportConfig = transportConfig;
+            return this;
+        }
+
+        public final Builder withHttp2Config(final Http2Config http2Config) {
+            this.http2Config = http2Config;
+            return this;
+        }
+
         public final HttpsArgs build() {
-            return new HttpsArgs(port, shutdownPort, configurationFile, settings, env, quiet, httpsArg);
+            return new HttpsArgs(port, shutdownPort, configurationFile, settings, env, quiet, httpsArg, logArg,
+                    transportConfig, http2Config);
         }
     }
 }
@@ -1,9 +1,13 @@
 package com.github.dreamhead.moco.bootstrap.arg;
 
 import com.github.dreamhead.moco.HttpsCertificate;
+import com.github.dreamhead.moco.MocoMonitor;
 import com.github.dreamhead.moco.bootstrap.HttpsArg;
+import com.github.dreamhead.moco.bootstrap.LogArg;
 import com.github.dreamhead.moco.bootstrap.ServerType;
 import com.github.dreamhead.moco.bootstrap.ShutdownPortOption;
+import com.github.dreamhead.moco.server.Http2Config;
+import com.github.dreamhead.moco.server.TransportConfig;
 
 import java.util.Optional;
 
@@ -18,12 +22,18 @@ public abstract class StartArgs extends ShutdownPortOption {
     private final Optional<String> env;
     private final boolean quiet;
     private final Optional<HttpsArg> httpsArg;
+    private final Optional<LogArg> logArg;
+    private final TransportConfig transportConfig;
+    private final Http2Config http2Config;
 
     protected StartArgs(final ServerType type, final Integer port, final Integer shutdownPort,
                         final String configurationFile, final String globalSettings,
                         final String env,
                         final boolean quiet,
-                        final HttpsArg httpsArg) {
+                        final HttpsArg httpsArg,
+                        final LogArg logArg,
+                        final TransportConfig transportConfig,
+                        final Http2Config http2Config) {
         super(shutdownPort);
         this.type = type;
         this.port = ofNullable(port);
@@ -32,6 +42,9 @@ public abstract class StartArgs extends ShutdownPortOption {
         this.env = ofNullable(env);
         this.quiet = quiet;
         this.httpsArg = ofNullable(httpsArg);
+        this.logArg = ofNullable(logArg);
+        this.transportConfig = ofNullable(transportConfig).orElse(TransportConfig.DEFAULT_CONFIG);
+        this.http2Config = ofNullable(http2Config).orElse(Http2Config.DISABLED);
     }
 
     public final Optional<Integer> getPort() {
@@ -62,6 +75,18 @@ public abstract class StartArgs extends ShutdownPortOption {
         return httpsArg.map(HttpsArg::getCertificate);
     }
 
+    public final Optional<MocoMonitor> getLogMonitor() {
+        return logArg.map(LogArg::getMonitor);
+    }
+
+    public final TransportConfig getTransportConfig() {
+        return transportConfig;
+    }
+
+    public final Http2Config getHttp2Config() {
+        return http2Config;
+    }
+
     public static String help() {
         String separator = System.getProperty("line.separator");
         return "Moco Options:" + separator + "moco [server type] -p port -c [configuration file]" + separator + separator + "server type: http, https, socket";
@@ -41,6 +41,9 @@ public final class HttpArgsParser extends StartArgsParser {
                 .withSettings(globalSettings)
                 .withEnv(env)
                 .withQuiet(quiet)
+                .withLogArg(logArg(cmd))
+                .withTransportConfig(transportConfig(cmd))
+                .withHttp2Config(http2Config(cmd))
                 .build();
     }
 
@@ -53,6 +56,12 @@ public final class HttpArgsParser extends StartArgsParser {
         options.addOption(settingsOption());
         options.addOption(envOption());
         options.addOption(logOption());
+        options.addOption(logFile());
+        options.addOption(logMaxSize());
+        options.addOption(logRotation());
+        options.addOption(logGzip());
+        addTransportOptions(options);
+        addHttp2Options(options);
         return options;
     }
 }
@@ -43,6 +43,9 @@ public final class HttpsArgsParser extends StartArgsParser {
                 .withEnv(env)
                 .withHttpsArg(httpsArg(cmd))
                 .withQuiet(quiet)
+                .withLogArg(logArg(cmd))
+                .withTransportConfig(transportConfig(cmd))
+                .withHttp2Config(http2Config(cmd))
                 .build();
     }
 
@@ -72,6 +75,12 @@ public final class HttpsArgsParser extends StartArgsParser {
         options.addOption(httpsCertificate());
         options.addOption(keyStore());
         options.addOption(cert());
+        options.addOption(logFile());
+        options.addOption(logMaxSize());
+        options.addOption(logRotation());
+        options.addOption(logGzip());
+        addTransportOptions(options);
+        addHttp2Options(options);
         return options;
     }
 }
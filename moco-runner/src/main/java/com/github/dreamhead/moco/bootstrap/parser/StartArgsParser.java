@@ -1,7 +1,11 @@
 package com.github.dreamhead.moco.bootstrap.parser;
 
+import com.github.dreamhead.moco.bootstrap.LogArg;
 import com.github.dreamhead.moco.bootstrap.ParseArgException;
 import com.github.dreamhead.moco.bootstrap.arg.StartArgs;
+import com.github.dreamhead.moco.server.Http2Config;
+import com.github.dreamhead.moco.server.TransportConfig;
+import com.google.common.collect.ImmutableMap;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -9,7 +13,14 @@ import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 public abstract class StartArgsParser {
+    private static final Pattern NUMBER_WITH_UNIT = Pattern.compile("(\\d+)\\s*([a-zA-Z]*)");
+
     protected abstract Options options();
     protected abstract StartArgs parseArgs(CommandLine cmd);
 
@@ -83,6 +94,189 @@ public abstract class StartArgsParser {
         return option;
     }
 
+    protected final Option logFile() {
+        Option option = new Option(null, "log", true, "Log filename");
+        option.setType(String.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option logMaxSize() {
+        Option option = new Option(null, "log-max-size", true, "Rotate log when it exceeds size, e.g. 100MB");
+        option.setType(String.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option logRotation() {
+        Option option = new Option(null, "log-rotation", true, "Rotate log after interval, e.g. 1h or 1d");
+        option.setType(String.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final Option logGzip() {
+        Option option = new Option(null, "log-gzip", false, "Compress rotated log");
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final LogArg logArg(final CommandLine cmd) {
+        String log = cmd.getOptionValue("log");
+        String maxSize = cmd.getOptionValue("log-max-size");
+        String rotation = cmd.getOptionValue("log-rotation");
+        boolean gzip = cmd.hasOption("log-gzip");
+        if (log == null) {
+            if (maxSize != null || rotation != null || gzip) {
+                throw new ParseArgException("log file must be set for log rotation");
+            }
+
+            return null;
+        }
+
+        return new LogArg(log, toSize(maxSize), toInterval(rotation), gzip);
+    }
+
+    protected final void addTransportOptions(final Options options) {
+        options.addOption(valueOption("transport", "Transport: auto, nio or epoll"));
+        options.addOption(valueOption("listeners", "Listeners bound with SO_REUSEPORT, epoll only"));
+        options.addOption(valueOption("backlog", "Accept backlog"));
+        options.addOption(valueOption("rcvbuf", "Socket receive buffer size"));
+        options.addOption(valueOption("sndbuf", "Socket send buffer size"));
+        options.addOption(valueOption("epoll-mode", "Epoll mode: edge or level"));
+
+        Option noDelay = new Option(null, "no-tcp-nodelay", false, "Disable TCP_NODELAY");
+        noDelay.setRequired(false);
+        options.addOption(noDelay);
+    }
+
+    protected final void addHttp2Options(final Options options) {
+        Option http2 = new Option(null, "http2", false, "Enable HTTP/2, h2 over https and h2c over http");
+        http2.setRequired(false);
+        options.addOption(http2);
+        options.addOption(valueOption("max-concurrent-streams", "HTTP/2 max concurrent streams per connection"));
+        options.addOption(valueOption("initial-window-size", "HTTP/2 initial stream window size"));
+        options.addOption(valueOption("connection-window-size", "HTTP/2 connection window size"));
+    }
+
+    private static Option valueOption(final String name, final String description) {
+        Option option = new Option(null, name, true, description);
+        option.setType(String.class);
+        option.setRequired(false);
+        return option;
+    }
+
+    protected final TransportConfig transportConfig(final CommandLine cmd) {
+        try {
+            TransportConfig.Builder builder = TransportConfig.builder()
+                    .withTcpNoDelay(!cmd.hasOption("no-tcp-nodelay"));
+            String transport = cmd.getOptionValue("transport");
+            if (transport != null) {
+                builder.withTransport(TransportConfig.Transport.valueOf(transport.toUpperCase(Locale.ROOT)));
+            }
+
+            String listeners = cmd.getOptionValue("listeners");
+            if (listeners != null) {
+                builder.withListeners(Integer.parseInt(listeners));
+            }
+
+            String backlog = cmd.getOptionValue("backlog");
+            if (backlog != null) {
+                builder.withBacklog(Integer.parseInt(backlog));
+            }
+
+            String receiveBuffer = cmd.getOptionValue("rcvbuf");
+            if (receiveBuffer != null) {
+                builder.withReceiveBufferSize(Integer.parseInt(receiveBuffer));
+            }
+
+            String sendBuffer = cmd.getOptionValue("sndbuf");
+            if (sendBuffer != null) {
+                builder.withSendBufferSize(Integer.parseInt(sendBuffer));
+            }
+
+            String epollMode = cmd.getOptionValue("epoll-mode");
+            if (epollMode != null) {
+                builder.withEdgeTriggered(toEdgeTriggered(epollMode));
+            }
+
+            return builder.build();
+        } catch (IllegalArgumentException e) {
+            throw new ParseArgException("invalid transport option", e);
+        }
+    }
+
+    protected final Http2Config http2Config(final CommandLine cmd) {
+        String maxConcurrentStreams = cmd.getOptionValue("max-concurrent-streams");
+        String initialWindowSize = cmd.getOptionValue("initial-window-size");
+        String connectionWindowSize = cmd.getOptionValue("connection-window-size");
+        if (!cmd.hasOption("http2")) {
+            if (maxConcurrentStreams != null || initialWindowSize != null || connectionWindowSize != null) {
+                throw new ParseArgException("http2 must be enabled for http2 options");
+            }
+
+            return Http2Config.DISABLED;
+        }
+
+        try {
+            Http2Config.Builder builder = Http2Config.builder();
+            if (maxConcurrentStreams != null) {
+                builder.withMaxConcurrentStreams(Long.parseLong(maxConcurrentStreams));
+            }
+
+            if (initialWindowSize != null) {
+                builder.withInitialWindowSize(Integer.parseInt(initialWindowSize));
+            }
+
+            if (connectionWindowSize != null) {
+                builder.withConnectionWindowSize(Integer.parseInt(connectionWindowSize));
+            }
+
+            return builder.build();
+        } catch (IllegalArgumentException e) {
+            throw new ParseArgException("invalid http2 option", e);
+        }
+    }
+
+    private static boolean toEdgeTriggered(final String mode) {
+        if ("edge".equalsIgnoreCase(mode)) {
+            return true;
+        }
+
+        if ("level".equalsIgnoreCase(mode)) {
+            return false;
+        }
+
+        throw new IllegalArgumentException("unknown epoll mode " + mode);
+    }
+
+    private static long toSize(final String size) {
+        return toNumber(size, "size", ImmutableMap.of("", 1L, "kb", 1024L, "mb", 1024L * 1024, "gb", 1024L * 1024 * 1024));
+    }
+
+    private static long toInterval(final String interval) {
+        return toNumber(interval, "interval", ImmutableMap.of("s", TimeUnit.SECONDS.toMillis(1),
+                "m", TimeUnit.MINUTES.toMillis(1),
+                "h", TimeUnit.HOURS.toMillis(1),
+                "d", TimeUnit.DAYS.toMillis(1)));
+    }
+
+    private static long toNumber(final String text, final String name, final ImmutableMap<String, Long> units) {
+        if (text == null) {
+            return 0;
+        }
+
+        Matcher matcher = NUMBER_WITH_UNIT.matcher(text.trim());
+        if (matcher.matches()) {
+            Long unit = units.get(matcher.group(2).toLowerCase());
+            if (unit != null) {
+                return Long.parseLong(matcher.group(1)) * unit;
+            }
+        }
+
+        throw new ParseArgException("unknown log " + name + ": " + text);
+    }
+
     public static Integer getPort(final String port) {
         if (port == null) {
             return null;
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.github.dreamhead.moco.parser.model.FailoverContainer;
 import com.github.dreamhead.moco.parser.model.ProxyContainer;
+import com.github.dreamhead.moco.parser.model.ProxyPoolContainer;
 import com.github.dreamhead.moco.parser.model.TextContainer;
 
 import java.io.IOException;
@@ -38,6 +39,8 @@ public final class ProxyContainerDeserializer extends JsonDeserializer<ProxyCont
 
         private FailoverContainer failover;
         private FailoverContainer playback;
+        private ProxyPoolContainer pool;
+        private boolean async;
 
         public ProxyContainer toProxyContainer() {
             return builder()
@@ -46,6 +49,8 @@ public final class ProxyContainerDeserializer extends JsonDeserializer<ProxyCont
                     .withTo(to)
                     .withFailover(failover)
                     .withPlayback(playback)
+                    .withPool(pool)
+                    .withAsync(async)
                     .build();
         }
     }
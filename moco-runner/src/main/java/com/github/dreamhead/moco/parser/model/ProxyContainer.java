@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.github.dreamhead.moco.Moco;
 import com.github.dreamhead.moco.ResponseHandler;
 import com.github.dreamhead.moco.handler.failover.Failover;
+import com.github.dreamhead.moco.handler.proxy.ProxyClientConfig;
 import com.github.dreamhead.moco.handler.proxy.ProxyConfig;
 import com.github.dreamhead.moco.parser.deserializer.ProxyContainerDeserializer;
 import com.google.common.base.MoreObjects;
@@ -18,6 +19,8 @@ public class ProxyContainer {
 
     private FailoverContainer failover;
     private FailoverContainer playback;
+    private ProxyPoolContainer pool;
+    private boolean async;
 
     public final boolean hasUrl() {
         return url != null;
@@ -32,6 +35,8 @@ public class ProxyContainer {
                 .add("to", this.to)
                 .add("failover", this.failover)
                 .add("playback", this.playback)
+                .add("pool", this.pool)
+                .add("async", this.async)
                 .toString();
     }
 
@@ -51,6 +56,15 @@ public class ProxyContainer {
         return Failover.DEFAULT_FAILOVER;
     }
 
+    public final ProxyClientConfig getClientConfig() {
+        ProxyClientConfig.Builder builder = ProxyClientConfig.builder();
+        if (pool != null) {
+            pool.configure(builder);
+        }
+
+        return builder.withAsync(async).build();
+    }
+
     public final ProxyConfig getProxyConfig() {
         return from(from).to(to);
     }
@@ -61,18 +75,21 @@ public class ProxyContainer {
 
     public final ResponseHandler asResponseHandler() {
         Failover failover = getFailover();
+        ProxyClientConfig clientConfig = getClientConfig();
 
         if (hasProxyConfig()) {
-            return Moco.proxy(getProxyConfig(), failover);
+            return Moco.proxy(getProxyConfig(), failover, clientConfig);
         }
 
-        return Moco.proxy(url.asResource(), failover);
+        return Moco.proxy(url.asResource(), failover, clientConfig);
     }
 
     public static class Builder {
         private TextContainer url;
         private FailoverContainer failover;
         private FailoverContainer playback;
+        private ProxyPoolContainer pool;
+        private boolean async;
 
         private String from;
         private String to;
@@ -107,6 +124,16 @@ public class ProxyContainer {
             return this;
         }
 
+        public final Builder withPool(final ProxyPoolContainer pool) {
+            this.pool = pool;
+            return this;
+        }
+
+        public final Builder withAsync(final boolean async) {
+            this.async = async;
+            return this;
+        }
+
         public final ProxyContainer build() {
             if (this.url != null && (this.from != null || this.to != null)) {
                 throw new IllegalArgumentException("Proxy cannot be set in multiple mode");
@@ -122,6 +149,8 @@ public class ProxyContainer {
             container.to = to;
             container.failover = failover;
             container.playback = playback;
+            container.pool = pool;
+            container.async = async;
             return container;
         }
     }
@@ -0,0 +1,63 @@
+package com.github.dreamhead.moco.parser.model;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.dreamhead.moco.handler.proxy.ProxyClientConfig;
+import com.google.common.base.MoreObjects;
+
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+public final class ProxyPoolContainer {
+    @JsonProperty("max_per_route")
+    private Integer maxPerRoute;
+    @JsonProperty("max_total")
+    private Integer maxTotal;
+    @JsonProperty("idle_timeout")
+    private Long idleTimeout;
+    @JsonProperty("connect_timeout")
+    private Long connectTimeout;
+    @JsonProperty("response_timeout")
+    private Long responseTimeout;
+    @JsonProperty("trust_all")
+    private Boolean trustAll;
+
+    public ProxyClientConfig.Builder configure(final ProxyClientConfig.Builder builder) {
+        if (maxPerRoute != null) {
+            builder.withMaxPerRoute(maxPerRoute);
+        }
+
+        if (maxTotal != null) {
+            builder.withMaxTotal(maxTotal);
+        }
+
+        if (idleTimeout != null) {
+            builder.withIdleTimeout(idleTimeout);
+        }
+
+        if (connectTimeout != null) {
+            builder.withConnectTimeout(connectTimeout);
+        }
+
+        if (responseTimeout != null) {
+            builder.withResponseTimeout(responseTimeout);
+        }
+
+        if (trustAll != null) {
+            builder.withTrustAll(trustAll);
+        }
+
+        return builder;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .omitNullValues()
+                .add("maxPerRoute", maxPerRoute)
+                .add("maxTotal", maxTotal)
+                .add("idleTimeout", idleTimeout)
+                .add("connectTimeout", connectTimeout)
+                .add("responseTimeout", responseTimeout)
+                .add("trustAll", trustAll)
+                .toString();
+    }
+}
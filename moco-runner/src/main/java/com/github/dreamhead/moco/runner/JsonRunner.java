@@ -2,11 +2,13 @@ package com.github.dreamhead.moco.runner;
 
 import com.github.dreamhead.moco.HttpServer;
 import com.github.dreamhead.moco.MocoConfig;
+import com.github.dreamhead.moco.MocoMonitor;
 import com.github.dreamhead.moco.Server;
 import com.github.dreamhead.moco.SocketServer;
 import com.github.dreamhead.moco.bootstrap.arg.StartArgs;
 import com.github.dreamhead.moco.internal.ActualHttpServer;
 import com.github.dreamhead.moco.internal.ActualSocketServer;
+import com.github.dreamhead.moco.internal.ServerConfig;
 import com.github.dreamhead.moco.parser.HttpServerParser;
 import com.github.dreamhead.moco.parser.SocketServerParser;
 import com.google.common.collect.ImmutableList;
@@ -14,6 +16,7 @@ import com.google.common.net.HttpHeaders;
 import com.google.common.net.MediaType;
 
 import java.io.InputStream;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -94,12 +97,20 @@ public final class JsonRunner implements Runner {
 
     private HttpServer createHttpServer(final StartArgs startArgs) {
         final int port = startArgs.getPort().orElse(0);
+        Optional<MocoMonitor> logMonitor = startArgs.getLogMonitor();
+
+        ServerConfig serverConfig = new ServerConfig(startArgs.getTransportConfig(),
+                startArgs.getHttp2Config());
 
         if (startArgs.isHttps()) {
-            return ActualHttpServer.createHttpsServer(port, startArgs.isQuiet(), startArgs.getHttpsCertificate().get());
+            return logMonitor.map(monitor -> ActualHttpServer.createHttpsServer(port,
+                            startArgs.getHttpsCertificate().get(), monitor, serverConfig))
+                    .orElseGet(() -> ActualHttpServer.createHttpsServer(port, startArgs.isQuiet(),
+                            startArgs.getHttpsCertificate().get(), serverConfig));
         }
 
-        return ActualHttpServer.createHttpServer(port, startArgs.isQuiet());
+        return logMonitor.map(monitor -> ActualHttpServer.createHttpServerWithMonitor(port, monitor, serverConfig))
+                .orElseGet(() -> ActualHttpServer.createHttpServer(port, startArgs.isQuiet(), serverConfig));
     }
 
     private MocoConfig[] toConfigs(final RunnerSetting setting) {
@@ -19,8 +19,8 @@ import java.nio.file.WatchService;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -34,7 +34,6 @@ public final class WatcherService {
     private static Logger logger = LoggerFactory.getLogger(WatcherService.class);
     private static final long REGISTER_INTERVAL = 1000;
 
-    private ExecutorService executor = MocoExecutors.executor();
     private WatchService service;
     private boolean running;
     private Multimap<WatchKey, Path> keys = HashMultimap.create();
@@ -54,13 +53,19 @@ public final class WatcherService {
     private void doStart() throws IOException {
         this.service = FileSystems.getDefault().newWatchService();
         this.running = true;
-        result = executor.submit(() -> {
-            while (running) {
-                loop();
-            }
+        try {
+            result = MocoExecutors.watcher().submit(() -> {
+                while (running) {
+                    loop();
+                }
 
-            doStop();
-        });
+                doStop();
+            });
+        } catch (RejectedExecutionException e) {
+            this.running = false;
+            this.service.close();
+            throw new MocoException("Too many file watchers, please increase moco.executor.watcher.threads", e);
+        }
     }
 
     private void doStop() {
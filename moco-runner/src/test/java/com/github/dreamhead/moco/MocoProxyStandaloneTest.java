@@ -16,6 +16,20 @@ public class MocoProxyStandaloneTest extends AbstractMocoStandaloneTest {
         assertThat(content, is("proxy_target"));
     }
 
+    @Test
+    public void should_response_with_pooled_proxy() throws IOException {
+        runWithConfiguration("proxy.json");
+        for (int i = 0; i < 5; i++) {
+            assertThat(helper.get(remoteUrl("/pooled-proxy")), is("proxy_target"));
+        }
+    }
+
+    @Test
+    public void should_response_with_async_proxy() throws IOException {
+        runWithConfiguration("proxy.json");
+        assertThat(helper.get(remoteUrl("/async-proxy")), is("proxy_target"));
+    }
+
     @Test
     public void should_failover() throws IOException {
         runWithConfiguration("proxy.json");
@@ -4,10 +4,13 @@ import com.github.dreamhead.moco.bootstrap.arg.StartArgs;
 import com.github.dreamhead.moco.bootstrap.parser.HttpArgsParser;
 import com.github.dreamhead.moco.bootstrap.parser.SocketArgsParser;
 import com.github.dreamhead.moco.bootstrap.parser.StartArgsParser;
+import com.github.dreamhead.moco.server.Http2Config;
+import com.github.dreamhead.moco.server.TransportConfig;
 import org.junit.Before;
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public class StartArgsTest {
@@ -70,4 +73,65 @@ public class StartArgsTest {
         StartArgs args = new SocketArgsParser().parse(new String[]{"start", "-c", "foo.json"});
         assertThat(args.isSocket(), is(true));
     }
+
+    @Test
+    public void should_parse_log() {
+        StartArgs args = startArgsParser.parse(new String[]{"start", "-c", "foo.json", "--log", "moco.log",
+                "--log-max-size", "100MB", "--log-rotation", "1d", "--log-gzip"});
+        assertThat(args.getLogMonitor().isPresent(), is(true));
+        assertThat(args.getLogMonitor().get(), sameInstance(args.getLogMonitor().get()));
+    }
+
+    @Test(expected = ParseArgException.class)
+    public void should_not_set_log_rotation_without_log() {
+        startArgsParser.parse(new String[]{"start", "-c", "foo.json", "--log-max-size", "100MB"});
+    }
+
+    @Test(expected = ParseArgException.class)
+    public void should_not_parse_unknown_log_size() {
+        startArgsParser.parse(new String[]{"start", "-c", "foo.json", "--log", "moco.log", "--log-max-size", "100XB"});
+    }
+
+    @Test
+    public void should_parse_transport_options() {
+        StartArgs args = startArgsParser.parse(new String[]{"start", "-c", "foo.json", "--transport", "nio",
+                "--listeners", "4", "--backlog", "1024", "--rcvbuf", "65536", "--sndbuf", "65536",
+                "--epoll-mode", "level", "--no-tcp-nodelay"});
+        TransportConfig config = args.getTransportConfig();
+        assertThat(config.getTransport(), is(TransportConfig.Transport.NIO));
+        assertThat(config.getListeners(), is(4));
+        assertThat(config.getBacklog(), is(1024));
+        assertThat(config.getReceiveBufferSize(), is(65536));
+        assertThat(config.getSendBufferSize(), is(65536));
+        assertThat(config.isEdgeTriggered(), is(false));
+        assertThat(config.isTcpNoDelay(), is(false));
+    }
+
+    @Test(expected = ParseArgException.class)
+    public void should_not_parse_unknown_transport() {
+        startArgsParser.parse(new String[]{"start", "-c", "foo.json", "--transport", "kqueue"});
+    }
+
+    @Test
+    public void should_parse_http2_options() {
+        StartArgs args = startArgsParser.parse(new String[]{"start", "-c", "foo.json", "--http2",
+                "--max-concurrent-streams", "100", "--initial-window-size", "1048576",
+                "--connection-window-size", "4194304"});
+        Http2Config config = args.getHttp2Config();
+        assertThat(config.isEnabled(), is(true));
+        assertThat(config.getMaxConcurrentStreams(), is(100L));
+        assertThat(config.getInitialWindowSize(), is(1048576));
+        assertThat(config.getConnectionWindowSize(), is(4194304));
+    }
+
+    @Test
+    public void should_disable_http2_by_default() {
+        StartArgs args = startArgsParser.parse(new String[]{"start", "-c", "foo.json"});
+        assertThat(args.getHttp2Config().isEnabled(), is(false));
+    }
+
+    @Test(expected = ParseArgException.class)
+    public void should_not_parse_http2_options_without_http2() {
+        startArgsParser.parse(new String[]{"start", "-c", "foo.json", "--max-concurrent-streams", "100"});
+    }
 }